@@ -0,0 +1,108 @@
+package com.smallworldfs.transactionservice.benchmark;
+
+import com.smallworldfs.transactionservice.transaction.business.compliance.ComplianceLimitsHolder;
+import com.smallworldfs.transactionservice.transaction.business.compliance.OpenTransactionsValidator;
+import com.smallworldfs.transactionservice.transaction.business.compliance.SenderExposureCache;
+import com.smallworldfs.transactionservice.transaction.business.compliance.SenderLedger;
+import com.smallworldfs.transactionservice.transaction.business.compliance.SenderSnapshotLoader;
+import com.smallworldfs.transactionservice.transaction.business.compliance.SenderTransacionsValidator;
+import com.smallworldfs.transactionservice.transaction.business.compliance.TransactionAmountValidator;
+import com.smallworldfs.transactionservice.transaction.business.compliance.TransactionFeeValidator;
+import com.smallworldfs.transactionservice.transaction.business.compliance.TransactionValidationEngine;
+import com.smallworldfs.transactionservice.transaction.business.pricing.Pricing;
+import com.smallworldfs.transactionservice.transaction.client.CreateTransactionCoalescer;
+import com.smallworldfs.transactionservice.transaction.client.TransactionDataServiceClient;
+import com.smallworldfs.transactionservice.transaction.client.TransactionReader;
+import com.smallworldfs.transactionservice.transaction.concurrent.BlockingTaskExecutors;
+import com.smallworldfs.transactionservice.transaction.concurrent.SenderLocks;
+import com.smallworldfs.transactionservice.transaction.entity.Transaction;
+import com.smallworldfs.transactionservice.transaction.properties.CacheProperties;
+import com.smallworldfs.transactionservice.transaction.properties.CoalescingProperties;
+import com.smallworldfs.transactionservice.transaction.properties.ComplianceProperties;
+import com.smallworldfs.transactionservice.transaction.properties.LedgerProperties;
+import com.smallworldfs.transactionservice.transaction.properties.LimitsProperties;
+import com.smallworldfs.transactionservice.transaction.properties.LookupProperties;
+import com.smallworldfs.transactionservice.transaction.properties.PricingProperties;
+import com.smallworldfs.transactionservice.transaction.properties.ThreadingProperties;
+import com.smallworldfs.transactionservice.transaction.properties.TransactionProperties;
+import com.smallworldfs.transactionservice.transaction.properties.WriteBehindProperties;
+import com.smallworldfs.transactionservice.transaction.service.TransactionService;
+import com.smallworldfs.transactionservice.transaction.writebehind.TransactionWriteBehind;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link TransactionService#createTransaction(Transaction)} end to end against an in-memory transaction-data-service.
+ * The sender exposure cache and ledger are disabled, otherwise the write-through would soon push the sender over its
+ * limits; every create therefore pays for a sender snapshot load.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CreateTransactionBenchmark {
+
+    private SenderSnapshotLoader snapshotLoader;
+    private TransactionReader reader;
+    private TransactionService service;
+
+    @Setup
+    public void setUp() {
+        TransactionProperties properties = new TransactionProperties();
+        CacheProperties cacheProperties = new CacheProperties();
+        cacheProperties.getSenderExposure().setEnabled(false);
+        LedgerProperties ledgerProperties = new LedgerProperties();
+        ledgerProperties.setEnabled(false);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        BlockingTaskExecutors executors = new BlockingTaskExecutors(new ThreadingProperties());
+        TransactionDataServiceClient client = new StubTransactionDataServiceClient(
+                List.of(Transactions.newTransaction(1), Transactions.newTransaction(2)), Collections.emptyList());
+        Pricing pricing = new Pricing(new PricingProperties());
+
+        ComplianceLimitsHolder limitsHolder = new ComplianceLimitsHolder(properties, new LimitsProperties());
+        SenderLedger ledger = new SenderLedger(ledgerProperties, limitsHolder, Clock.systemUTC(), meterRegistry);
+        reader = new TransactionReader(client, new LookupProperties(), cacheProperties, meterRegistry, executors);
+        TransactionWriteBehind writeBehind = new TransactionWriteBehind(new WriteBehindProperties(),
+                new CoalescingProperties(), client, reader, meterRegistry);
+        snapshotLoader = new SenderSnapshotLoader(client, properties, new ComplianceProperties(), ledger, writeBehind,
+                executors);
+        SenderExposureCache exposureCache =
+                new SenderExposureCache(snapshotLoader, ledger, cacheProperties, meterRegistry);
+        TransactionValidationEngine engine = new TransactionValidationEngine(List.of(
+                new TransactionAmountValidator(),
+                new TransactionFeeValidator(pricing),
+                new SenderTransacionsValidator(),
+                new OpenTransactionsValidator()), exposureCache, limitsHolder, meterRegistry);
+        service = new TransactionService(
+                new CreateTransactionCoalescer(new CoalescingProperties(), client, meterRegistry), reader, pricing,
+                engine, exposureCache, new LookupProperties(),
+                new SenderLocks(new ComplianceProperties(), meterRegistry), writeBehind, meterRegistry);
+    }
+
+    @TearDown
+    public void tearDown() {
+        snapshotLoader.destroy();
+        reader.destroy();
+    }
+
+    @Benchmark
+    public Transaction createTransaction() {
+        return service.createTransaction(Transactions.newTransactionRequest());
+    }
+}
@@ -0,0 +1,109 @@
+package com.smallworldfs.transactionservice.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smallworldfs.transactionservice.transaction.client.HttpTransports;
+import com.smallworldfs.transactionservice.transaction.client.TransactionDataServiceClient;
+import com.smallworldfs.transactionservice.transaction.entity.Transaction;
+import com.smallworldfs.transactionservice.transaction.properties.HttpClientProperties;
+import com.sun.net.httpserver.HttpServer;
+import feign.Client;
+import feign.Feign;
+import feign.Request;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+
+/**
+ * {@link TransactionDataServiceClient#getTransaction(Integer)} over loopback HTTP with Feign's default
+ * {@code HttpURLConnection} transport and with the pooled Apache HttpClient 5 one, from 16 threads. The JDK server
+ * only speaks HTTP/1.1, so the HTTP/2 transport is not compared here.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(16)
+@Fork(1)
+public class HttpTransportBenchmark {
+
+    private static final byte[] TRANSACTION = """
+            {"transactionId": 1, "sendingPrincipal": 100.0, "payoutPrincipal": 98.0, "fees": 2.0,
+             "commission": 1.6, "agentCommission": 0.4, "senderId": 3, "beneficiaryId": 4, "status": "NEW"}
+            """.getBytes(StandardCharsets.UTF_8);
+
+    @Param({"default", "pooled"})
+    public String transport;
+
+    private HttpServer server;
+    private ExecutorService serverThreads;
+    private CloseableHttpClient httpClient;
+    private TransactionDataServiceClient client;
+
+    @Setup
+    public void setUp() throws IOException {
+        serverThreads = Executors.newFixedThreadPool(32);
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        server.createContext("/transactions/", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, TRANSACTION.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(TRANSACTION);
+            }
+        });
+        server.setExecutor(serverThreads);
+        server.start();
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        client = Feign.builder()
+                .client(transport())
+                .contract(new SpringMvcContract())
+                .decoder((response, type) -> objectMapper.readValue(response.body().asInputStream(),
+                        objectMapper.constructType(type)))
+                .options(new Request.Options(1, TimeUnit.SECONDS, 5, TimeUnit.SECONDS, true))
+                .target(TransactionDataServiceClient.class,
+                        "http://127.0.0.1:" + server.getAddress().getPort());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        if (httpClient != null) {
+            httpClient.close();
+        }
+        server.stop(0);
+        serverThreads.shutdownNow();
+    }
+
+    @Benchmark
+    public Transaction getTransaction() {
+        return client.getTransaction(1);
+    }
+
+    private Client transport() {
+        if (transport.equals("default")) {
+            return new Client.Default(null, null);
+        }
+        HttpClientProperties properties = new HttpClientProperties();
+        httpClient = HttpTransports.httpClient(HttpTransports.connectionManager(properties), properties);
+        return HttpTransports.pooled(httpClient);
+    }
+}
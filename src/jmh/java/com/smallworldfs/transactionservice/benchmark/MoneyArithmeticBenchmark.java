@@ -0,0 +1,86 @@
+package com.smallworldfs.transactionservice.benchmark;
+
+import com.smallworldfs.transactionservice.transaction.money.Money;
+import com.smallworldfs.transactionservice.transaction.money.Rate;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Fee, commission and period limit arithmetic on the former boxed {@code Double} amounts against {@code long} minor
+ * units. Run with {@code -prof gc} to compare allocations as well.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MoneyArithmeticBenchmark {
+
+    private static final int PERIOD_TRANSACTIONS = 200;
+
+    private final Double boxedSendingPrincipal = 100.0;
+    private final Double boxedPayoutPrincipal = 98.0;
+    private final Double boxedAgentCommission = 0.2;
+    private final Double boxedMaxTransactionByPeriod = 5000.0;
+    private final Double[] boxedPeriodAmounts = new Double[PERIOD_TRANSACTIONS];
+
+    private final long sendingPrincipal = 10000;
+    private final long payoutPrincipal = 9800;
+    private final Rate agentCommission = Rate.valueOf("0.2");
+    private final Money maxTransactionByPeriod = Money.valueOf("5000");
+    private final long[] periodAmounts = new long[PERIOD_TRANSACTIONS];
+
+    public MoneyArithmeticBenchmark() {
+        for (int i = 0; i < PERIOD_TRANSACTIONS; i++) {
+            boxedPeriodAmounts[i] = 24.99;
+            periodAmounts[i] = 2499;
+        }
+    }
+
+    @Benchmark
+    public void boxedDoublePricing(Blackhole blackhole) {
+        Double fees = boxedSendingPrincipal - boxedPayoutPrincipal;
+        Double agent = fees * boxedAgentCommission;
+        Double commission = fees - agent;
+        blackhole.consume(fees);
+        blackhole.consume(agent);
+        blackhole.consume(commission);
+    }
+
+    @Benchmark
+    public void minorUnitsPricing(Blackhole blackhole) {
+        long fees = sendingPrincipal - payoutPrincipal;
+        long agent = agentCommission.applyTo(fees);
+        blackhole.consume(fees);
+        blackhole.consume(agent);
+        blackhole.consume(fees - agent);
+    }
+
+    @Benchmark
+    public boolean boxedDoublePeriodLimit() {
+        Double sum = 0.0;
+        for (Double amount : boxedPeriodAmounts) {
+            sum += amount;
+        }
+        return sum + boxedSendingPrincipal > boxedMaxTransactionByPeriod;
+    }
+
+    @Benchmark
+    public boolean minorUnitsPeriodLimit() {
+        long sum = 0;
+        for (long amount : periodAmounts) {
+            sum += amount;
+        }
+        return sum + sendingPrincipal > maxTransactionByPeriod.getMinorUnits();
+    }
+}
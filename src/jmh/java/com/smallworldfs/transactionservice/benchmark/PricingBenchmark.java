@@ -0,0 +1,48 @@
+package com.smallworldfs.transactionservice.benchmark;
+
+import com.smallworldfs.transactionservice.transaction.business.compliance.ComplianceLimits;
+import com.smallworldfs.transactionservice.transaction.business.compliance.ValidationContext;
+import com.smallworldfs.transactionservice.transaction.business.pricing.Pricing;
+import com.smallworldfs.transactionservice.transaction.entity.Transaction;
+import com.smallworldfs.transactionservice.transaction.properties.PricingProperties;
+import com.smallworldfs.transactionservice.transaction.properties.TransactionProperties;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PricingBenchmark {
+
+    private final Pricing pricing = new Pricing(new PricingProperties());
+    private final ComplianceLimits limits = ComplianceLimits.of(new TransactionProperties());
+    private final Transaction transaction = Transactions.newTransactionRequest();
+    private final List<Transaction> batch = IntStream.range(0, 50)
+            .mapToObj(index -> Transactions.newTransactionRequest())
+            .toList();
+
+    @Benchmark
+    public Transaction setCalculatedFields() {
+        pricing.setCalculatedFields(transaction, limits);
+        return transaction;
+    }
+
+    @Benchmark
+    public List<Transaction> priceBatch() {
+        pricing.price(batch, ValidationContext.of(limits, null));
+        return batch;
+    }
+}
@@ -0,0 +1,75 @@
+package com.smallworldfs.transactionservice.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smallworldfs.transactionservice.transaction.client.TransactionSummaryDecoder;
+import com.smallworldfs.transactionservice.transaction.entity.Transaction;
+import com.smallworldfs.transactionservice.transaction.entity.TransactionSummary;
+import feign.Request;
+import feign.Response;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Period sum of a sender history: Jackson binding to {@code List<Transaction>} and summing, as the client used to,
+ * against the streaming {@link TransactionSummaryDecoder}. Run with {@code -prof gc} to compare allocation per call.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SenderHistoryDecodingBenchmark {
+
+    private static final TypeReference<List<Transaction>> TRANSACTIONS = new TypeReference<>() {
+    };
+    private static final Request REQUEST = Request.create(Request.HttpMethod.GET,
+            "http://localhost/transactions/senderId=3&days=30", Map.of(), null, StandardCharsets.UTF_8, null);
+
+    @Param({"10", "5000"})
+    public int transactions;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final TransactionSummaryDecoder decoder = new TransactionSummaryDecoder((response, type) -> null);
+    private byte[] body;
+
+    @Setup
+    public void setUp() {
+        body = IntStream.range(0, transactions)
+                .mapToObj(id -> """
+                        {"transactionId": %d, "sendingPrincipal": 100.25, "payoutPrincipal": 98.25, "fees": 2.0,
+                         "commission": 1.6, "agentCommission": 0.4, "senderId": 3, "beneficiaryId": 4,
+                         "status": "PAY_OUT"}""".formatted(id))
+                .collect(Collectors.joining(",", "[", "]"))
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public long bindTransactions() throws IOException {
+        List<Transaction> history = objectMapper.readValue(body, TRANSACTIONS);
+        return history.stream().mapToLong(Transaction::getSendingPrincipal).reduce(0, Math::addExact);
+    }
+
+    @Benchmark
+    public long streamSummary() throws IOException {
+        Response response = Response.builder().status(200).request(REQUEST).headers(Map.of()).body(body).build();
+        return ((TransactionSummary) decoder.decode(response, TransactionSummary.class)).getSendingPrincipal();
+    }
+}
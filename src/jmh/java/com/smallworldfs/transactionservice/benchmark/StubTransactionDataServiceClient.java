@@ -0,0 +1,63 @@
+package com.smallworldfs.transactionservice.benchmark;
+
+import com.smallworldfs.transactionservice.transaction.client.TransactionDataServiceClient;
+import com.smallworldfs.transactionservice.transaction.entity.Transaction;
+import com.smallworldfs.transactionservice.transaction.entity.TransactionStatus;
+import com.smallworldfs.transactionservice.transaction.entity.TransactionSummary;
+import java.util.List;
+
+/**
+ * In-memory transaction-data-service, so benchmarks measure this service's own work rather than the network.
+ */
+class StubTransactionDataServiceClient implements TransactionDataServiceClient {
+
+    private final List<Transaction> periodTransactions;
+    private final List<Transaction> openTransactions;
+
+    StubTransactionDataServiceClient(List<Transaction> periodTransactions, List<Transaction> openTransactions) {
+        this.periodTransactions = periodTransactions;
+        this.openTransactions = openTransactions;
+    }
+
+    @Override
+    public Transaction getTransaction(Integer id) {
+        return Transactions.newTransaction(id);
+    }
+
+    @Override
+    public Transaction createTransaction(Transaction transaction) {
+        transaction.setTransactionId(1);
+        return transaction;
+    }
+
+    @Override
+    public List<Transaction> createTransactions(List<Transaction> transactions) {
+        transactions.forEach(this::createTransaction);
+        return transactions;
+    }
+
+    @Override
+    public List<Transaction> getOpenTransactionsByUser(int userId, TransactionStatus status) {
+        return openTransactions;
+    }
+
+    @Override
+    public List<Transaction> getTransactionsBySenderIdWithPeriod(int senderId, int lastDays) {
+        return periodTransactions;
+    }
+
+    @Override
+    public TransactionSummary summarizeOpenTransactionsByUser(int userId, TransactionStatus status) {
+        return summarize(openTransactions);
+    }
+
+    @Override
+    public TransactionSummary summarizeTransactionsBySenderIdWithPeriod(int senderId, int lastDays) {
+        return summarize(periodTransactions);
+    }
+
+    private static TransactionSummary summarize(List<Transaction> transactions) {
+        return new TransactionSummary(transactions.size(),
+                transactions.stream().mapToLong(Transaction::getSendingPrincipal).sum());
+    }
+}
@@ -0,0 +1,32 @@
+package com.smallworldfs.transactionservice.benchmark;
+
+import com.smallworldfs.transactionservice.transaction.api.mapper.TransactionDtoMapper;
+import com.smallworldfs.transactionservice.transaction.api.model.TransactionDto;
+import java.util.concurrent.TimeUnit;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransactionDtoMapperBenchmark {
+
+    private final TransactionDtoMapper mapper = Mappers.getMapper(TransactionDtoMapper.class);
+    private final TransactionDto transactionDto = Transactions.newTransactionDto();
+
+    @Benchmark
+    public TransactionDto roundTrip() {
+        return mapper.toDto(mapper.toModel(transactionDto));
+    }
+}
@@ -0,0 +1,43 @@
+package com.smallworldfs.transactionservice.benchmark;
+
+import com.smallworldfs.transactionservice.transaction.api.model.TransactionDto;
+import com.smallworldfs.transactionservice.transaction.entity.Transaction;
+import com.smallworldfs.transactionservice.transaction.entity.TransactionStatus;
+
+final class Transactions {
+
+    private Transactions() {
+    }
+
+    static Transaction newTransaction(int id) {
+        return Transaction.builder()
+                .transactionId(id)
+                .sendingPrincipal(10000L)
+                .payoutPrincipal(9800L)
+                .fees(200)
+                .commission(160)
+                .agentCommission(40)
+                .senderId(3)
+                .beneficiaryId(4)
+                .status(TransactionStatus.NEW)
+                .build();
+    }
+
+    static Transaction newTransactionRequest() {
+        return Transaction.builder()
+                .sendingPrincipal(10000L)
+                .payoutPrincipal(9800L)
+                .senderId(3)
+                .beneficiaryId(4)
+                .build();
+    }
+
+    static TransactionDto newTransactionDto() {
+        return TransactionDto.builder()
+                .sendingPrincipal(10000L)
+                .payoutPrincipal(9800L)
+                .senderId(3)
+                .beneficiaryId(4)
+                .build();
+    }
+}
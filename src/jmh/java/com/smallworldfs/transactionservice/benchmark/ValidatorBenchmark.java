@@ -0,0 +1,68 @@
+package com.smallworldfs.transactionservice.benchmark;
+
+import com.smallworldfs.transactionservice.transaction.business.compliance.ComplianceLimits;
+import com.smallworldfs.transactionservice.transaction.business.compliance.OpenTransactionsValidator;
+import com.smallworldfs.transactionservice.transaction.business.compliance.SenderSnapshot;
+import com.smallworldfs.transactionservice.transaction.business.compliance.SenderTransacionsValidator;
+import com.smallworldfs.transactionservice.transaction.business.compliance.TransactionAmountValidator;
+import com.smallworldfs.transactionservice.transaction.business.compliance.TransactionFeeValidator;
+import com.smallworldfs.transactionservice.transaction.business.compliance.ValidationContext;
+import com.smallworldfs.transactionservice.transaction.business.pricing.Pricing;
+import com.smallworldfs.transactionservice.transaction.entity.Transaction;
+import com.smallworldfs.transactionservice.transaction.properties.PricingProperties;
+import com.smallworldfs.transactionservice.transaction.properties.TransactionProperties;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Each validator on its own, against a transaction that passes it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValidatorBenchmark {
+
+    private final TransactionAmountValidator amountValidator = new TransactionAmountValidator();
+    private final TransactionFeeValidator feeValidator =
+            new TransactionFeeValidator(new Pricing(new PricingProperties()));
+    private final SenderTransacionsValidator senderValidator = new SenderTransacionsValidator();
+    private final OpenTransactionsValidator openValidator = new OpenTransactionsValidator();
+    private final Transaction transaction = Transactions.newTransactionRequest();
+    private final ValidationContext context = ValidationContext.of(
+            ComplianceLimits.of(new TransactionProperties()), new SenderSnapshot(3, 100000, 2));
+
+    @Benchmark
+    public ValidationContext transactionAmount() {
+        amountValidator.validate(transaction, context);
+        return context;
+    }
+
+    @Benchmark
+    public ValidationContext transactionFee() {
+        feeValidator.validate(transaction, context);
+        return context;
+    }
+
+    @Benchmark
+    public ValidationContext senderTransactions() {
+        senderValidator.validate(transaction, context);
+        return context;
+    }
+
+    @Benchmark
+    public ValidationContext openTransactions() {
+        openValidator.validate(transaction, context);
+        return context;
+    }
+}
@@ -0,0 +1,67 @@
+package com.smallworldfs.transactionservice.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.smallworldfs.transactionservice.transaction.entity.Transaction;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Encode and decode cost of a transaction-data-service list response in JSON and in CBOR. The payload size of each
+ * format is printed once per trial.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WireFormatBenchmark {
+
+    private static final TypeReference<List<Transaction>> TRANSACTIONS = new TypeReference<>() {
+    };
+
+    @Param({"json", "cbor"})
+    public String format;
+
+    @Param({"1", "100"})
+    public int transactions;
+
+    private ObjectMapper objectMapper;
+    private List<Transaction> history;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        Jackson2ObjectMapperBuilder builder = new Jackson2ObjectMapperBuilder();
+        objectMapper = format.equals("cbor") ? builder.factory(new CBORFactory()).build() : builder.build();
+        history = IntStream.rangeClosed(1, transactions).mapToObj(Transactions::newTransaction).toList();
+        payload = objectMapper.writeValueAsBytes(history);
+        System.out.printf("%n%s payload of %d transactions: %d bytes%n", format, transactions, payload.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return objectMapper.writeValueAsBytes(history);
+    }
+
+    @Benchmark
+    public List<Transaction> decode() throws IOException {
+        return objectMapper.readValue(payload, TRANSACTIONS);
+    }
+}
@@ -0,0 +1,69 @@
+package com.smallworldfs.transactionservice.transaction.api;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+import com.smallworldfs.error.model.ErrorDto;
+import com.smallworldfs.transactionservice.transaction.api.mapper.TransactionDtoMapper;
+import com.smallworldfs.transactionservice.transaction.api.model.TransactionDto;
+import com.smallworldfs.transactionservice.transaction.idempotency.IdempotencyStore;
+import com.smallworldfs.transactionservice.transaction.service.ReactiveTransactionService;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import javax.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.mapstruct.factory.Mappers;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * Same contract as {@link TransactionController}, served asynchronously.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/transactions")
+@ConditionalOnProperty(prefix = "transaction.client", name = "mode", havingValue = "reactive")
+public class ReactiveTransactionController {
+
+    private final TransactionDtoMapper mapper = Mappers.getMapper(TransactionDtoMapper.class);
+    private final ReactiveTransactionService service;
+    private final IdempotencyStore idempotencyStore;
+
+    @GetMapping("/{id}")
+    public Mono<TransactionDto> getTransaction(@PathVariable Integer id) {
+        return service.getTransaction(id).map(mapper::toDto);
+    }
+
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Success"),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Bad Request",
+                    content = @Content(
+                            mediaType = APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorDto.class))),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Internal server error",
+                    content = @Content(
+                            mediaType = APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorDto.class)))
+    })
+    @PostMapping("")
+    public Mono<TransactionDto> postTransaction(
+            @RequestHeader(name = IdempotencyStore.HEADER, required = false) String idempotencyKey,
+            @Valid @RequestBody TransactionDto transactionDto) {
+        return idempotencyStore.executeAsync(idempotencyKey, transactionDto,
+                () -> service.createTransaction(mapper.toModel(transactionDto)).map(mapper::toDto));
+    }
+}
@@ -0,0 +1,66 @@
+package com.smallworldfs.transactionservice.transaction.api;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+import com.smallworldfs.error.model.ErrorDto;
+import com.smallworldfs.transactionservice.transaction.api.mapper.TransactionDtoMapper;
+import com.smallworldfs.transactionservice.transaction.api.model.TransactionBatchDto;
+import com.smallworldfs.transactionservice.transaction.api.model.TransactionBatchItemDto;
+import com.smallworldfs.transactionservice.transaction.service.TransactionBatchService;
+import com.smallworldfs.transactionservice.transaction.service.TransactionService;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import java.util.List;
+import javax.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.mapstruct.factory.Mappers;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/transactions")
+public class TransactionBatchController {
+
+    private final TransactionDtoMapper mapper = Mappers.getMapper(TransactionDtoMapper.class);
+    private final TransactionBatchService batchService;
+    private final TransactionService service;
+
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "One result per requested id, in request order"),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Bad Request",
+                    content = @Content(
+                            mediaType = APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorDto.class)))
+    })
+    @GetMapping(value = "", params = "ids")
+    public List<TransactionBatchItemDto> getTransactions(@RequestParam List<Integer> ids) {
+        return mapper.toBatchItemDtos(service.getTransactions(ids));
+    }
+
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "One result per transaction, in request order"),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Bad Request",
+                    content = @Content(
+                            mediaType = APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorDto.class)))
+    })
+    @PostMapping("/batch")
+    public List<TransactionBatchItemDto> postTransactions(@Valid @RequestBody TransactionBatchDto batchDto) {
+        return mapper.toBatchItemDtos(batchService.createTransactions(mapper.toModels(batchDto.getTransactions())));
+    }
+}
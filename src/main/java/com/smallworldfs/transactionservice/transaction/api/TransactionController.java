@@ -5,6 +5,8 @@ import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 import com.smallworldfs.error.model.ErrorDto;
 import com.smallworldfs.transactionservice.transaction.api.mapper.TransactionDtoMapper;
 import com.smallworldfs.transactionservice.transaction.api.model.TransactionDto;
+import com.smallworldfs.transactionservice.transaction.entity.TransactionStatus;
+import com.smallworldfs.transactionservice.transaction.idempotency.IdempotencyStore;
 import com.smallworldfs.transactionservice.transaction.service.TransactionService;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -13,20 +15,26 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import javax.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.mapstruct.factory.Mappers;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/transactions")
+@ConditionalOnProperty(prefix = "transaction.client", name = "mode", havingValue = "blocking", matchIfMissing = true)
 public class TransactionController {
 
     private final TransactionDtoMapper mapper = Mappers.getMapper(TransactionDtoMapper.class);
     private final TransactionService service;
+    private final IdempotencyStore idempotencyStore;
 
     @GetMapping("/{id}")
     public TransactionDto getTransaction(@PathVariable Integer id) {
@@ -37,6 +45,9 @@ public class TransactionController {
             @ApiResponse(
                     responseCode = "200",
                     description = "Success"),
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "Accepted, to be persisted in the background; poll GET /transactions/{id}"),
             @ApiResponse(
                     responseCode = "400",
                     description = "Bad Request",
@@ -51,7 +62,12 @@ public class TransactionController {
                             schema = @Schema(implementation = ErrorDto.class)))
     })
     @PostMapping("")
-    public TransactionDto postTransaction(@Valid @RequestBody TransactionDto transactionDto) {
-        return mapper.toDto(service.createTransaction(mapper.toModel(transactionDto)));
+    public ResponseEntity<TransactionDto> postTransaction(
+            @RequestHeader(name = IdempotencyStore.HEADER, required = false) String idempotencyKey,
+            @Valid @RequestBody TransactionDto transactionDto) {
+        TransactionDto created = idempotencyStore.execute(idempotencyKey, transactionDto,
+                () -> mapper.toDto(service.createTransaction(mapper.toModel(transactionDto))));
+        HttpStatus status = created.getStatus() == TransactionStatus.ACCEPTED ? HttpStatus.ACCEPTED : HttpStatus.OK;
+        return ResponseEntity.status(status).body(created);
     }
 }
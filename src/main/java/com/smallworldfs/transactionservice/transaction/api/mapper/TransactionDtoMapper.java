@@ -1,14 +1,40 @@
 package com.smallworldfs.transactionservice.transaction.api.mapper;
 
+import com.smallworldfs.error.exception.ApplicationException;
+import com.smallworldfs.transactionservice.transaction.api.model.TransactionBatchItemDto;
 import com.smallworldfs.transactionservice.transaction.api.model.TransactionDto;
 import com.smallworldfs.transactionservice.transaction.entity.Transaction;
+import com.smallworldfs.transactionservice.transaction.service.TransactionResult;
+import java.util.List;
 import org.mapstruct.Mapper;
 
 @Mapper
 public interface TransactionDtoMapper {
 
+    String INTERNAL_ERROR = "INTERNAL_ERROR";
+
     TransactionDto toDto(Transaction transaction);
 
     Transaction toModel(TransactionDto transactionDto);
 
+    List<Transaction> toModels(List<TransactionDto> transactionDtos);
+
+    List<TransactionBatchItemDto> toBatchItemDtos(List<TransactionResult> results);
+
+    default TransactionBatchItemDto toBatchItemDto(TransactionResult result) {
+        if (result.isSuccess()) {
+            return TransactionBatchItemDto.builder().transaction(toDto(result.getTransaction())).build();
+        }
+        if (result.getError() instanceof ApplicationException exception) {
+            return TransactionBatchItemDto.builder()
+                    .errorCode(String.valueOf(exception.getIssue()))
+                    .errorMessage(exception.getMessage())
+                    .build();
+        }
+        return TransactionBatchItemDto.builder()
+                .errorCode(INTERNAL_ERROR)
+                .errorMessage("Transaction could not be processed")
+                .build();
+    }
+
 }
@@ -0,0 +1,24 @@
+package com.smallworldfs.transactionservice.transaction.api.model;
+
+import java.util.List;
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionBatchDto {
+
+    @Valid
+    @NotEmpty
+    @Size(max = 100)
+    private List<@NotNull TransactionDto> transactions;
+
+}
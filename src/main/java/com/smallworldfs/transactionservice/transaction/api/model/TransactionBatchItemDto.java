@@ -0,0 +1,20 @@
+package com.smallworldfs.transactionservice.transaction.api.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TransactionBatchItemDto {
+
+    private TransactionDto transaction;
+    private String errorCode;
+    private String errorMessage;
+
+}
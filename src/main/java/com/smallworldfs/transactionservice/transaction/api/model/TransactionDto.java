@@ -2,6 +2,7 @@ package com.smallworldfs.transactionservice.transaction.api.model;
 
 
 import com.smallworldfs.transactionservice.transaction.entity.TransactionStatus;
+import com.smallworldfs.transactionservice.transaction.money.MinorUnits;
 import javax.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -17,12 +18,17 @@ public class TransactionDto {
 
     private Integer transactionId;
     @NotNull
-    private Double sendingPrincipal;
+    @MinorUnits
+    private Long sendingPrincipal;
     @NotNull
-    private Double payoutPrincipal;
-    private Double fees;
-    private Double commission;
-    private Double agentCommission;
+    @MinorUnits
+    private Long payoutPrincipal;
+    @MinorUnits
+    private Long fees;
+    @MinorUnits
+    private Long commission;
+    @MinorUnits
+    private Long agentCommission;
     @NotNull
     private Integer senderId;
     @NotNull
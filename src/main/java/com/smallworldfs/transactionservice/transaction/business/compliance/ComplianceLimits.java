@@ -0,0 +1,58 @@
+package com.smallworldfs.transactionservice.transaction.business.compliance;
+
+import com.smallworldfs.transactionservice.transaction.money.Money;
+import com.smallworldfs.transactionservice.transaction.money.Rate;
+import com.smallworldfs.transactionservice.transaction.properties.TransactionProperties;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Limits in minor units, taken once per request so a reload never mixes old and new ones.
+ */
+@Value
+@Builder(toBuilder = true)
+public class ComplianceLimits {
+
+    long maxTransactionValue;
+    Rate agentCommission;
+    int maxOpenTransactions;
+    long maxTransactionByPeriod;
+    int daysLimitByPeriod;
+    long minFee;
+    @Builder.Default
+    LimitRules rules = LimitRules.NONE;
+
+    public long maxTransactionValue(int senderId, Integer beneficiaryId) {
+        return rules.maxTransactionValue(senderId, beneficiaryId, maxTransactionValue);
+    }
+
+    public int maxOpenTransactions(int senderId) {
+        return rules.maxOpenTransactions(senderId, maxOpenTransactions);
+    }
+
+    public long maxTransactionByPeriod(int senderId) {
+        return rules.maxTransactionByPeriod(senderId, maxTransactionByPeriod);
+    }
+
+    public static ComplianceLimits of(TransactionProperties properties) {
+        return ComplianceLimits.builder()
+                .maxTransactionValue(properties.getMaxTransactionValue().getMinorUnits())
+                .agentCommission(properties.getAgentCommission())
+                .maxOpenTransactions(properties.getMaxOpenTransactions())
+                .maxTransactionByPeriod(properties.getMaxTransactionByPeriod().getMinorUnits())
+                .daysLimitByPeriod(properties.getDaysLimitByPeriod())
+                .minFee(properties.getMinFee().getMinorUnits())
+                .build();
+    }
+
+    TransactionProperties toProperties() {
+        TransactionProperties properties = new TransactionProperties();
+        properties.setMaxTransactionValue(Money.ofMinor(maxTransactionValue));
+        properties.setAgentCommission(agentCommission);
+        properties.setMaxOpenTransactions(maxOpenTransactions);
+        properties.setMaxTransactionByPeriod(Money.ofMinor(maxTransactionByPeriod));
+        properties.setDaysLimitByPeriod(daysLimitByPeriod);
+        properties.setMinFee(Money.ofMinor(minFee));
+        return properties;
+    }
+}
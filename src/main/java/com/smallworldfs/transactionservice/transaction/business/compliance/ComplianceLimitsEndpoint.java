@@ -0,0 +1,72 @@
+package com.smallworldfs.transactionservice.transaction.business.compliance;
+
+import com.smallworldfs.transactionservice.transaction.money.Money;
+import com.smallworldfs.transactionservice.transaction.money.Rate;
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Shows the current limits and, on {@code POST}, changes the global ones until the limits file changes or a restart.
+ */
+@Component
+@Endpoint(id = "compliancelimits")
+@RequiredArgsConstructor
+public class ComplianceLimitsEndpoint {
+
+    private final ComplianceLimitsHolder limitsHolder;
+
+    @ReadOperation
+    public Map<String, Object> limits() {
+        return describe(limitsHolder.current());
+    }
+
+    @WriteOperation
+    public Map<String, Object> update(@Nullable BigDecimal maxTransactionValue, @Nullable BigDecimal agentCommission,
+            @Nullable Integer maxOpenTransactions, @Nullable BigDecimal maxTransactionByPeriod,
+            @Nullable BigDecimal minFee) {
+        try {
+            return describe(limitsHolder.update(limits -> {
+                ComplianceLimits.ComplianceLimitsBuilder changed = limits.toBuilder();
+                if (maxTransactionValue != null) {
+                    changed.maxTransactionValue(Money.toMinorUnits(maxTransactionValue));
+                }
+                if (agentCommission != null) {
+                    changed.agentCommission(Rate.of(agentCommission));
+                }
+                if (maxOpenTransactions != null) {
+                    changed.maxOpenTransactions(maxOpenTransactions);
+                }
+                if (maxTransactionByPeriod != null) {
+                    changed.maxTransactionByPeriod(Money.toMinorUnits(maxTransactionByPeriod));
+                }
+                if (minFee != null) {
+                    changed.minFee(Money.toMinorUnits(minFee));
+                }
+                return changed.build();
+            }));
+        } catch (IllegalArgumentException | ArithmeticException exception) {
+            throw new InvalidEndpointRequestException(exception.getMessage(), exception.getMessage());
+        }
+    }
+
+    private static Map<String, Object> describe(ComplianceLimits limits) {
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("maxTransactionValue", Money.toDecimal(limits.getMaxTransactionValue()));
+        description.put("agentCommission", new BigDecimal(limits.getAgentCommission().toString()));
+        description.put("maxOpenTransactions", limits.getMaxOpenTransactions());
+        description.put("maxTransactionByPeriod", Money.toDecimal(limits.getMaxTransactionByPeriod()));
+        description.put("daysLimitByPeriod", limits.getDaysLimitByPeriod());
+        description.put("minFee", Money.toDecimal(limits.getMinFee()));
+        description.put("senderRules", limits.getRules().senderRules());
+        description.put("corridorRules", limits.getRules().corridorRules());
+        return description;
+    }
+}
@@ -0,0 +1,130 @@
+package com.smallworldfs.transactionservice.transaction.business.compliance;
+
+import com.smallworldfs.transactionservice.transaction.properties.LimitsProperties;
+import com.smallworldfs.transactionservice.transaction.properties.TransactionProperties;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds the current {@link ComplianceLimits}, swapped atomically when they change or their files are reloaded.
+ */
+@Slf4j
+@Component
+public class ComplianceLimitsHolder {
+
+    /** A rate of 1, in parts per million. */
+    private static final long FULL_RATE = 1_000_000;
+
+    private final TransactionProperties configured;
+    private final LimitsProperties limitsProperties;
+    private final AtomicReference<ComplianceLimits> current;
+    private FileTime loadedFileTime;
+    private FileTime loadedRulesFileTime;
+
+    public ComplianceLimitsHolder(TransactionProperties configured, LimitsProperties limitsProperties) {
+        this.configured = configured;
+        this.limitsProperties = limitsProperties;
+        this.current = new AtomicReference<>(ComplianceLimits.of(configured));
+        reloadIfChanged();
+    }
+
+    public ComplianceLimits current() {
+        return current.get();
+    }
+
+    /**
+     * Atomically replaces the current limits with {@code change} applied to them.
+     *
+     * @throws IllegalArgumentException if the changed limits are invalid; the current ones are kept
+     */
+    public ComplianceLimits update(UnaryOperator<ComplianceLimits> change) {
+        return current.updateAndGet(limits -> checked(change.apply(limits)));
+    }
+
+    public ComplianceLimits publish(ComplianceLimits limits) {
+        return update(previous -> limits);
+    }
+
+    /**
+     * Reloads the limits and rules files that changed; a file with invalid limits keeps the current ones.
+     */
+    @Scheduled(fixedDelayString = "#{@limitsProperties.pollInterval.toMillis()}")
+    public synchronized void reloadIfChanged() {
+        if (limitsProperties.getFile() != null) {
+            reloadLimits(limitsProperties.getFile());
+        }
+        if (limitsProperties.getRulesFile() != null) {
+            reloadRules(limitsProperties.getRulesFile());
+        }
+    }
+
+    private void reloadLimits(Path file) {
+        try {
+            FileTime modified = modified(file);
+            if (Objects.equals(modified, loadedFileTime)) {
+                return;
+            }
+            loadedFileTime = modified;
+            ComplianceLimits loaded = modified != null ? read(file) : ComplianceLimits.of(configured);
+            ComplianceLimits limits = update(current -> loaded.toBuilder().rules(current.getRules()).build());
+            log.info("Loaded compliance limits {}", limits);
+        } catch (IOException | RuntimeException exception) {
+            log.warn("Keeping compliance limits {}, could not load {}", current(), file, exception);
+        }
+    }
+
+    private void reloadRules(Path file) {
+        try {
+            FileTime modified = modified(file);
+            if (Objects.equals(modified, loadedRulesFileTime)) {
+                return;
+            }
+            loadedRulesFileTime = modified;
+            LimitRules rules = modified != null ? LimitRules.parse(Files.readAllLines(file)) : LimitRules.NONE;
+            update(current -> current.toBuilder().rules(rules).build());
+            log.info("Loaded {} sender and {} corridor limit rules", rules.senderRules(), rules.corridorRules());
+        } catch (IOException | RuntimeException exception) {
+            log.warn("Keeping current limit rules, could not load {}", file, exception);
+        }
+    }
+
+    private static FileTime modified(Path file) throws IOException {
+        return Files.exists(file) ? Files.getLastModifiedTime(file) : null;
+    }
+
+    private ComplianceLimits read(Path file) throws IOException {
+        Properties values = new Properties();
+        try (Reader reader = Files.newBufferedReader(file)) {
+            values.load(reader);
+        }
+        TransactionProperties properties = ComplianceLimits.of(configured).toProperties();
+        new Binder(new MapConfigurationPropertySource(values)).bind("transaction", Bindable.ofInstance(properties));
+        return ComplianceLimits.of(properties);
+    }
+
+    private ComplianceLimits checked(ComplianceLimits limits) {
+        if (limits.getDaysLimitByPeriod() != configured.getDaysLimitByPeriod()) {
+            throw new IllegalArgumentException("days-limit-by-period cannot change without a restart");
+        }
+        long agentCommission = limits.getAgentCommission().getPartsPerMillion();
+        if (limits.getMaxTransactionValue() <= 0 || limits.getMaxTransactionByPeriod() <= 0
+                || limits.getMaxOpenTransactions() < 0 || limits.getMinFee() < 0
+                || agentCommission < 0 || agentCommission > FULL_RATE) {
+            throw new IllegalArgumentException("Invalid compliance limits " + limits);
+        }
+        return limits;
+    }
+}
@@ -0,0 +1,194 @@
+package com.smallworldfs.transactionservice.transaction.business.compliance;
+
+import com.smallworldfs.transactionservice.transaction.money.Money;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Limits that override the global ones by sender tier, sender and corridor, one rule per line:
+ * <pre>
+ * # level,key,tier,max-transaction-value,max-open-transactions,max-transaction-by-period
+ * tier,gold,,5000,10,20000
+ * sender,3,gold,,,
+ * corridor,3:4,,500,,
+ * </pre>
+ * Amounts are in major units and empty cells inherit from the tier; corridor rules only limit the transaction value.
+ */
+public final class LimitRules {
+
+    public static final LimitRules NONE = new Builder().build();
+
+    private static final long INHERIT = -1;
+
+    private final int[] senders;
+    private final long[] senderMaxTransactionValues;
+    private final long[] senderMaxOpenTransactions;
+    private final long[] senderMaxTransactionsByPeriod;
+    private final long[] corridors;
+    private final long[] corridorMaxTransactionValues;
+
+    private LimitRules(int[] senders, long[] senderMaxTransactionValues, long[] senderMaxOpenTransactions,
+            long[] senderMaxTransactionsByPeriod, long[] corridors, long[] corridorMaxTransactionValues) {
+        this.senders = senders;
+        this.senderMaxTransactionValues = senderMaxTransactionValues;
+        this.senderMaxOpenTransactions = senderMaxOpenTransactions;
+        this.senderMaxTransactionsByPeriod = senderMaxTransactionsByPeriod;
+        this.corridors = corridors;
+        this.corridorMaxTransactionValues = corridorMaxTransactionValues;
+    }
+
+    /**
+     * @throws IllegalArgumentException naming the line of the first invalid rule
+     */
+    public static LimitRules parse(List<String> lines) {
+        Builder builder = new Builder();
+        for (int index = 0; index < lines.size(); index++) {
+            String line = lines.get(index).strip();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            try {
+                builder.add(line.split(",", -1));
+            } catch (RuntimeException exception) {
+                throw new IllegalArgumentException("Invalid limit rule at line " + (index + 1) + ": " + line,
+                        exception);
+            }
+        }
+        return builder.build();
+    }
+
+    public long maxTransactionValue(int senderId, Integer beneficiaryId, long global) {
+        if (beneficiaryId != null && corridors.length > 0) {
+            int corridor = Arrays.binarySearch(corridors, corridor(senderId, beneficiaryId));
+            if (corridor >= 0) {
+                return corridorMaxTransactionValues[corridor];
+            }
+        }
+        return senderLimit(senderId, senderMaxTransactionValues, global);
+    }
+
+    public int maxOpenTransactions(int senderId, int global) {
+        return (int) senderLimit(senderId, senderMaxOpenTransactions, global);
+    }
+
+    public long maxTransactionByPeriod(int senderId, long global) {
+        return senderLimit(senderId, senderMaxTransactionsByPeriod, global);
+    }
+
+    public int senderRules() {
+        return senders.length;
+    }
+
+    public int corridorRules() {
+        return corridors.length;
+    }
+
+    @Override
+    public String toString() {
+        return "LimitRules(senderRules=" + senderRules() + ", corridorRules=" + corridorRules() + ")";
+    }
+
+    private long senderLimit(int senderId, long[] limits, long global) {
+        if (senders.length == 0) {
+            return global;
+        }
+        int sender = Arrays.binarySearch(senders, senderId);
+        return sender >= 0 && limits[sender] != INHERIT ? limits[sender] : global;
+    }
+
+    private static long corridor(int senderId, int beneficiaryId) {
+        return (long) senderId << 32 | beneficiaryId & 0xffffffffL;
+    }
+
+    private static final class Builder {
+
+        private final Map<String, long[]> tiers = new HashMap<>();
+        private final TreeMap<Integer, SenderRule> senders = new TreeMap<>();
+        private final TreeMap<Long, Long> corridors = new TreeMap<>();
+
+        void add(String[] cells) {
+            if (cells.length != 6) {
+                throw new IllegalArgumentException("expected 6 cells, found " + cells.length);
+            }
+            String key = cells[1].strip();
+            String tier = cells[2].strip();
+            long[] limits = {amount(cells[3]), count(cells[4]), amount(cells[5])};
+            switch (cells[0].strip()) {
+                case "tier" -> unique(tiers.put(key, limits) == null, key);
+                case "sender" -> unique(senders.put(Integer.valueOf(key),
+                        new SenderRule(tier.isEmpty() ? null : tier, limits)) == null, key);
+                case "corridor" -> {
+                    if (!tier.isEmpty() || limits[0] == INHERIT || limits[1] != INHERIT || limits[2] != INHERIT) {
+                        throw new IllegalArgumentException("corridor rules only set max-transaction-value");
+                    }
+                    String[] ids = key.split(":");
+                    long corridor = corridor(Integer.parseInt(ids[0].strip()), Integer.parseInt(ids[1].strip()));
+                    unique(corridors.put(corridor, limits[0]) == null, key);
+                }
+                default -> throw new IllegalArgumentException("unknown level " + cells[0]);
+            }
+        }
+
+        LimitRules build() {
+            int[] senderIds = new int[senders.size()];
+            long[][] senderLimits = new long[3][senders.size()];
+            int index = 0;
+            for (Map.Entry<Integer, SenderRule> entry : senders.entrySet()) {
+                senderIds[index] = entry.getKey();
+                long[] resolved = entry.getValue().resolve(tiers);
+                for (int limit = 0; limit < resolved.length; limit++) {
+                    senderLimits[limit][index] = resolved[limit];
+                }
+                index++;
+            }
+            return new LimitRules(senderIds, senderLimits[0], senderLimits[1], senderLimits[2],
+                    corridors.keySet().stream().mapToLong(Long::longValue).toArray(),
+                    corridors.values().stream().mapToLong(Long::longValue).toArray());
+        }
+
+        private static long amount(String cell) {
+            return cell.isBlank() ? INHERIT : notNegative(Money.toMinorUnits(new BigDecimal(cell.strip())));
+        }
+
+        private static long count(String cell) {
+            return cell.isBlank() ? INHERIT : notNegative(Integer.parseInt(cell.strip()));
+        }
+
+        private static long notNegative(long limit) {
+            if (limit < 0) {
+                throw new IllegalArgumentException("limits cannot be negative: " + limit);
+            }
+            return limit;
+        }
+
+        private static void unique(boolean added, String key) {
+            if (!added) {
+                throw new IllegalArgumentException("duplicate rule for " + key);
+            }
+        }
+    }
+
+    private record SenderRule(String tier, long[] limits) {
+
+        long[] resolve(Map<String, long[]> tiers) {
+            if (tier == null) {
+                return limits;
+            }
+            long[] tierLimits = tiers.get(tier);
+            if (tierLimits == null) {
+                throw new IllegalArgumentException("unknown tier " + tier);
+            }
+            long[] resolved = limits.clone();
+            for (int limit = 0; limit < resolved.length; limit++) {
+                if (resolved[limit] == INHERIT) {
+                    resolved[limit] = tierLimits[limit];
+                }
+            }
+            return resolved;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.smallworldfs.transactionservice.transaction.business.compliance;
+
+import com.smallworldfs.transactionservice.transaction.client.ReactiveTransactionDataServiceClient;
+import com.smallworldfs.transactionservice.transaction.entity.Transaction;
+import com.smallworldfs.transactionservice.transaction.entity.TransactionStatus;
+import com.smallworldfs.transactionservice.transaction.properties.TransactionProperties;
+import com.smallworldfs.transactionservice.transaction.writebehind.TransactionWriteBehind;
+import java.util.OptionalLong;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link SenderSnapshotLoader}.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "transaction.client", name = "mode", havingValue = "reactive")
+public class ReactiveSenderSnapshotLoader {
+
+    private final ReactiveTransactionDataServiceClient client;
+    private final TransactionProperties transactionProperties;
+    private final SenderLedger ledger;
+    private final TransactionWriteBehind writeBehind;
+
+    public Mono<SenderSnapshot> load(int senderId) {
+        Mono<Integer> openTransactions = client.getOpenTransactionsByUser(senderId, TransactionStatus.NEW)
+                .map(open -> Math.toIntExact(open.size() + writeBehind.pendingOf(senderId).getCount()));
+        return Mono.zip(periodSum(senderId), openTransactions,
+                (sum, open) -> new SenderSnapshot(senderId, sum, open));
+    }
+
+    private Mono<Long> periodSum(int senderId) {
+        OptionalLong ledgerPeriodSum = ledger.periodSum(senderId);
+        if (ledgerPeriodSum.isPresent()) {
+            return Mono.just(ledgerPeriodSum.getAsLong());
+        }
+        return client.getTransactionsBySenderIdWithPeriod(senderId, transactionProperties.getDaysLimitByPeriod())
+                .map(transactions -> transactions.stream().mapToLong(Transaction::getSendingPrincipal)
+                        .reduce(writeBehind.pendingOf(senderId).getSendingPrincipal(), Math::addExact))
+                .map(remotePeriodSum -> ledger.bootstrap(senderId, remotePeriodSum));
+    }
+}
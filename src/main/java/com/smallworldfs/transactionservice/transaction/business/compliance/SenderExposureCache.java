@@ -0,0 +1,90 @@
+package com.smallworldfs.transactionservice.transaction.business.compliance;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.smallworldfs.transactionservice.transaction.entity.Transaction;
+import com.smallworldfs.transactionservice.transaction.properties.CacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Caches sender snapshots; transactions created here are written through.
+ */
+@Component
+public class SenderExposureCache {
+
+    private final SenderSnapshotLoader snapshotLoader;
+    private final SenderLedger ledger;
+    private final boolean enabled;
+    private final AsyncCache<Integer, SenderSnapshot> cache;
+
+    public SenderExposureCache(SenderSnapshotLoader snapshotLoader, SenderLedger ledger,
+            CacheProperties cacheProperties, MeterRegistry meterRegistry) {
+        CacheProperties.SenderExposure properties = cacheProperties.getSenderExposure();
+        this.snapshotLoader = snapshotLoader;
+        this.ledger = ledger;
+        this.enabled = properties.isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getExpireAfterWrite())
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), "sender-exposure");
+    }
+
+    public SenderSnapshot get(int senderId) {
+        if (!enabled) {
+            return snapshotLoader.load(senderId);
+        }
+        CompletableFuture<SenderSnapshot> load = new CompletableFuture<>();
+        CompletableFuture<SenderSnapshot> snapshot = cache.get(senderId, (id, executor) -> load);
+        if (snapshot == load) {
+            try {
+                load.complete(snapshotLoader.load(senderId));
+            } catch (RuntimeException | Error exception) {
+                // the cache drops futures that complete exceptionally, so the next caller loads again
+                load.completeExceptionally(exception);
+                throw exception;
+            }
+        }
+        try {
+            return snapshot.join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw exception;
+        }
+    }
+
+    /**
+     * @return the cached snapshot, empty while it is still loading
+     */
+    public Optional<SenderSnapshot> getIfPresent(int senderId) {
+        CompletableFuture<SenderSnapshot> snapshot = cache.getIfPresent(senderId);
+        return snapshot != null && snapshot.isDone() && !snapshot.isCompletedExceptionally()
+                ? Optional.of(snapshot.join()) : Optional.empty();
+    }
+
+    /**
+     * Caches a snapshot loaded outside of {@link #get(int)}, e.g. by {@link ReactiveSenderSnapshotLoader}.
+     */
+    public void put(SenderSnapshot snapshot) {
+        if (enabled) {
+            cache.put(snapshot.getSenderId(), CompletableFuture.completedFuture(snapshot));
+        }
+    }
+
+    /**
+     * Adds a transaction just created to the cached snapshot, if any, and to the {@link SenderLedger}.
+     */
+    public void recordAccepted(Transaction transaction) {
+        ledger.recordAccepted(transaction);
+        cache.asMap().computeIfPresent(transaction.getSenderId(), (senderId, snapshot) ->
+                snapshot.thenApply(loaded -> loaded.withAccepted(transaction.getSendingPrincipal())));
+    }
+}
@@ -0,0 +1,200 @@
+package com.smallworldfs.transactionservice.transaction.business.compliance;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.smallworldfs.transactionservice.transaction.entity.Transaction;
+import com.smallworldfs.transactionservice.transaction.money.Money;
+import com.smallworldfs.transactionservice.transaction.money.Rate;
+import com.smallworldfs.transactionservice.transaction.properties.LedgerProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.function.LongSupplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * Per-day sums sent by each sender over the limit period, bootstrapped from transaction-data-service.
+ */
+@Component
+public class SenderLedger {
+
+    private final boolean enabled;
+    private final int days;
+    private final Rate revalidateAbove;
+    private final ComplianceLimitsHolder limitsHolder;
+    private final Clock clock;
+    private final Cache<Integer, Account> accounts;
+    private final DistributionSummary drift;
+
+    public SenderLedger(LedgerProperties ledgerProperties, ComplianceLimitsHolder limitsHolder, Clock clock,
+            MeterRegistry meterRegistry) {
+        this.enabled = ledgerProperties.isEnabled();
+        this.days = limitsHolder.current().getDaysLimitByPeriod();
+        this.revalidateAbove = ledgerProperties.getRevalidateAbove();
+        this.limitsHolder = limitsHolder;
+        this.clock = clock;
+        this.accounts = Caffeine.newBuilder()
+                .maximumSize(ledgerProperties.getMaximumSenders())
+                .expireAfterAccess(ledgerProperties.getExpireAfterAccess())
+                .build();
+        this.drift = DistributionSummary.builder("transaction.ledger.drift")
+                .description("Absolute difference between the local and the remote period sum of a sender")
+                .register(meterRegistry);
+        meterRegistry.gauge("transaction.ledger.senders", accounts, Cache::estimatedSize);
+    }
+
+    /**
+     * Empty when the sum must be loaded remotely and passed to {@link #bootstrap(int, long)}.
+     */
+    public OptionalLong periodSum(int senderId) {
+        Account account = accounts.getIfPresent(senderId);
+        if (account == null) {
+            return OptionalLong.empty();
+        }
+        long sum = account.sum(today());
+        if (sum >= revalidateAbove.applyTo(limitsHolder.current().maxTransactionByPeriod(senderId))) {
+            account.startReconciliation();
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(sum);
+    }
+
+    /**
+     * Starts or resets tracking of the sender from its remote period sum, which it returns.
+     */
+    public long bootstrap(int senderId, long remotePeriodSum) {
+        if (!enabled) {
+            return remotePeriodSum;
+        }
+        long today = today();
+        Account account = accounts.get(senderId, id -> new Account(days, today, remotePeriodSum, clock.millis()));
+        if (account.isReconciling()) {
+            long local = account.reset(today, remotePeriodSum, clock.millis());
+            drift.record(Money.toMajorUnits(Math.abs(local - remotePeriodSum)));
+        }
+        return account.sum(today);
+    }
+
+    /**
+     * Books a created transaction; senders that are not tracked are left alone.
+     */
+    public void recordAccepted(Transaction transaction) {
+        Account account = accounts.getIfPresent(transaction.getSenderId());
+        if (account != null) {
+            account.add(today(), transaction.getSendingPrincipal());
+        }
+    }
+
+    /**
+     * Senders that have not been reconciled for {@code reconcileAfter}, oldest first.
+     */
+    public List<Integer> sendersToReconcile(Duration reconcileAfter, int limit) {
+        long threshold = clock.millis() - reconcileAfter.toMillis();
+        return accounts.asMap().entrySet().stream()
+                .filter(entry -> entry.getValue().reconciledAt() <= threshold)
+                .sorted((first, second) -> Long.compare(first.getValue().reconciledAt(),
+                        second.getValue().reconciledAt()))
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    /**
+     * Resets the sender to its remote period sum, keeping what was booked while it loaded.
+     */
+    public void reconcile(int senderId, LongSupplier remotePeriodSum) {
+        Account account = accounts.getIfPresent(senderId);
+        if (account == null) {
+            return;
+        }
+        account.startReconciliation();
+        long remote = remotePeriodSum.getAsLong();
+        long today = today();
+        long local = account.reset(today, remote, clock.millis());
+        drift.record(Money.toMajorUnits(Math.abs(local - remote)));
+    }
+
+    private long today() {
+        return LocalDate.now(clock).toEpochDay();
+    }
+
+    /**
+     * Ring of day buckets: slot {@code day % days} holds the sum sent on {@code day}.
+     */
+    private static final class Account {
+
+        private final long[] bucketDays;
+        private final long[] bucketSums;
+        private long reconciledAt;
+        private boolean reconciling;
+        private long addedDuringReconciliation;
+
+        Account(int days, long today, long periodSum, long now) {
+            this.bucketDays = new long[days];
+            this.bucketSums = new long[days];
+            reset(today, periodSum, now);
+        }
+
+        synchronized void add(long today, long amount) {
+            int slot = slot(today);
+            if (bucketDays[slot] != today) {
+                bucketDays[slot] = today;
+                bucketSums[slot] = 0;
+            }
+            bucketSums[slot] += amount;
+            if (reconciling) {
+                addedDuringReconciliation += amount;
+            }
+        }
+
+        synchronized long sum(long today) {
+            long firstDay = today - bucketDays.length + 1;
+            long sum = 0;
+            for (int slot = 0; slot < bucketDays.length; slot++) {
+                if (bucketDays[slot] >= firstDay && bucketDays[slot] <= today) {
+                    sum += bucketSums[slot];
+                }
+            }
+            return sum;
+        }
+
+        synchronized void startReconciliation() {
+            reconciling = true;
+            addedDuringReconciliation = 0;
+        }
+
+        /**
+         * @return the period sum before the reset
+         */
+        synchronized long reset(long today, long periodSum, long now) {
+            long added = reconciling ? addedDuringReconciliation : 0;
+            long previous = sum(today) - added;
+            Arrays.fill(bucketDays, Long.MIN_VALUE);
+            Arrays.fill(bucketSums, 0);
+            bucketDays[slot(today)] = today;
+            bucketSums[slot(today)] = periodSum + added;
+            reconciledAt = now;
+            reconciling = false;
+            addedDuringReconciliation = 0;
+            return previous;
+        }
+
+        synchronized boolean isReconciling() {
+            return reconciling;
+        }
+
+        synchronized long reconciledAt() {
+            return reconciledAt;
+        }
+
+        private int slot(long day) {
+            return (int) Math.floorMod(day, (long) bucketDays.length);
+        }
+    }
+}
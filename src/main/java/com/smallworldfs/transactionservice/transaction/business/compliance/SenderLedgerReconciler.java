@@ -0,0 +1,35 @@
+package com.smallworldfs.transactionservice.transaction.business.compliance;
+
+import com.smallworldfs.transactionservice.transaction.properties.LedgerProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically resets stale {@link SenderLedger} entries to the period sum in transaction-data-service.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "transaction.ledger", name = "enabled", matchIfMissing = true)
+public class SenderLedgerReconciler {
+
+    private final SenderLedger ledger;
+    private final SenderSnapshotLoader snapshotLoader;
+    private final LedgerProperties ledgerProperties;
+
+    @Scheduled(fixedDelayString = "#{@ledgerProperties.reconcileInterval.toMillis()}",
+            initialDelayString = "#{@ledgerProperties.reconcileInterval.toMillis()}")
+    public void reconcile() {
+        for (int senderId : ledger.sendersToReconcile(ledgerProperties.getReconcileAfter(),
+                ledgerProperties.getReconcileBatchSize())) {
+            try {
+                ledger.reconcile(senderId, () -> snapshotLoader.loadPeriodSum(senderId));
+            } catch (RuntimeException exception) {
+                log.warn("Could not reconcile the ledger of sender {}", senderId, exception);
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.smallworldfs.transactionservice.transaction.business.compliance;
+
+import lombok.Value;
+
+@Value
+public class SenderSnapshot {
+
+    int senderId;
+    /**
+     * Minor units sent within the period.
+     */
+    long periodSum;
+    int openTransactions;
+
+    /**
+     * Snapshot after a new transaction of {@code sendingPrincipal} has been created for this sender.
+     */
+    public SenderSnapshot withAccepted(long sendingPrincipal) {
+        return new SenderSnapshot(senderId, Math.addExact(periodSum, sendingPrincipal), openTransactions + 1);
+    }
+}
@@ -0,0 +1,88 @@
+package com.smallworldfs.transactionservice.transaction.business.compliance;
+
+import com.smallworldfs.transactionservice.transaction.client.TransactionDataServiceClient;
+import com.smallworldfs.transactionservice.transaction.concurrent.BlockingTaskExecutors;
+import com.smallworldfs.transactionservice.transaction.entity.TransactionStatus;
+import com.smallworldfs.transactionservice.transaction.properties.ComplianceProperties;
+import com.smallworldfs.transactionservice.transaction.properties.TransactionProperties;
+import com.smallworldfs.transactionservice.transaction.writebehind.TransactionWriteBehind;
+import java.util.OptionalLong;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+/**
+ * Builds the {@link SenderSnapshot}, bootstrapping the ledger for senders it does not track yet.
+ */
+@Component
+public class SenderSnapshotLoader implements DisposableBean {
+
+    private final TransactionDataServiceClient client;
+    private final TransactionProperties transactionProperties;
+    private final SenderLedger ledger;
+    private final TransactionWriteBehind writeBehind;
+    private final ExecutorService executor;
+
+    public SenderSnapshotLoader(TransactionDataServiceClient client, TransactionProperties transactionProperties,
+            ComplianceProperties complianceProperties, SenderLedger ledger, TransactionWriteBehind writeBehind,
+            BlockingTaskExecutors executors) {
+        this.client = client;
+        this.transactionProperties = transactionProperties;
+        this.ledger = ledger;
+        this.writeBehind = writeBehind;
+        this.executor = executors.newExecutor("compliance", complianceProperties.getThreads(),
+                complianceProperties.getQueueCapacity());
+    }
+
+    public SenderSnapshot load(int senderId) {
+        OptionalLong ledgerPeriodSum = ledger.periodSum(senderId);
+        if (ledgerPeriodSum.isPresent()) {
+            return new SenderSnapshot(senderId, ledgerPeriodSum.getAsLong(), countOpenTransactions(senderId));
+        }
+        Future<Integer> openTransactions = executor.submit(() -> countOpenTransactions(senderId));
+        long periodSum;
+        try {
+            periodSum = ledger.bootstrap(senderId, loadPeriodSum(senderId));
+        } catch (RuntimeException exception) {
+            openTransactions.cancel(true);
+            throw exception;
+        }
+        return new SenderSnapshot(senderId, periodSum, await(openTransactions));
+    }
+
+    /**
+     * Includes the transactions accepted by write-behind and not persisted yet.
+     */
+    public long loadPeriodSum(int senderId) {
+        long persisted = client.summarizeTransactionsBySenderIdWithPeriod(senderId,
+                transactionProperties.getDaysLimitByPeriod()).getSendingPrincipal();
+        return Math.addExact(persisted, writeBehind.pendingOf(senderId).getSendingPrincipal());
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private int countOpenTransactions(int senderId) {
+        long persisted = client.summarizeOpenTransactionsByUser(senderId, TransactionStatus.NEW).getCount();
+        return Math.toIntExact(persisted + writeBehind.pendingOf(senderId).getCount());
+    }
+
+    private static int await(Future<Integer> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException exception) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading sender snapshot", exception);
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(exception.getCause());
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.smallworldfs.transactionservice.transaction.business.compliance;
+
+import com.smallworldfs.error.exception.ApplicationException;
+import com.smallworldfs.transactionservice.transaction.entity.Transaction;
+import com.smallworldfs.transactionservice.transaction.observability.LatencyTimers;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times a {@link TransactionValidator} and counts its rejections per issue.
+ */
+class TimedTransactionValidator implements TransactionValidator {
+
+    private final TransactionValidator delegate;
+    private final String name;
+    private final MeterRegistry meterRegistry;
+    private final Timer passTimer;
+    private final Timer rejectTimer;
+    private final Timer errorTimer;
+    private final ConcurrentMap<Object, Counter> rejections = new ConcurrentHashMap<>();
+
+    TimedTransactionValidator(TransactionValidator delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.name = delegate.getClass().getSimpleName();
+        this.meterRegistry = meterRegistry;
+        this.passTimer = timer("pass");
+        this.rejectTimer = timer("reject");
+        this.errorTimer = timer("error");
+    }
+
+    @Override
+    public void validate(Transaction transaction, ValidationContext context) {
+        long start = System.nanoTime();
+        try {
+            delegate.validate(transaction, context);
+        } catch (ApplicationException exception) {
+            rejectTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            rejections.computeIfAbsent(exception.getIssue(), this::rejectionCounter).increment();
+            throw exception;
+        } catch (RuntimeException exception) {
+            errorTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw exception;
+        }
+        passTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public boolean requiresSenderSnapshot() {
+        return delegate.requiresSenderSnapshot();
+    }
+
+    private Timer timer(String outcome) {
+        return LatencyTimers.builder("transaction.validation")
+                .description("Latency of a transaction validator")
+                .tag("validator", name)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private Counter rejectionCounter(Object issue) {
+        return Counter.builder("transaction.validation.rejections")
+                .description("Transactions rejected by a validator")
+                .tag("validator", name)
+                .tag("issue", String.valueOf(issue))
+                .register(meterRegistry);
+    }
+}
@@ -1,10 +1,11 @@
 package com.smallworldfs.transactionservice.transaction.business.compliance;
 
+import static com.smallworldfs.transactionservice.transaction.error.TransactionIssue.FEE_DOES_NOT_MATCH_SCHEDULE;
 import static com.smallworldfs.transactionservice.transaction.error.TransactionIssue.MIN_FEE_IS_TOO_SMALL;
 
 import com.smallworldfs.transactionservice.transaction.business.pricing.Pricing;
 import com.smallworldfs.transactionservice.transaction.entity.Transaction;
-import com.smallworldfs.transactionservice.transaction.properties.TransactionProperties;
+import com.smallworldfs.transactionservice.transaction.money.Money;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
@@ -14,21 +15,30 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class TransactionFeeValidator implements TransactionValidator {
 
-    private final TransactionProperties transactionProperties;
     private final Pricing pricing;
 
 
+    /**
+     * Requires {@code payout + fees == sending} once the transaction is priced.
+     */
     @Override
-    public void validate(Transaction transaction) {
-        if (feeIsLessToMin(transaction)) {
+    public void validate(Transaction transaction, ValidationContext context) {
+        long fee = context.feeOf(transaction, pricing);
+        long minFee = context.getLimits().getMinFee();
+        long difference = Math.subtractExact(transaction.getSendingPrincipal(), transaction.getPayoutPrincipal());
+        if (difference < minFee) {
             throw MIN_FEE_IS_TOO_SMALL
-                    .withParameters(transaction.getSendingPrincipal(), transaction.getPayoutPrincipal(),
-                            transactionProperties.getMinFee())
+                    .withParameters(Money.toDecimal(transaction.getSendingPrincipal()),
+                            Money.toDecimal(transaction.getPayoutPrincipal()),
+                            Money.toDecimal(minFee))
+                    .asException();
+        }
+        if (difference != fee) {
+            throw FEE_DOES_NOT_MATCH_SCHEDULE
+                    .withParameters(Money.toDecimal(transaction.getSendingPrincipal()),
+                            Money.toDecimal(transaction.getPayoutPrincipal()),
+                            Money.toDecimal(fee))
                     .asException();
         }
-    }
-
-    private boolean feeIsLessToMin(Transaction transaction) {
-        return pricing.calculateFee(transaction) < transactionProperties.getMinFee();
     }
 }
@@ -0,0 +1,60 @@
+package com.smallworldfs.transactionservice.transaction.business.compliance;
+
+import com.smallworldfs.transactionservice.transaction.entity.Transaction;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Runs the validators in {@code @Order}, loading the sender snapshot only when one needs it.
+ */
+@Component
+public class TransactionValidationEngine {
+
+    private final List<TransactionValidator> transactionValidators;
+    private final SenderExposureCache exposureCache;
+    private final ComplianceLimitsHolder limitsHolder;
+
+    public TransactionValidationEngine(List<TransactionValidator> transactionValidators,
+            SenderExposureCache exposureCache, ComplianceLimitsHolder limitsHolder, MeterRegistry meterRegistry) {
+        this.transactionValidators = transactionValidators.stream()
+                .<TransactionValidator>map(validator -> new TimedTransactionValidator(validator, meterRegistry))
+                .toList();
+        this.exposureCache = exposureCache;
+        this.limitsHolder = limitsHolder;
+    }
+
+    public ValidationContext newContext(int senderId) {
+        return ValidationContext.lazy(limitsHolder.current(), () -> exposureCache.get(senderId));
+    }
+
+    public void validate(Transaction transaction, ValidationContext context) {
+        transactionValidators.forEach(transactionValidator -> transactionValidator.validate(transaction, context));
+    }
+
+    /**
+     * Non-blocking variant; validators from the first that requires the sender snapshot run once it emits.
+     */
+    public Mono<ValidationContext> validate(Transaction transaction, Mono<SenderSnapshot> senderSnapshot) {
+        return Mono.defer(() -> {
+            ComplianceLimits limits = limitsHolder.current();
+            ValidationContext localContext = ValidationContext.lazy(limits, () -> {
+                throw new IllegalStateException("Validator reads the sender snapshot without requiring it");
+            });
+            for (int index = 0; index < transactionValidators.size(); index++) {
+                if (transactionValidators.get(index).requiresSenderSnapshot()) {
+                    List<TransactionValidator> remaining =
+                            transactionValidators.subList(index, transactionValidators.size());
+                    return senderSnapshot.map(snapshot -> {
+                        ValidationContext context = localContext.withSenderSnapshot(snapshot);
+                        remaining.forEach(transactionValidator -> transactionValidator.validate(transaction, context));
+                        return context;
+                    });
+                }
+                transactionValidators.get(index).validate(transaction, localContext);
+            }
+            return Mono.just(localContext);
+        });
+    }
+}
@@ -4,7 +4,12 @@ import com.smallworldfs.transactionservice.transaction.entity.Transaction;
 
 public interface TransactionValidator {
 
-    void validate(Transaction transaction);
-
-
+    void validate(Transaction transaction, ValidationContext context);
+
+    /**
+     * Whether {@link #validate} reads the sender snapshot.
+     */
+    default boolean requiresSenderSnapshot() {
+        return false;
+    }
 }
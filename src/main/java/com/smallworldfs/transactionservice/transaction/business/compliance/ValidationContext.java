@@ -0,0 +1,86 @@
+package com.smallworldfs.transactionservice.transaction.business.compliance;
+
+import com.smallworldfs.transactionservice.transaction.business.pricing.Pricing;
+import com.smallworldfs.transactionservice.transaction.entity.Transaction;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Per-request state of the validators: limits, the lazily loaded sender snapshot and computed fees.
+ */
+public final class ValidationContext {
+
+    private final ComplianceLimits limits;
+    private final Supplier<SenderSnapshot> snapshotLoader;
+    private SenderSnapshot senderSnapshot;
+    private Transaction feeTransaction;
+    private long fee;
+    private Map<Transaction, Long> earlierFees;
+
+    private ValidationContext(ComplianceLimits limits, Supplier<SenderSnapshot> snapshotLoader) {
+        this.limits = limits;
+        this.snapshotLoader = snapshotLoader;
+    }
+
+    public static ValidationContext lazy(ComplianceLimits limits, Supplier<SenderSnapshot> snapshotLoader) {
+        return new ValidationContext(limits, snapshotLoader);
+    }
+
+    public static ValidationContext of(ComplianceLimits limits, SenderSnapshot senderSnapshot) {
+        return new ValidationContext(limits, () -> senderSnapshot);
+    }
+
+    public ComplianceLimits getLimits() {
+        return limits;
+    }
+
+    public SenderSnapshot getSenderSnapshot() {
+        if (senderSnapshot == null) {
+            senderSnapshot = snapshotLoader.get();
+        }
+        return senderSnapshot;
+    }
+
+    /**
+     * Fee of {@code transaction}, computed once per transaction.
+     */
+    public long feeOf(Transaction transaction, Pricing pricing) {
+        if (feeTransaction == transaction) {
+            return fee;
+        }
+        Long earlierFee = earlierFees == null ? null : earlierFees.get(transaction);
+        if (earlierFee != null) {
+            return earlierFee;
+        }
+        if (feeTransaction != null) {
+            if (earlierFees == null) {
+                earlierFees = new IdentityHashMap<>();
+            }
+            earlierFees.put(feeTransaction, fee);
+        }
+        fee = pricing.calculateFee(transaction);
+        feeTransaction = transaction;
+        return fee;
+    }
+
+    /**
+     * This context, with the fees it computed, once the sender snapshot has been loaded asynchronously.
+     */
+    ValidationContext withSenderSnapshot(SenderSnapshot senderSnapshot) {
+        ValidationContext context = of(limits, senderSnapshot);
+        context.feeTransaction = feeTransaction;
+        context.fee = fee;
+        context.earlierFees = earlierFees;
+        return context;
+    }
+
+    /**
+     * Accounts a created transaction, so later transactions of a batch see it.
+     */
+    public void recordAccepted(Transaction transaction) {
+        if (senderSnapshot != null) {
+            senderSnapshot = senderSnapshot.withAccepted(transaction.getSendingPrincipal());
+        }
+    }
+}
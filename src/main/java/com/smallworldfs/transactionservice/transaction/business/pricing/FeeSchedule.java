@@ -0,0 +1,107 @@
+package com.smallworldfs.transactionservice.transaction.business.pricing;
+
+import com.smallworldfs.transactionservice.transaction.entity.Transaction;
+import com.smallworldfs.transactionservice.transaction.money.Rate;
+import com.smallworldfs.transactionservice.transaction.properties.PricingProperties;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Fee bands and agent commissions from {@link PricingProperties}, searched without allocating.
+ */
+public final class FeeSchedule {
+
+    /** A rate of 1, in parts per million. */
+    private static final long FULL_RATE = 1_000_000;
+
+    private final long[] bandStarts;
+    private final long[] bandFixedFees;
+    private final Rate[] bandRates;
+    private final long[] corridors;
+    private final Rate[] corridorAgentCommissions;
+
+    private FeeSchedule(long[] bandStarts, long[] bandFixedFees, Rate[] bandRates, long[] corridors,
+            Rate[] corridorAgentCommissions) {
+        this.bandStarts = bandStarts;
+        this.bandFixedFees = bandFixedFees;
+        this.bandRates = bandRates;
+        this.corridors = corridors;
+        this.corridorAgentCommissions = corridorAgentCommissions;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the bands do not start at 0, overlap or hold invalid fees or rates
+     */
+    public static FeeSchedule compile(PricingProperties properties) {
+        List<PricingProperties.Band> bands = properties.getBands().stream()
+                .sorted(Comparator.comparingLong(band -> band.getFrom().getMinorUnits()))
+                .toList();
+        long[] bandStarts = new long[bands.size()];
+        long[] bandFixedFees = new long[bands.size()];
+        Rate[] bandRates = new Rate[bands.size()];
+        for (int index = 0; index < bands.size(); index++) {
+            PricingProperties.Band band = bands.get(index);
+            bandStarts[index] = band.getFrom().getMinorUnits();
+            bandFixedFees[index] = band.getFixedFee().getMinorUnits();
+            bandRates[index] = checked(band.getRate());
+            if (index > 0 && bandStarts[index] == bandStarts[index - 1] || bandFixedFees[index] < 0) {
+                throw new IllegalArgumentException("Invalid fee band " + band);
+            }
+        }
+        if (bandStarts.length > 0 && bandStarts[0] != 0) {
+            throw new IllegalArgumentException("The first fee band must start at 0");
+        }
+        TreeMap<Long, Rate> corridorRates = new TreeMap<>();
+        for (Map.Entry<String, Rate> entry : properties.getCorridorAgentCommission().entrySet()) {
+            String[] ids = entry.getKey().split(":");
+            if (ids.length != 2) {
+                throw new IllegalArgumentException("Corridors are keyed sender:beneficiary: " + entry.getKey());
+            }
+            corridorRates.put(corridor(Integer.parseInt(ids[0].strip()), Integer.parseInt(ids[1].strip())),
+                    checked(entry.getValue()));
+        }
+        return new FeeSchedule(bandStarts, bandFixedFees, bandRates,
+                corridorRates.keySet().stream().mapToLong(Long::longValue).toArray(),
+                corridorRates.values().toArray(Rate[]::new));
+    }
+
+    /**
+     * Fixed fee plus the rate of the band or, without bands, whatever is not paid out.
+     */
+    public long fee(Transaction transaction) {
+        if (bandStarts.length == 0) {
+            return Math.subtractExact(transaction.getSendingPrincipal(), transaction.getPayoutPrincipal());
+        }
+        int band = Arrays.binarySearch(bandStarts, transaction.getSendingPrincipal());
+        if (band < 0) {
+            band = Math.max(-band - 2, 0);
+        }
+        return Math.addExact(bandFixedFees[band], bandRates[band].applyTo(transaction.getSendingPrincipal()));
+    }
+
+    /**
+     * Agent commission of the corridor of {@code transaction}, or {@code global} if the corridor has none.
+     */
+    public Rate agentCommission(Transaction transaction, Rate global) {
+        if (corridors.length == 0 || transaction.getBeneficiaryId() == null) {
+            return global;
+        }
+        long key = corridor(transaction.getSenderId(), transaction.getBeneficiaryId());
+        int corridor = Arrays.binarySearch(corridors, key);
+        return corridor >= 0 ? corridorAgentCommissions[corridor] : global;
+    }
+
+    private static long corridor(int senderId, int beneficiaryId) {
+        return (long) senderId << 32 | beneficiaryId & 0xffffffffL;
+    }
+
+    private static Rate checked(Rate rate) {
+        if (rate.getPartsPerMillion() < 0 || rate.getPartsPerMillion() > FULL_RATE) {
+            throw new IllegalArgumentException("Rates must be between 0 and 1: " + rate);
+        }
+        return rate;
+    }
+}
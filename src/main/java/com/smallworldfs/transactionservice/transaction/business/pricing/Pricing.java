@@ -1,26 +1,69 @@
 package com.smallworldfs.transactionservice.transaction.business.pricing;
 
+import com.smallworldfs.transactionservice.transaction.business.compliance.ComplianceLimits;
+import com.smallworldfs.transactionservice.transaction.business.compliance.ValidationContext;
 import com.smallworldfs.transactionservice.transaction.entity.Transaction;
 import com.smallworldfs.transactionservice.transaction.entity.TransactionStatus;
-import com.smallworldfs.transactionservice.transaction.properties.TransactionProperties;
-import lombok.RequiredArgsConstructor;
+import com.smallworldfs.transactionservice.transaction.observability.LatencyTimers;
+import com.smallworldfs.transactionservice.transaction.properties.PricingProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.List;
 import org.springframework.stereotype.Component;
 
 @Component
-@RequiredArgsConstructor
 public class Pricing {
 
-    private final TransactionProperties transactionProperties;
+    private final FeeSchedule schedule;
 
-    public void setCalculatedFields(Transaction transaction) {
-        transaction.setFees(calculateFee(transaction));
-        transaction.setAgentCommission(
-                transaction.getFees() * transactionProperties.getAgentCommission());
-        transaction.setCommission(transaction.getFees() - transaction.getAgentCommission());
-        transaction.setStatus(TransactionStatus.NEW);
+    public Pricing(PricingProperties properties) {
+        this.schedule = FeeSchedule.compile(properties);
+    }
+
+    /**
+     * Reuses the fee computed while validating with {@code context}.
+     */
+    public void setCalculatedFields(Transaction transaction, ValidationContext context) {
+        setCalculatedFields(transaction, context.feeOf(transaction, this), context.getLimits());
+    }
+
+    /**
+     * Uses the agent commission of {@code limits} unless the corridor has its own.
+     */
+    public void setCalculatedFields(Transaction transaction, ComplianceLimits limits) {
+        setCalculatedFields(transaction, calculateFee(transaction), limits);
+    }
+
+    /**
+     * Batch variant of {@link #setCalculatedFields(Transaction, ValidationContext)}.
+     */
+    public void price(List<Transaction> transactions, ValidationContext context) {
+        for (int index = 0; index < transactions.size(); index++) {
+            setCalculatedFields(transactions.get(index), context);
+        }
+    }
+
+    /**
+     * Fee in minor units, see {@link FeeSchedule#fee(Transaction)}.
+     */
+    public long calculateFee(Transaction transaction) {
+        return schedule.fee(transaction);
     }
 
-    public double calculateFee(Transaction transaction) {
-        return transaction.getSendingPrincipal() - transaction.getPayoutPrincipal();
+    /**
+     * Latency of {@link #setCalculatedFields(Transaction, ValidationContext)}, recorded by its callers.
+     */
+    public static Timer timer(MeterRegistry meterRegistry) {
+        return LatencyTimers.builder("transaction.pricing")
+                .description("Latency of pricing a transaction")
+                .register(meterRegistry);
+    }
+
+    private void setCalculatedFields(Transaction transaction, long fees, ComplianceLimits limits) {
+        long agentCommission = schedule.agentCommission(transaction, limits.getAgentCommission()).applyTo(fees);
+        transaction.setFees(fees);
+        transaction.setAgentCommission(agentCommission);
+        transaction.setCommission(fees - agentCommission);
+        transaction.setStatus(TransactionStatus.NEW);
     }
 }
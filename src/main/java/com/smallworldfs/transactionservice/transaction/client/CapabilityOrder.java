@@ -0,0 +1,15 @@
+package com.smallworldfs.transactionservice.transaction.client;
+
+/**
+ * {@code @Order} of the Feign capabilities; the first one added wraps the others.
+ */
+public final class CapabilityOrder {
+
+    public static final int HEDGING = 100;
+    public static final int RESILIENCE = 200;
+    public static final int METRICS = 300;
+    public static final int ADAPTIVE_TIMEOUTS = 400;
+
+    private CapabilityOrder() {
+    }
+}
@@ -0,0 +1,76 @@
+package com.smallworldfs.transactionservice.transaction.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.smallworldfs.transactionservice.transaction.entity.TransactionSummary;
+import com.smallworldfs.transactionservice.transaction.properties.WireFormatProperties;
+import feign.Capability;
+import feign.RequestInterceptor;
+import feign.RequestTemplate;
+import feign.Response;
+import feign.codec.Decoder;
+import feign.codec.EncodeException;
+import feign.codec.Encoder;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Accepts CBOR responses ahead of JSON and, optionally, sends request bodies as CBOR.
+ */
+public class CborWireFormat implements Capability, RequestInterceptor {
+
+    public static final String APPLICATION_CBOR = "application/cbor";
+
+    private static final String ACCEPT = APPLICATION_CBOR + ", application/json;q=0.9";
+
+    private final WireFormatProperties properties;
+    private final ObjectMapper objectMapper;
+
+    public CborWireFormat(WireFormatProperties properties, Jackson2ObjectMapperBuilder objectMapperBuilder) {
+        this.properties = properties;
+        this.objectMapper = objectMapperBuilder.factory(new CBORFactory()).build();
+    }
+
+    @Override
+    public void apply(RequestTemplate template) {
+        template.removeHeader(HttpHeaders.ACCEPT);
+        template.header(HttpHeaders.ACCEPT, ACCEPT);
+    }
+
+    @Override
+    public Encoder enrich(Encoder encoder) {
+        if (!properties.isCborRequests()) {
+            return encoder;
+        }
+        return (body, bodyType, template) -> {
+            try {
+                template.body(objectMapper.writeValueAsBytes(body), null);
+            } catch (IOException exception) {
+                throw new EncodeException("Could not write " + bodyType + " as CBOR", exception);
+            }
+            template.removeHeader(HttpHeaders.CONTENT_TYPE);
+            template.header(HttpHeaders.CONTENT_TYPE, APPLICATION_CBOR);
+        };
+    }
+
+    @Override
+    public Decoder enrich(Decoder decoder) {
+        return (response, type) -> {
+            // summaries are streamed by TransactionSummaryDecoder, whatever the format
+            if (!isCbor(response) || type == TransactionSummary.class || response.body() == null) {
+                return decoder.decode(response, type);
+            }
+            try (InputStream body = response.body().asInputStream()) {
+                return objectMapper.readValue(body, objectMapper.constructType(type));
+            }
+        };
+    }
+
+    public static boolean isCbor(Response response) {
+        Collection<String> contentTypes = response.headers().get(HttpHeaders.CONTENT_TYPE);
+        return contentTypes != null && contentTypes.stream().anyMatch(value -> value.startsWith(APPLICATION_CBOR));
+    }
+}
@@ -0,0 +1,168 @@
+package com.smallworldfs.transactionservice.transaction.client;
+
+import com.smallworldfs.starter.http.error.exception.HttpException;
+import com.smallworldfs.transactionservice.transaction.entity.Transaction;
+import com.smallworldfs.transactionservice.transaction.properties.CoalescingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Coalesces concurrent creations into batch requests; a batch refused with a 400 is sent again one by one.
+ */
+@Component
+public class CreateTransactionCoalescer {
+
+    private final CoalescingProperties properties;
+    private final TransactionDataServiceClient client;
+    private final Counter fallbacks;
+    private Batch open;
+
+    public CreateTransactionCoalescer(CoalescingProperties properties, TransactionDataServiceClient client,
+            MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.client = client;
+        this.fallbacks = Counter.builder("transaction.client.batch.fallbacks")
+                .description("Coalesced creations rejected as a whole and sent again one by one")
+                .register(meterRegistry);
+    }
+
+    public Transaction createTransaction(Transaction transaction) {
+        if (!properties.isEnabled() || properties.getMaxBatch() <= 1) {
+            return client.createTransaction(transaction);
+        }
+        CompletableFuture<Transaction> result = new CompletableFuture<>();
+        Batch batch;
+        boolean leader = false;
+        synchronized (this) {
+            if (open == null) {
+                open = new Batch();
+                leader = true;
+            }
+            batch = open;
+            batch.add(transaction, result);
+            if (batch.size() >= properties.getMaxBatch()) {
+                open = null;
+                batch.full.countDown();
+            }
+        }
+        if (leader) {
+            try {
+                awaitFull(batch);
+                close(batch);
+                send(batch);
+            } finally {
+                close(batch);
+                batch.abandon();
+            }
+        }
+        return await(result);
+    }
+
+    private synchronized void close(Batch batch) {
+        if (open == batch) {
+            open = null;
+        }
+    }
+
+    private void awaitFull(Batch batch) {
+        try {
+            batch.full.await(properties.getMaxWait().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException exception) {
+            // the batch is sent anyway: its other callers are waiting for it
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void send(Batch batch) {
+        if (batch.size() == 1) {
+            sendOneByOne(batch);
+            return;
+        }
+        List<Transaction> created;
+        try {
+            created = client.createTransactions(batch.transactions);
+        } catch (HttpException.BadRequest rejected) {
+            fallbacks.increment(batch.size());
+            sendOneByOne(batch);
+            return;
+        } catch (RuntimeException exception) {
+            batch.results.forEach(result -> result.completeExceptionally(exception));
+            return;
+        }
+        if (created.size() != batch.size()) {
+            IllegalStateException mismatch = new IllegalStateException("transaction-data-service created "
+                    + created.size() + " transactions for a batch of " + batch.size());
+            batch.results.forEach(result -> result.completeExceptionally(mismatch));
+            return;
+        }
+        for (int index = 0; index < created.size(); index++) {
+            batch.results.get(index).complete(created.get(index));
+        }
+    }
+
+    private void sendOneByOne(Batch batch) {
+        for (int index = 0; index < batch.size(); index++) {
+            try {
+                batch.results.get(index).complete(client.createTransaction(batch.transactions.get(index)));
+            } catch (RuntimeException exception) {
+                batch.results.get(index).completeExceptionally(exception);
+            }
+        }
+    }
+
+    private Transaction await(CompletableFuture<Transaction> result) {
+        Duration timeout = properties.getResultTimeout();
+        try {
+            return result.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (exception.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(exception.getCause());
+        } catch (TimeoutException exception) {
+            throw new IllegalStateException("Coalesced creation got no result within " + timeout, exception);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for a coalesced creation", exception);
+        }
+    }
+
+    /**
+     * Creations of one batch; only changed while it is the open batch, under the coalescer's lock.
+     */
+    private static final class Batch {
+
+        private final List<Transaction> transactions = new ArrayList<>();
+        private final List<CompletableFuture<Transaction>> results = new ArrayList<>();
+        private final CountDownLatch full = new CountDownLatch(1);
+
+        void add(Transaction transaction, CompletableFuture<Transaction> result) {
+            transactions.add(transaction);
+            results.add(result);
+        }
+
+        int size() {
+            return transactions.size();
+        }
+
+        /**
+         * Fails the results the leader did not complete, e.g. because it died of an {@link Error}.
+         */
+        void abandon() {
+            IllegalStateException abandoned = new IllegalStateException("Batch was abandoned before it completed");
+            results.forEach(result -> result.completeExceptionally(abandoned));
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.smallworldfs.transactionservice.transaction.client;
+
+import com.smallworldfs.transactionservice.transaction.properties.HttpClientProperties;
+import feign.Client;
+import feign.hc5.ApacheHttp5Client;
+import feign.http2client.Http2Client;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+
+/**
+ * Connect and read timeouts are not set here: Feign passes them with every request.
+ */
+public final class HttpTransports {
+
+    private HttpTransports() {
+    }
+
+    public static PoolingHttpClientConnectionManager connectionManager(HttpClientProperties properties) {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(properties.getMaxConnections())
+                .setMaxConnPerRoute(properties.getMaxConnectionsPerRoute())
+                .setConnectionTimeToLive(timeValue(properties.getTimeToLive()))
+                .setValidateAfterInactivity(timeValue(properties.getValidateAfterInactivity()))
+                .build();
+    }
+
+    public static CloseableHttpClient httpClient(PoolingHttpClientConnectionManager connectionManager,
+            HttpClientProperties properties) {
+        TimeValue keepAlive = timeValue(properties.getKeepAlive());
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setKeepAliveStrategy((response, context) -> keepAlive)
+                .evictExpiredConnections()
+                .evictIdleConnections(timeValue(properties.getMaxIdleTime()))
+                .disableCookieManagement()
+                .build();
+    }
+
+    public static Client pooled(CloseableHttpClient httpClient) {
+        return new ApacheHttp5Client(httpClient);
+    }
+
+    public static Client http2() {
+        return new Http2Client(HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .build());
+    }
+
+    private static TimeValue timeValue(Duration duration) {
+        return TimeValue.ofMilliseconds(duration.toMillis());
+    }
+}
@@ -0,0 +1,64 @@
+package com.smallworldfs.transactionservice.transaction.client;
+
+import com.smallworldfs.transactionservice.transaction.entity.Transaction;
+import com.smallworldfs.transactionservice.transaction.entity.TransactionStatus;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link TransactionDataServiceClient}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "transaction.client", name = "mode", havingValue = "reactive")
+public class ReactiveTransactionDataServiceClient {
+
+    private static final ParameterizedTypeReference<List<Transaction>> TRANSACTIONS =
+            new ParameterizedTypeReference<>() {};
+
+    private final WebClient webClient;
+
+    public ReactiveTransactionDataServiceClient(WebClient.Builder webClientBuilder,
+            @Value("${transaction-data-service.url}") String url) {
+        this.webClient = webClientBuilder.baseUrl(url).build();
+    }
+
+    public Mono<Transaction> getTransaction(Integer id) {
+        return webClient.get()
+                .uri("/transactions/{id}", id)
+                .accept(MediaType.APPLICATION_JSON)
+                .retrieve()
+                .bodyToMono(Transaction.class);
+    }
+
+    public Mono<Transaction> createTransaction(Transaction transaction) {
+        return webClient.post()
+                .uri("/transactions/")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .bodyValue(transaction)
+                .retrieve()
+                .bodyToMono(Transaction.class);
+    }
+
+    public Mono<List<Transaction>> getOpenTransactionsByUser(int userId, TransactionStatus status) {
+        return webClient.get()
+                .uri("/transactions/client={userId}&status={status}", userId, status)
+                .accept(MediaType.APPLICATION_JSON)
+                .retrieve()
+                .bodyToMono(TRANSACTIONS);
+    }
+
+    public Mono<List<Transaction>> getTransactionsBySenderIdWithPeriod(int senderId, int lastDays) {
+        return webClient.get()
+                .uri("/transactions/senderId={senderId}&days={lastDays}", senderId, lastDays)
+                .accept(MediaType.APPLICATION_JSON)
+                .retrieve()
+                .bodyToMono(TRANSACTIONS);
+    }
+}
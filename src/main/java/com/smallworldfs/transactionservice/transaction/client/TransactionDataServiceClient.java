@@ -2,6 +2,7 @@ package com.smallworldfs.transactionservice.transaction.client;
 
 import com.smallworldfs.transactionservice.transaction.entity.Transaction;
 import com.smallworldfs.transactionservice.transaction.entity.TransactionStatus;
+import com.smallworldfs.transactionservice.transaction.entity.TransactionSummary;
 import java.util.List;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.MediaType;
@@ -10,7 +11,8 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 
-@FeignClient(name = "transaction-data-service", url = "${transaction-data-service.url}")
+@FeignClient(name = "transaction-data-service", url = "${transaction-data-service.url}",
+        configuration = TransactionDataServiceClientConfiguration.class)
 public interface TransactionDataServiceClient {
 
     @GetMapping(value = "/transactions/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
@@ -19,11 +21,31 @@ public interface TransactionDataServiceClient {
     @PostMapping(value = "/transactions/", produces = MediaType.APPLICATION_JSON_VALUE)
     Transaction createTransaction(@RequestBody Transaction transaction);
 
+    /**
+     * Creates all {@code transactions} or none of them, returning them in the same order.
+     */
+    @PostMapping(value = "/transactions/batch", produces = MediaType.APPLICATION_JSON_VALUE)
+    List<Transaction> createTransactions(@RequestBody List<Transaction> transactions);
+
     @GetMapping(value = "/transactions/client={userId}&status={status}", produces = MediaType.APPLICATION_JSON_VALUE)
     List<Transaction> getOpenTransactionsByUser(@PathVariable int userId, @PathVariable TransactionStatus status);
 
+    /**
+     * Same request as {@link #getOpenTransactionsByUser}, folded into a summary while the response is read.
+     */
+    @GetMapping(value = "/transactions/client={userId}&status={status}", produces = MediaType.APPLICATION_JSON_VALUE)
+    TransactionSummary summarizeOpenTransactionsByUser(@PathVariable int userId,
+            @PathVariable TransactionStatus status);
 
     @GetMapping(value = "/transactions/senderId={senderId}&days={lastDays}",
             produces = MediaType.APPLICATION_JSON_VALUE)
     List<Transaction> getTransactionsBySenderIdWithPeriod(@PathVariable int senderId, @PathVariable int lastDays);
+
+    /**
+     * Same request as {@link #getTransactionsBySenderIdWithPeriod}, folded into a summary while the response is read.
+     */
+    @GetMapping(value = "/transactions/senderId={senderId}&days={lastDays}",
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    TransactionSummary summarizeTransactionsBySenderIdWithPeriod(@PathVariable int senderId,
+            @PathVariable int lastDays);
 }
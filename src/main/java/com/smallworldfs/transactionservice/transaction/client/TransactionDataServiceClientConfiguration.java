@@ -0,0 +1,31 @@
+package com.smallworldfs.transactionservice.transaction.client;
+
+import com.smallworldfs.transactionservice.transaction.properties.WireFormatProperties;
+import feign.Capability;
+import feign.codec.Decoder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Not a {@code @Configuration}, so it only applies to {@link TransactionDataServiceClient}.
+ */
+public class TransactionDataServiceClientConfiguration {
+
+    @Bean
+    public Capability transactionSummaryDecoding() {
+        return new Capability() {
+            @Override
+            public Decoder enrich(Decoder decoder) {
+                return new TransactionSummaryDecoder(decoder);
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "transaction.wire-format", name = "cbor", havingValue = "true")
+    public CborWireFormat cborWireFormat(WireFormatProperties properties,
+            Jackson2ObjectMapperBuilder objectMapperBuilder) {
+        return new CborWireFormat(properties, objectMapperBuilder);
+    }
+}
@@ -0,0 +1,182 @@
+package com.smallworldfs.transactionservice.transaction.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.smallworldfs.starter.http.error.exception.HttpException;
+import com.smallworldfs.transactionservice.transaction.concurrent.BlockingTaskExecutors;
+import com.smallworldfs.transactionservice.transaction.entity.Transaction;
+import com.smallworldfs.transactionservice.transaction.properties.CacheProperties;
+import com.smallworldfs.transactionservice.transaction.properties.LookupProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import lombok.Value;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reads transactions through a cache expiring by transaction status; concurrent misses share one call.
+ */
+@Component
+public class TransactionReader implements DisposableBean {
+
+    private final TransactionDataServiceClient client;
+    private final boolean cacheEnabled;
+    private final Cache<Integer, CachedTransaction> cache;
+    private final ConcurrentMap<Integer, CompletableFuture<Transaction>> inFlight = new ConcurrentHashMap<>();
+    private final ExecutorService executor;
+
+    public TransactionReader(TransactionDataServiceClient client, LookupProperties lookupProperties,
+            CacheProperties cacheProperties, MeterRegistry meterRegistry, BlockingTaskExecutors executors) {
+        CacheProperties.Transactions properties = cacheProperties.getTransactions();
+        this.client = client;
+        this.cacheEnabled = properties.isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfter(new StatusExpiry(properties))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "transactions");
+        this.executor = executors.newExecutor("lookup", lookupProperties.getThreads(),
+                lookupProperties.getQueueCapacity());
+    }
+
+    public Transaction get(int id) {
+        CachedTransaction cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return cached.unwrap();
+        }
+        CompletableFuture<Transaction> future = new CompletableFuture<>();
+        CompletableFuture<Transaction> existing = inFlight.putIfAbsent(id, future);
+        if (existing != null) {
+            return join(existing);
+        }
+        load(id, future);
+        return join(future);
+    }
+
+    public CompletableFuture<Transaction> getAsync(int id) {
+        CachedTransaction cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return cached.toFuture();
+        }
+        CompletableFuture<Transaction> future = new CompletableFuture<>();
+        CompletableFuture<Transaction> existing = inFlight.putIfAbsent(id, future);
+        if (existing != null) {
+            return existing;
+        }
+        executor.execute(() -> load(id, future));
+        return future;
+    }
+
+    /**
+     * Caches a transaction returned by transaction-data-service outside of a read, e.g. when it is created.
+     */
+    public void put(Transaction transaction) {
+        if (cacheEnabled && transaction.getTransactionId() != null) {
+            cache.put(transaction.getTransactionId(), CachedTransaction.found(transaction));
+        }
+    }
+
+    public void evict(int id) {
+        cache.invalidate(id);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private void load(int id, CompletableFuture<Transaction> future) {
+        try {
+            Transaction transaction = client.getTransaction(id);
+            if (cacheEnabled) {
+                cache.put(id, CachedTransaction.found(transaction));
+            }
+            future.complete(transaction);
+        } catch (HttpException.NotFound exception) {
+            if (cacheEnabled) {
+                cache.put(id, CachedTransaction.notFound(exception));
+            }
+            future.completeExceptionally(exception);
+        } catch (RuntimeException exception) {
+            future.completeExceptionally(exception);
+        } finally {
+            inFlight.remove(id, future);
+        }
+    }
+
+    private static Transaction join(CompletableFuture<Transaction> future) {
+        try {
+            return future.join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw exception;
+        }
+    }
+
+    /**
+     * Either a transaction or the 404 returned for its id.
+     */
+    @Value
+    private static class CachedTransaction {
+
+        Transaction transaction;
+        HttpException.NotFound notFound;
+
+        static CachedTransaction found(Transaction transaction) {
+            return new CachedTransaction(transaction, null);
+        }
+
+        static CachedTransaction notFound(HttpException.NotFound notFound) {
+            return new CachedTransaction(null, notFound);
+        }
+
+        Transaction unwrap() {
+            if (notFound != null) {
+                throw notFound;
+            }
+            return transaction;
+        }
+
+        CompletableFuture<Transaction> toFuture() {
+            return notFound != null ? CompletableFuture.failedFuture(notFound)
+                    : CompletableFuture.completedFuture(transaction);
+        }
+    }
+
+    private static class StatusExpiry implements Expiry<Integer, CachedTransaction> {
+
+        private final CacheProperties.Transactions properties;
+
+        StatusExpiry(CacheProperties.Transactions properties) {
+            this.properties = properties;
+        }
+
+        @Override
+        public long expireAfterCreate(Integer id, CachedTransaction cached, long currentTime) {
+            if (cached.getNotFound() != null) {
+                return properties.getNotFoundExpireAfterWrite().toNanos();
+            }
+            return properties.expireAfterWrite(cached.getTransaction().getStatus()).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(Integer id, CachedTransaction cached, long currentTime,
+                long currentDuration) {
+            return expireAfterCreate(id, cached, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Integer id, CachedTransaction cached, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.smallworldfs.transactionservice.transaction.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.smallworldfs.transactionservice.transaction.entity.TransactionSummary;
+import com.smallworldfs.transactionservice.transaction.money.Money;
+import feign.FeignException;
+import feign.Response;
+import feign.codec.DecodeException;
+import feign.codec.Decoder;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+
+/**
+ * Sums {@code sendingPrincipal} while the response is parsed, without building the transactions.
+ */
+public class TransactionSummaryDecoder implements Decoder {
+
+    private static final JsonFactory JSON = new JsonFactory();
+    private static final JsonFactory CBOR = new CBORFactory();
+    private static final String SENDING_PRINCIPAL = "sendingPrincipal";
+    private static final long MINOR_UNITS_PER_UNIT = BigDecimal.ONE.movePointRight(Money.SCALE).longValueExact();
+    private static final long NOT_PLAIN = Long.MIN_VALUE;
+
+    private final Decoder delegate;
+
+    public TransactionSummaryDecoder(Decoder delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Object decode(Response response, Type type) throws IOException, FeignException {
+        if (type != TransactionSummary.class) {
+            return delegate.decode(response, type);
+        }
+        if (response.body() == null) {
+            return TransactionSummary.EMPTY;
+        }
+        JsonFactory format = CborWireFormat.isCbor(response) ? CBOR : JSON;
+        try (JsonParser parser = format.createParser(response.body().asInputStream())) {
+            return summarize(parser);
+        } catch (ArithmeticException exception) {
+            throw new DecodeException(response.status(), "Transaction amount out of range: " + exception.getMessage(),
+                    response.request(), exception);
+        } catch (IllegalArgumentException exception) {
+            throw new DecodeException(response.status(), exception.getMessage(), response.request(), exception);
+        }
+    }
+
+    static TransactionSummary summarize(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == null) {
+            return TransactionSummary.EMPTY;
+        }
+        if (token != JsonToken.START_ARRAY) {
+            throw new IllegalArgumentException("Expected a JSON array of transactions but got " + token);
+        }
+        long count = 0;
+        long sendingPrincipal = 0;
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            count++;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (SENDING_PRINCIPAL.equals(field)) {
+                    sendingPrincipal = Math.addExact(sendingPrincipal, minorUnits(parser, value));
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        if (!parser.hasToken(JsonToken.END_ARRAY)) {
+            throw new IllegalArgumentException("Expected transaction objects but got " + parser.currentToken());
+        }
+        return new TransactionSummary(count, sendingPrincipal);
+    }
+
+    private static long minorUnits(JsonParser parser, JsonToken value) throws IOException {
+        return switch (value) {
+            case VALUE_NULL -> 0;
+            case VALUE_NUMBER_INT -> Math.multiplyExact(parser.getLongValue(), MINOR_UNITS_PER_UNIT);
+            case VALUE_NUMBER_FLOAT -> {
+                long parsed = parsePlainDecimal(parser.getTextCharacters(), parser.getTextOffset(),
+                        parser.getTextLength());
+                yield parsed != NOT_PLAIN ? parsed : Money.roundToMinorUnits(parser.getDecimalValue());
+            }
+            case VALUE_STRING -> Money.roundToMinorUnits(new BigDecimal(parser.getText().trim()));
+            default -> throw new IllegalArgumentException(
+                    "Expected an amount in " + SENDING_PRINCIPAL + " but got " + value);
+        };
+    }
+
+    /**
+     * Parses plain decimals, or returns {@link #NOT_PLAIN} for the rounding slow path.
+     */
+    private static long parsePlainDecimal(char[] text, int offset, int length) {
+        int end = offset + length;
+        int position = offset;
+        boolean negative = position < end && text[position] == '-';
+        if (negative) {
+            position++;
+        }
+        long units = 0;
+        int digits = 0;
+        int decimals = -1;
+        for (; position < end; position++) {
+            char character = text[position];
+            if (character == '.' && decimals < 0) {
+                decimals = 0;
+            } else if (character >= '0' && character <= '9' && digits < 16 && decimals < Money.SCALE) {
+                units = units * 10 + (character - '0');
+                digits++;
+                if (decimals >= 0) {
+                    decimals++;
+                }
+            } else {
+                return NOT_PLAIN;
+            }
+        }
+        if (digits == 0) {
+            return NOT_PLAIN;
+        }
+        for (int scale = Math.max(decimals, 0); scale < Money.SCALE; scale++) {
+            units *= 10;
+        }
+        return negative ? -units : units;
+    }
+}
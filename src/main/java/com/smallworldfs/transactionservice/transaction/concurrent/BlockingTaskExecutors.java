@@ -0,0 +1,42 @@
+package com.smallworldfs.transactionservice.transaction.concurrent;
+
+import com.smallworldfs.transactionservice.transaction.properties.ThreadingProperties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Executors of blocking transaction-data-service calls; with virtual threads they are unbounded.
+ */
+@Component
+@RequiredArgsConstructor
+public class BlockingTaskExecutors {
+
+    private final ThreadingProperties threadingProperties;
+
+    public ExecutorService newExecutor(String name, int threads, int queueCapacity) {
+        return newExecutor(name, threads, queueCapacity, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * Like {@link #newExecutor(String, int, int)}, but a full pool rejects tasks instead of running them on the caller.
+     */
+    public ExecutorService newRejectingExecutor(String name, int threads, int queueCapacity) {
+        return newExecutor(name, threads, queueCapacity, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    private ExecutorService newExecutor(String name, int threads, int queueCapacity,
+            RejectedExecutionHandler rejectedExecutionHandler) {
+        if (threadingProperties.isVirtualThreads()) {
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + "-", 1).factory());
+        }
+        return new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory(name + "-"), rejectedExecutionHandler);
+    }
+}
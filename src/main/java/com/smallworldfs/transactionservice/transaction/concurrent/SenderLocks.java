@@ -0,0 +1,136 @@
+package com.smallworldfs.transactionservice.transaction.concurrent;
+
+import com.smallworldfs.transactionservice.transaction.properties.ComplianceProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Striped locks keyed by sender, shared by blocking and reactive creations of the same sender.
+ */
+@Component
+public class SenderLocks {
+
+    private final Stripe[] stripes;
+    private final Timer waitTimer;
+
+    public SenderLocks(ComplianceProperties complianceProperties, MeterRegistry meterRegistry) {
+        int requested = complianceProperties.getSenderLockStripes();
+        int size = requested <= 1 ? 1 : Integer.highestOneBit(requested - 1) << 1;
+        this.stripes = new Stripe[size];
+        for (int index = 0; index < size; index++) {
+            stripes[index] = new Stripe();
+        }
+        this.waitTimer = Timer.builder("transaction.sender.lock.wait")
+                .description("Time spent waiting for another creation of the same sender")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs {@code action} holding the sender's lock, which the calling thread may already hold.
+     */
+    public <T> T callLocked(int senderId, Supplier<T> action) {
+        Stripe stripe = stripe(senderId);
+        long waitStart = System.nanoTime();
+        stripe.acquire(Thread.currentThread()).join();
+        try {
+            waitTimer.record(System.nanoTime() - waitStart, TimeUnit.NANOSECONDS);
+            return action.get();
+        } finally {
+            stripe.release();
+        }
+    }
+
+    public void runLocked(int senderId, Runnable action) {
+        callLocked(senderId, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Subscribes to {@code action} once the sender's lock is held, without blocking, and releases it when the
+     * action terminates or is cancelled.
+     */
+    public <T> Mono<T> deferLocked(int senderId, Supplier<Mono<T>> action) {
+        Stripe stripe = stripe(senderId);
+        Mono<Stripe> acquired = Mono.create(sink -> {
+            long waitStart = System.nanoTime();
+            CompletableFuture<Void> permit = stripe.acquire(null);
+            sink.onCancel(() -> {
+                if (!permit.cancel(false)) {
+                    stripe.release();
+                }
+            });
+            permit.thenRun(() -> {
+                waitTimer.record(System.nanoTime() - waitStart, TimeUnit.NANOSECONDS);
+                sink.success(stripe);
+            });
+        });
+        return Mono.usingWhen(acquired, held -> action.get(),
+                Stripe::released, (held, error) -> held.released(), Stripe::released);
+    }
+
+    private Stripe stripe(int senderId) {
+        int hash = Integer.hashCode(senderId) * 0x9E3779B9;
+        return stripes[(hash ^ hash >>> 16) & stripes.length - 1];
+    }
+
+    /**
+     * Lock handed over in FIFO order. Blocking holders are reentrant; reactive holders have no owner thread.
+     */
+    private static final class Stripe {
+
+        private static final CompletableFuture<Void> GRANTED = CompletableFuture.completedFuture(null);
+
+        private final Queue<Waiter> waiters = new ArrayDeque<>();
+        private Thread owner;
+        private int holds;
+
+        CompletableFuture<Void> acquire(Thread thread) {
+            synchronized (this) {
+                if (holds == 0 || thread != null && owner == thread) {
+                    owner = thread;
+                    holds++;
+                    return GRANTED;
+                }
+                Waiter waiter = new Waiter(thread, new CompletableFuture<>());
+                waiters.add(waiter);
+                return waiter.permit();
+            }
+        }
+
+        void release() {
+            Waiter next;
+            synchronized (this) {
+                if (--holds > 0) {
+                    return;
+                }
+                next = waiters.poll();
+                if (next == null) {
+                    owner = null;
+                    return;
+                }
+                owner = next.thread();
+                holds = 1;
+            }
+            // completed outside of the monitor, as it runs the next holder's continuation
+            if (!next.permit().complete(null)) {
+                release();
+            }
+        }
+
+        Mono<Void> released() {
+            return Mono.fromRunnable(this::release);
+        }
+    }
+
+    private record Waiter(Thread thread, CompletableFuture<Void> permit) {
+    }
+}
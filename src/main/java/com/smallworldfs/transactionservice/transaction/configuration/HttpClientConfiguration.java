@@ -0,0 +1,56 @@
+package com.smallworldfs.transactionservice.transaction.configuration;
+
+import com.smallworldfs.transactionservice.transaction.client.HttpTransports;
+import com.smallworldfs.transactionservice.transaction.observability.ConnectionPoolMetrics;
+import com.smallworldfs.transactionservice.transaction.properties.HttpClientProperties;
+import feign.Client;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "transaction.http-client", name = "pooled", havingValue = "true",
+        matchIfMissing = true)
+public class HttpClientConfiguration {
+
+    @Configuration
+    @ConditionalOnProperty(prefix = "transaction.http-client", name = "http2", havingValue = "false",
+            matchIfMissing = true)
+    static class Pooled {
+
+        @Bean
+        public PoolingHttpClientConnectionManager transactionDataServiceConnectionManager(
+                HttpClientProperties properties) {
+            return HttpTransports.connectionManager(properties);
+        }
+
+        @Bean
+        public CloseableHttpClient transactionDataServiceHttpClient(
+                PoolingHttpClientConnectionManager connectionManager, HttpClientProperties properties) {
+            return HttpTransports.httpClient(connectionManager, properties);
+        }
+
+        @Bean
+        public Client feignClient(CloseableHttpClient transactionDataServiceHttpClient) {
+            return HttpTransports.pooled(transactionDataServiceHttpClient);
+        }
+
+        @Bean
+        public ConnectionPoolMetrics transactionDataServiceConnectionPoolMetrics(
+                PoolingHttpClientConnectionManager connectionManager) {
+            return new ConnectionPoolMetrics("transaction-data-service", connectionManager);
+        }
+    }
+
+    @Configuration
+    @ConditionalOnProperty(prefix = "transaction.http-client", name = "http2", havingValue = "true")
+    static class Http2 {
+
+        @Bean
+        public Client feignClient() {
+            return HttpTransports.http2();
+        }
+    }
+}
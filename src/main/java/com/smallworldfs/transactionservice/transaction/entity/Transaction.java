@@ -1,11 +1,14 @@
 package com.smallworldfs.transactionservice.transaction.entity;
 
-
+import com.smallworldfs.transactionservice.transaction.money.MinorUnits;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+/**
+ * Amounts are in minor units.
+ */
 @Data
 @Builder
 @NoArgsConstructor
@@ -13,11 +16,16 @@ import lombok.NoArgsConstructor;
 public class Transaction {
 
     private Integer transactionId;
-    private Double sendingPrincipal;
-    private Double payoutPrincipal;
-    private Double fees;
-    private Double commission;
-    private Double agentCommission;
+    @MinorUnits(rounded = true)
+    private long sendingPrincipal;
+    @MinorUnits(rounded = true)
+    private long payoutPrincipal;
+    @MinorUnits(rounded = true)
+    private long fees;
+    @MinorUnits(rounded = true)
+    private long commission;
+    @MinorUnits(rounded = true)
+    private long agentCommission;
     private Integer senderId;
     private Integer beneficiaryId;
     private TransactionStatus status;
@@ -2,5 +2,17 @@ package com.smallworldfs.transactionservice.transaction.entity;
 
 public enum TransactionStatus {
     NEW,
-    PAY_OUT
+    PAY_OUT,
+    /**
+     * Waiting to be persisted by write-behind.
+     */
+    ACCEPTED,
+    /**
+     * Refused by transaction-data-service after write-behind accepted it.
+     */
+    REJECTED,
+    /**
+     * Given up by write-behind after {@code max-attempts} and written to the dead-letter file.
+     */
+    FAILED
 }
@@ -0,0 +1,15 @@
+package com.smallworldfs.transactionservice.transaction.entity;
+
+import lombok.Value;
+
+/**
+ * Count and sending principal sum of a list response.
+ */
+@Value
+public class TransactionSummary {
+
+    public static final TransactionSummary EMPTY = new TransactionSummary(0, 0);
+
+    long count;
+    long sendingPrincipal;
+}
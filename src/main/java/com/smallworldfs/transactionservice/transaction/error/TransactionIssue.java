@@ -16,11 +16,20 @@ public enum TransactionIssue implements Issue {
     MIN_FEE_IS_TOO_SMALL(
             "The difference between sending ({0}) and payout ({1}) must be at least {2}$",
             DefaultIssueType.REQUEST_ERROR),
+    FEE_DOES_NOT_MATCH_SCHEDULE(
+            "The difference between sending ({0}) and payout ({1}) must be the fee of {2}$",
+            DefaultIssueType.REQUEST_ERROR),
     CLIENT_EXCEED_LIMIT_OPEN_TRANSACTIONS("Client cannot has more than {0} transactions in progress",
             DefaultIssueType.REQUEST_ERROR),
     CLIENT_EXCEED_LIMIT_TO_SEND_IN_PERIOD(
             "Client cannot has more than {0}$ in a given {1} days period. Now sender would has {2}$",
             DefaultIssueType.REQUEST_ERROR),
+    TOO_MANY_TRANSACTIONS_REQUESTED("Cannot request more than {0} transactions at once",
+            DefaultIssueType.REQUEST_ERROR),
+    IDEMPOTENCY_KEY_REUSED("Idempotency key {0} was already used for a different transaction",
+            DefaultIssueType.REQUEST_ERROR),
+    IDEMPOTENCY_KEY_IN_PROGRESS("A request with idempotency key {0} is still in progress, retry it later",
+            DefaultIssueType.CONFLICT),
             ;
 
     private final String messageTemplate;
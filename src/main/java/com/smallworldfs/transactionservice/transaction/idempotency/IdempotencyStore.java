@@ -0,0 +1,122 @@
+package com.smallworldfs.transactionservice.transaction.idempotency;
+
+import static com.smallworldfs.transactionservice.transaction.error.TransactionIssue.IDEMPOTENCY_KEY_IN_PROGRESS;
+import static com.smallworldfs.transactionservice.transaction.error.TransactionIssue.IDEMPOTENCY_KEY_REUSED;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.smallworldfs.transactionservice.transaction.api.model.TransactionDto;
+import com.smallworldfs.transactionservice.transaction.properties.IdempotencyProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import lombok.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Replays the transaction created for an {@code Idempotency-Key}; failed creations are forgotten.
+ */
+@Component
+public class IdempotencyStore {
+
+    public static final String HEADER = "Idempotency-Key";
+
+    private final boolean enabled;
+    private final Duration waitTimeout;
+    private final Cache<String, Entry> entries;
+
+    public IdempotencyStore(IdempotencyProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.waitTimeout = properties.getWaitTimeout();
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumKeys())
+                .expireAfterWrite(properties.getExpireAfterWrite())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, entries, "idempotency");
+    }
+
+    /**
+     * Runs {@code creation} once per key; {@code key} may be null for requests that did not send one.
+     */
+    public TransactionDto execute(String key, TransactionDto request, Supplier<TransactionDto> creation) {
+        if (!enabled || key == null) {
+            return creation.get();
+        }
+        Entry entry = new Entry(request, new CompletableFuture<>());
+        Entry existing = entries.asMap().putIfAbsent(key, entry);
+        if (existing != null) {
+            return await(key, existing.replay(key, request));
+        }
+        try {
+            TransactionDto created = creation.get();
+            entry.getResult().complete(created);
+            return created;
+        } catch (RuntimeException | Error exception) {
+            forget(key, entry, exception);
+            throw exception;
+        }
+    }
+
+    public Mono<TransactionDto> executeAsync(String key, TransactionDto request,
+            Supplier<Mono<TransactionDto>> creation) {
+        if (!enabled || key == null) {
+            return creation.get();
+        }
+        return Mono.defer(() -> {
+            Entry entry = new Entry(request, new CompletableFuture<>());
+            Entry existing = entries.asMap().putIfAbsent(key, entry);
+            if (existing != null) {
+                return Mono.fromFuture(existing.replay(key, request))
+                        .timeout(waitTimeout, Mono.error(() -> IDEMPOTENCY_KEY_IN_PROGRESS.withParameters(key)
+                                .asException()));
+            }
+            return creation.get()
+                    .doOnSuccess(created -> entry.getResult().complete(created))
+                    .doOnError(exception -> forget(key, entry, exception))
+                    .doOnCancel(() -> forget(key, entry, new CancellationException()));
+        });
+    }
+
+    private void forget(String key, Entry entry, Throwable exception) {
+        entries.asMap().remove(key, entry);
+        entry.getResult().completeExceptionally(exception);
+    }
+
+    private TransactionDto await(String key, CompletableFuture<TransactionDto> result) {
+        try {
+            return result.get(waitTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(exception.getCause());
+        } catch (TimeoutException exception) {
+            throw IDEMPOTENCY_KEY_IN_PROGRESS.withParameters(key).causedBy(exception).asException();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw IDEMPOTENCY_KEY_IN_PROGRESS.withParameters(key).causedBy(exception).asException();
+        }
+    }
+
+    @Value
+    private static class Entry {
+
+        TransactionDto request;
+        CompletableFuture<TransactionDto> result;
+
+        CompletableFuture<TransactionDto> replay(String key, TransactionDto request) {
+            if (!this.request.equals(request)) {
+                throw IDEMPOTENCY_KEY_REUSED.withParameters(key).asException();
+            }
+            return result;
+        }
+    }
+}
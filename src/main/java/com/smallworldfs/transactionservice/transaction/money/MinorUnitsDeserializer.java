@@ -0,0 +1,57 @@
+package com.smallworldfs.transactionservice.transaction.money;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * Reads a decimal in major units into minor units exactly, rejecting or rounding extra decimals.
+ */
+public class MinorUnitsDeserializer extends StdScalarDeserializer<Long> implements ContextualDeserializer {
+
+    private final boolean rounded;
+
+    public MinorUnitsDeserializer() {
+        this(false);
+    }
+
+    private MinorUnitsDeserializer(boolean rounded) {
+        super(Long.class);
+        this.rounded = rounded;
+    }
+
+    @Override
+    public JsonDeserializer<?> createContextual(DeserializationContext context, BeanProperty property) {
+        MinorUnits annotation = property == null ? null : property.getAnnotation(MinorUnits.class);
+        boolean rounding = annotation != null && annotation.rounded();
+        return rounding == rounded ? this : new MinorUnitsDeserializer(rounding);
+    }
+
+    @Override
+    public Long deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        BigDecimal amount;
+        if (parser.hasToken(JsonToken.VALUE_NUMBER_INT) || parser.hasToken(JsonToken.VALUE_NUMBER_FLOAT)) {
+            amount = parser.getDecimalValue();
+        } else if (parser.hasToken(JsonToken.VALUE_STRING)) {
+            try {
+                amount = new BigDecimal(parser.getText().trim());
+            } catch (NumberFormatException exception) {
+                return (Long) context.handleWeirdStringValue(Long.class, parser.getText(), "not a decimal amount");
+            }
+        } else {
+            return (Long) context.handleUnexpectedToken(Long.class, parser);
+        }
+        try {
+            return rounded ? Money.roundToMinorUnits(amount) : Money.toMinorUnits(amount);
+        } catch (ArithmeticException exception) {
+            return (Long) context.handleWeirdNumberValue(Long.class, amount,
+                    "more than %d decimals or out of range", Money.SCALE);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.smallworldfs.transactionservice.transaction.money;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+import lombok.Value;
+
+/**
+ * Amounts in minor units of {@link #CURRENCY}.
+ */
+@Value
+public class Money {
+
+    public static final Currency CURRENCY = Currency.getInstance("USD");
+    public static final int SCALE = CURRENCY.getDefaultFractionDigits();
+    private static final double MINOR_UNITS_PER_MAJOR = Math.pow(10, SCALE);
+
+    long minorUnits;
+
+    public static Money ofMinor(long minorUnits) {
+        return new Money(minorUnits);
+    }
+
+    public static Money of(BigDecimal amount) {
+        return new Money(toMinorUnits(amount));
+    }
+
+    /**
+     * Parses a decimal amount such as {@code 5000} or {@code 12.50}; used to bind configuration properties.
+     */
+    public static Money valueOf(String amount) {
+        return of(new BigDecimal(amount));
+    }
+
+    public BigDecimal toDecimal() {
+        return toDecimal(minorUnits);
+    }
+
+    /**
+     * @throws ArithmeticException if {@code amount} has more decimals than the currency or does not fit a long
+     */
+    public static long toMinorUnits(BigDecimal amount) {
+        return amount.movePointRight(SCALE).longValueExact();
+    }
+
+    /**
+     * Rounds {@code amount} half-even, for amounts with floating point noise from other services.
+     */
+    public static long roundToMinorUnits(BigDecimal amount) {
+        return amount.setScale(SCALE, RoundingMode.HALF_EVEN).movePointRight(SCALE).longValueExact();
+    }
+
+    public static BigDecimal toDecimal(long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    /**
+     * Approximate amount in major units, for metrics only.
+     */
+    public static double toMajorUnits(long minorUnits) {
+        return minorUnits / MINOR_UNITS_PER_MAJOR;
+    }
+
+    @Override
+    public String toString() {
+        return toDecimal().toPlainString() + " " + CURRENCY.getCurrencyCode();
+    }
+}
@@ -0,0 +1,44 @@
+package com.smallworldfs.transactionservice.transaction.money;
+
+import java.math.BigDecimal;
+import lombok.Value;
+
+/**
+ * Ratio in parts per million, applied to minor units with integer arithmetic.
+ */
+@Value
+public class Rate {
+
+    private static final long ONE = 1_000_000;
+
+    long partsPerMillion;
+
+    public static Rate of(BigDecimal ratio) {
+        return new Rate(ratio.movePointRight(6).longValueExact());
+    }
+
+    /**
+     * Parses a ratio such as {@code 0.2}; used to bind configuration properties.
+     */
+    public static Rate valueOf(String ratio) {
+        return of(new BigDecimal(ratio));
+    }
+
+    /**
+     * {@code minorUnits * rate}, rounded half-even to a whole minor unit.
+     */
+    public long applyTo(long minorUnits) {
+        long product = Math.multiplyExact(minorUnits, partsPerMillion);
+        long quotient = Math.floorDiv(product, ONE);
+        long twiceRemainder = 2 * Math.floorMod(product, ONE);
+        if (twiceRemainder > ONE || twiceRemainder == ONE && (quotient & 1) == 1) {
+            quotient++;
+        }
+        return quotient;
+    }
+
+    @Override
+    public String toString() {
+        return BigDecimal.valueOf(partsPerMillion, 6).stripTrailingZeros().toPlainString();
+    }
+}
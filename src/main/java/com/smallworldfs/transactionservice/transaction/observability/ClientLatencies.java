@@ -0,0 +1,32 @@
+package com.smallworldfs.transactionservice.transaction.observability;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import java.util.OptionalDouble;
+import java.util.concurrent.TimeUnit;
+
+public final class ClientLatencies {
+
+    private ClientLatencies() {
+    }
+
+    /**
+     * @param percentile one of those published by {@link LatencyTimers}
+     * @return empty until the method has {@code minimumSamples} successful calls
+     */
+    public static OptionalDouble percentile(MeterRegistry meterRegistry, String method, double percentile,
+            long minimumSamples, TimeUnit unit) {
+        Timer latency = meterRegistry.find("transaction.client").tag("method", method).tag("outcome", "success")
+                .timer();
+        if (latency == null || latency.count() < minimumSamples) {
+            return OptionalDouble.empty();
+        }
+        for (ValueAtPercentile value : latency.takeSnapshot().percentileValues()) {
+            if (value.percentile() == percentile) {
+                return OptionalDouble.of(value.value(unit));
+            }
+        }
+        return OptionalDouble.empty();
+    }
+}
@@ -0,0 +1,96 @@
+package com.smallworldfs.transactionservice.transaction.observability;
+
+import com.smallworldfs.transactionservice.transaction.client.CapabilityOrder;
+import com.smallworldfs.transactionservice.transaction.entity.TransactionSummary;
+import feign.Capability;
+import feign.InvocationHandlerFactory;
+import feign.InvocationHandlerFactory.MethodHandler;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times every client method and records the size of the lists and summaries they return.
+ */
+@Component
+@Order(CapabilityOrder.METRICS)
+public class ClientMetricsCapability implements Capability {
+
+    private final MeterRegistry meterRegistry;
+
+    public ClientMetricsCapability(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public InvocationHandlerFactory enrich(InvocationHandlerFactory invocationHandlerFactory) {
+        return (target, dispatch) -> {
+            Map<Method, MethodHandler> timedDispatch = new LinkedHashMap<>();
+            dispatch.forEach((method, handler) -> timedDispatch.put(method,
+                    new TimedMethodHandler(target.name(), method.getName(), handler)));
+            return invocationHandlerFactory.create(target, timedDispatch);
+        };
+    }
+
+    private final class TimedMethodHandler implements MethodHandler {
+
+        private final String client;
+        private final String method;
+        private final MethodHandler delegate;
+        private final Timer successTimer;
+        private final DistributionSummary responseSize;
+        private final ConcurrentMap<Class<?>, Timer> errorTimers = new ConcurrentHashMap<>();
+
+        TimedMethodHandler(String client, String method, MethodHandler delegate) {
+            this.client = client;
+            this.method = method;
+            this.delegate = delegate;
+            this.successTimer = timer("success", "none");
+            this.responseSize = DistributionSummary.builder("transaction.client.response.size")
+                    .description("Number of transactions returned by transaction-data-service")
+                    .tag("client", client)
+                    .tag("method", method)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+        }
+
+        @Override
+        public Object invoke(Object[] argv) throws Throwable {
+            long start = System.nanoTime();
+            Object result;
+            try {
+                result = delegate.invoke(argv);
+            } catch (Throwable throwable) {
+                errorTimers.computeIfAbsent(throwable.getClass(), type -> timer("error", type.getSimpleName()))
+                        .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                throw throwable;
+            }
+            successTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            if (result instanceof Collection<?> collection) {
+                responseSize.record(collection.size());
+            } else if (result instanceof TransactionSummary summary) {
+                responseSize.record(summary.getCount());
+            }
+            return result;
+        }
+
+        private Timer timer(String outcome, String exception) {
+            return LatencyTimers.builder("transaction.client")
+                    .description("Latency of transaction-data-service calls")
+                    .tag("client", client)
+                    .tag("method", method)
+                    .tag("outcome", outcome)
+                    .tag("exception", exception)
+                    .register(meterRegistry);
+        }
+    }
+}
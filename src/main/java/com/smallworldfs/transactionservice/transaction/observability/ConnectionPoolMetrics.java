@@ -0,0 +1,38 @@
+package com.smallworldfs.transactionservice.transaction.observability;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.function.ToIntFunction;
+import org.apache.hc.core5.pool.ConnPoolControl;
+import org.apache.hc.core5.pool.PoolStats;
+
+/**
+ * Publishes the leased, pending, available and max connections of an HTTP connection pool.
+ */
+public class ConnectionPoolMetrics implements MeterBinder {
+
+    private final String client;
+    private final ConnPoolControl<?> pool;
+
+    public ConnectionPoolMetrics(String client, ConnPoolControl<?> pool) {
+        this.client = client;
+        this.pool = pool;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        register(registry, "leased", PoolStats::getLeased);
+        register(registry, "pending", PoolStats::getPending);
+        register(registry, "available", PoolStats::getAvailable);
+        register(registry, "max", PoolStats::getMax);
+    }
+
+    private void register(MeterRegistry registry, String state, ToIntFunction<PoolStats> value) {
+        Gauge.builder("transaction.client.connections", pool, control -> value.applyAsInt(control.getTotalStats()))
+                .description("Connections of the pool to transaction-data-service")
+                .tag("client", client)
+                .tag("state", state)
+                .register(registry);
+    }
+}
@@ -0,0 +1,18 @@
+package com.smallworldfs.transactionservice.transaction.observability;
+
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Timers with a histogram and locally computed p50, p99 and p999.
+ */
+public final class LatencyTimers {
+
+    private LatencyTimers() {
+    }
+
+    public static Timer.Builder builder(String name) {
+        return Timer.builder(name)
+                .publishPercentileHistogram()
+                .publishPercentiles(0.5, 0.99, 0.999);
+    }
+}
@@ -0,0 +1,14 @@
+package com.smallworldfs.transactionservice.transaction.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "transaction.batch")
+public class BatchProperties {
+
+    private int threads = 16;
+    private int queueCapacity = 256;
+}
@@ -0,0 +1,42 @@
+package com.smallworldfs.transactionservice.transaction.properties;
+
+import com.smallworldfs.transactionservice.transaction.entity.TransactionStatus;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "transaction.cache")
+public class CacheProperties {
+
+    private SenderExposure senderExposure = new SenderExposure();
+    private Transactions transactions = new Transactions();
+
+    @Data
+    public static class SenderExposure {
+
+        private boolean enabled = true;
+        private long maximumSize = 10_000;
+        private Duration expireAfterWrite = Duration.ofSeconds(30);
+    }
+
+    @Data
+    public static class Transactions {
+
+        private boolean enabled = true;
+        private long maximumSize = 100_000;
+        private Duration expireAfterWrite = Duration.ofSeconds(5);
+        private Duration notFoundExpireAfterWrite = Duration.ofSeconds(10);
+        private Map<TransactionStatus, Duration> expireAfterWriteByStatus = new EnumMap<>(Map.of(
+                TransactionStatus.NEW, Duration.ofSeconds(5),
+                TransactionStatus.PAY_OUT, Duration.ofHours(1)));
+
+        public Duration expireAfterWrite(TransactionStatus status) {
+            return expireAfterWriteByStatus.getOrDefault(status, expireAfterWrite);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.smallworldfs.transactionservice.transaction.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "transaction.client")
+public class ClientProperties {
+
+    /**
+     * How single reads and creates call transaction-data-service; batch and bulk endpoints always block.
+     */
+    private Mode mode = Mode.BLOCKING;
+
+    public enum Mode {
+        BLOCKING,
+        REACTIVE
+    }
+}
@@ -0,0 +1,29 @@
+package com.smallworldfs.transactionservice.transaction.properties;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "transaction.coalescing")
+public class CoalescingProperties {
+
+    /**
+     * Batches concurrent creations; only enable once every instance serves {@code POST /transactions/batch}.
+     */
+    private boolean enabled = false;
+    /**
+     * Longest a creation waits for others to join its batch.
+     */
+    private Duration maxWait = Duration.ofMillis(2);
+    /**
+     * A batch is sent as soon as it has this many creations, without waiting for {@link #maxWait}.
+     */
+    private int maxBatch = 50;
+    /**
+     * Longest a creation waits for its batch; must exceed {@link #maxWait} plus the read timeout.
+     */
+    private Duration resultTimeout = Duration.ofSeconds(30);
+}
@@ -0,0 +1,18 @@
+package com.smallworldfs.transactionservice.transaction.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "transaction.compliance")
+public class ComplianceProperties {
+
+    private int threads = 64;
+    private int queueCapacity = 256;
+    /**
+     * Locks serializing creations of a sender, rounded up to a power of two.
+     */
+    private int senderLockStripes = 1024;
+}
@@ -0,0 +1,38 @@
+package com.smallworldfs.transactionservice.transaction.properties;
+
+import java.time.Duration;
+import java.util.Set;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "transaction.hedging")
+public class HedgingProperties {
+
+    private boolean enabled = false;
+    /**
+     * Client methods that may be hedged; only {@code GET} mappings are, whatever is listed here.
+     */
+    private Set<String> methods = Set.of("getTransaction", "getOpenTransactionsByUser",
+            "getTransactionsBySenderIdWithPeriod", "summarizeOpenTransactionsByUser",
+            "summarizeTransactionsBySenderIdWithPeriod");
+    /**
+     * One of the percentiles published by the {@code transaction.client} timer.
+     */
+    private double delayPercentile = 0.99;
+    private Duration minimumDelay = Duration.ofMillis(5);
+    private long minimumSamples = 100;
+    private Duration refreshInterval = Duration.ofSeconds(10);
+    /**
+     * Hedges earned per call; 0.05 caps hedging at 5% extra load on transaction-data-service.
+     */
+    private double budgetRatio = 0.05;
+    /**
+     * Most hedges that can be saved up for a burst of slow responses.
+     */
+    private int budgetCapacity = 20;
+    private int threads = 32;
+    private int queueCapacity = 64;
+}
@@ -0,0 +1,39 @@
+package com.smallworldfs.transactionservice.transaction.properties;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "transaction.http-client")
+public class HttpClientProperties {
+
+    /**
+     * Pooled Apache HttpClient 5 transport; when false the http starter's is kept.
+     */
+    private boolean pooled = true;
+    private int maxConnections = 200;
+    private int maxConnectionsPerRoute = 100;
+    /**
+     * How long a connection stays reusable after a response.
+     */
+    private Duration keepAlive = Duration.ofSeconds(30);
+    /**
+     * Idle connections are closed after this long, before the server or a load balancer drops them.
+     */
+    private Duration maxIdleTime = Duration.ofSeconds(10);
+    /**
+     * Connections are not reused after this long, so new instances behind the service address get traffic.
+     */
+    private Duration timeToLive = Duration.ofMinutes(5);
+    /**
+     * Connections idle for longer are checked before being reused.
+     */
+    private Duration validateAfterInactivity = Duration.ofSeconds(2);
+    /**
+     * JDK HTTP client over HTTP/2; the pool settings do not apply then.
+     */
+    private boolean http2 = false;
+}
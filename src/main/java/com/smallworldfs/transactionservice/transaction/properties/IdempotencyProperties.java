@@ -0,0 +1,23 @@
+package com.smallworldfs.transactionservice.transaction.properties;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "transaction.idempotency")
+public class IdempotencyProperties {
+
+    private boolean enabled = true;
+    private long maximumKeys = 100_000;
+    /**
+     * How long a created transaction is replayed for its key; retries after that create a new transaction.
+     */
+    private Duration expireAfterWrite = Duration.ofHours(24);
+    /**
+     * Longest a duplicate waits for the request with the same key that is still running.
+     */
+    private Duration waitTimeout = Duration.ofSeconds(30);
+}
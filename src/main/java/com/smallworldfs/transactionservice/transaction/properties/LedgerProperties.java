@@ -0,0 +1,27 @@
+package com.smallworldfs.transactionservice.transaction.properties;
+
+import com.smallworldfs.transactionservice.transaction.money.Rate;
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "transaction.ledger")
+public class LedgerProperties {
+
+    private boolean enabled = true;
+    private long maximumSenders = 100_000;
+    private Duration expireAfterAccess = Duration.ofDays(1);
+    private Duration reconcileInterval = Duration.ofSeconds(15);
+    /**
+     * How long the local sum of a sender is trusted before it is reconciled.
+     */
+    private Duration reconcileAfter = Duration.ofMinutes(1);
+    private int reconcileBatchSize = 500;
+    /**
+     * Share of the period limit above which the sum is always revalidated remotely.
+     */
+    private Rate revalidateAbove = Rate.valueOf("0.8");
+}
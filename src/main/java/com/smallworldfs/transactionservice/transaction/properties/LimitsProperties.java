@@ -0,0 +1,23 @@
+package com.smallworldfs.transactionservice.transaction.properties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "transaction.limits")
+public class LimitsProperties {
+
+    /**
+     * Optional properties file overriding the {@code transaction.*} limits, reloaded when it changes.
+     */
+    private Path file;
+    /**
+     * Optional file of per-tier, per-sender and per-corridor limits, reloaded when it changes.
+     */
+    private Path rulesFile;
+    private Duration pollInterval = Duration.ofSeconds(10);
+}
@@ -0,0 +1,15 @@
+package com.smallworldfs.transactionservice.transaction.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "transaction.lookup")
+public class LookupProperties {
+
+    private int maxIds = 500;
+    private int threads = 32;
+    private int queueCapacity = 1024;
+}
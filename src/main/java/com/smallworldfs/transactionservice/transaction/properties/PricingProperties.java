@@ -0,0 +1,35 @@
+package com.smallworldfs.transactionservice.transaction.properties;
+
+import com.smallworldfs.transactionservice.transaction.money.Money;
+import com.smallworldfs.transactionservice.transaction.money.Rate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "transaction.pricing")
+public class PricingProperties {
+
+    /**
+     * Fee bands by sending principal, the first starting at 0; without bands the fee is whatever is not paid out.
+     */
+    private List<Band> bands = new ArrayList<>();
+    /**
+     * Agent commission by corridor, keyed {@code sender:beneficiary}.
+     */
+    private Map<String, Rate> corridorAgentCommission = new HashMap<>();
+
+    @Data
+    public static class Band {
+
+        /** Smallest sending principal of the band; the band ends where the next one starts. */
+        private Money from = Money.ofMinor(0);
+        private Money fixedFee = Money.ofMinor(0);
+        private Rate rate = Rate.valueOf("0");
+    }
+}
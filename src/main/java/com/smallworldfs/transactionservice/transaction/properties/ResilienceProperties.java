@@ -0,0 +1,25 @@
+package com.smallworldfs.transactionservice.transaction.properties;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "transaction.resilience")
+public class ResilienceProperties {
+
+    private boolean adaptiveTimeouts = true;
+    /**
+     * One of the percentiles published by the {@code transaction.client} timer.
+     */
+    private double timeoutPercentile = 0.999;
+    private double timeoutMultiplier = 2.0;
+    private Duration minimumTimeout = Duration.ofMillis(200);
+    /**
+     * Successful calls a method needs before its timeout adapts; until then the configured Feign timeout applies.
+     */
+    private long timeoutMinimumSamples = 100;
+    private Duration timeoutRefreshInterval = Duration.ofSeconds(10);
+}
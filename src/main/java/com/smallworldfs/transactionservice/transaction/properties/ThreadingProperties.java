@@ -0,0 +1,16 @@
+package com.smallworldfs.transactionservice.transaction.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "transaction.threading")
+public class ThreadingProperties {
+
+    /**
+     * Runs requests and blocking transaction-data-service calls on virtual threads.
+     */
+    private boolean virtualThreads = false;
+}
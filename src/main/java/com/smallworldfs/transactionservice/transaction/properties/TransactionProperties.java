@@ -1,5 +1,7 @@
 package com.smallworldfs.transactionservice.transaction.properties;
 
+import com.smallworldfs.transactionservice.transaction.money.Money;
+import com.smallworldfs.transactionservice.transaction.money.Rate;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
@@ -9,10 +11,10 @@ import org.springframework.stereotype.Component;
 @ConfigurationProperties(prefix = "transaction")
 public class TransactionProperties {
 
-    private double maxTransactionValue = 3000.0;
-    private double agentCommission = 0.2;
+    private Money maxTransactionValue = Money.valueOf("3000");
+    private Rate agentCommission = Rate.valueOf("0.2");
     private int maxOpenTransactions = 5;
-    private double maxTransactionByPeriod = 5000.0;
+    private Money maxTransactionByPeriod = Money.valueOf("5000");
     private int daysLimitByPeriod = 30;
-    private double minFee = 1;
+    private Money minFee = Money.valueOf("1");
 }
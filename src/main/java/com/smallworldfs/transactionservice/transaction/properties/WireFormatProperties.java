@@ -0,0 +1,20 @@
+package com.smallworldfs.transactionservice.transaction.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "transaction.wire-format")
+public class WireFormatProperties {
+
+    /**
+     * Asks transaction-data-service for CBOR responses, accepting JSON from instances that cannot produce it.
+     */
+    private boolean cbor = false;
+    /**
+     * Also sends request bodies as CBOR; only enable once every instance accepts it.
+     */
+    private boolean cborRequests = false;
+}
@@ -0,0 +1,47 @@
+package com.smallworldfs.transactionservice.transaction.properties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "transaction.write-behind")
+public class WriteBehindProperties {
+
+    /**
+     * Answers creations with 202 once logged locally and persists them in the background.
+     */
+    private boolean enabled = false;
+    private Path directory = Path.of("write-behind");
+    /**
+     * Size of the memory-mapped log; it is compacted to the transactions still pending when full.
+     */
+    private DataSize logCapacity = DataSize.ofMegabytes(64);
+    /**
+     * Waits for the disk sync before answering, so accepted transactions survive a host crash.
+     */
+    private boolean force = true;
+    /**
+     * Ids assigned locally, required when enabled; each instance needs its own range.
+     */
+    private Integer firstId;
+    private Integer lastId;
+    /**
+     * Senders flushed to transaction-data-service concurrently; transactions of one sender are sent in order.
+     */
+    private int threads = 16;
+    private Duration retryBackoff = Duration.ofMillis(100);
+    private Duration maxRetryBackoff = Duration.ofSeconds(30);
+    /**
+     * Attempts before a transaction is given up as {@code FAILED}.
+     */
+    private int maxAttempts = 20;
+    /**
+     * How long transactions rejected by transaction-data-service or given up can still be polled.
+     */
+    private Duration rejectedRetention = Duration.ofDays(1);
+}
@@ -0,0 +1,91 @@
+package com.smallworldfs.transactionservice.transaction.resilience;
+
+import com.smallworldfs.transactionservice.transaction.client.CapabilityOrder;
+import com.smallworldfs.transactionservice.transaction.observability.ClientLatencies;
+import com.smallworldfs.transactionservice.transaction.properties.ResilienceProperties;
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+import feign.RequestTemplate;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.OptionalDouble;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Shortens the read timeout of {@code GET} methods to a multiple of their observed latency.
+ */
+@Component
+@Order(CapabilityOrder.ADAPTIVE_TIMEOUTS)
+public class AdaptiveTimeouts implements Capability {
+
+    private final ResilienceProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, AtomicLong> timeoutsMillis = new ConcurrentHashMap<>();
+
+    public AdaptiveTimeouts(ResilienceProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Client enrich(Client client) {
+        if (!properties.isAdaptiveTimeouts()) {
+            return client;
+        }
+        return (request, options) -> client.execute(request, withAdaptiveReadTimeout(request, options));
+    }
+
+    @Scheduled(fixedDelayString = "#{@resilienceProperties.timeoutRefreshInterval.toMillis()}")
+    public void refresh() {
+        timeoutsMillis.forEach((method, timeout) -> timeout.set(observedTimeoutMillis(method)));
+    }
+
+    private Request.Options withAdaptiveReadTimeout(Request request, Request.Options options) {
+        RequestTemplate template = request.requestTemplate();
+        if (request.httpMethod() != Request.HttpMethod.GET || template == null || template.methodMetadata() == null) {
+            return options;
+        }
+        long adaptive = timeout(methodName(template.methodMetadata().configKey())).get();
+        if (adaptive <= 0 || adaptive >= options.readTimeoutUnit().toMillis(options.readTimeout())) {
+            return options;
+        }
+        return new Request.Options(options.connectTimeout(), options.connectTimeoutUnit(), adaptive,
+                TimeUnit.MILLISECONDS, options.isFollowRedirects());
+    }
+
+    private AtomicLong timeout(String method) {
+        return timeoutsMillis.computeIfAbsent(method, name -> {
+            AtomicLong timeout = new AtomicLong(observedTimeoutMillis(name));
+            Gauge.builder("transaction.client.timeout", timeout, AtomicLong::get)
+                    .description("Adaptive read timeout of transaction-data-service calls, 0 until known")
+                    .baseUnit("milliseconds")
+                    .tag("method", name)
+                    .register(meterRegistry);
+            return timeout;
+        });
+    }
+
+    private long observedTimeoutMillis(String method) {
+        OptionalDouble latency = ClientLatencies.percentile(meterRegistry, method, properties.getTimeoutPercentile(),
+                properties.getTimeoutMinimumSamples(), TimeUnit.MILLISECONDS);
+        if (latency.isEmpty()) {
+            return 0;
+        }
+        long millis = (long) Math.ceil(latency.getAsDouble() * properties.getTimeoutMultiplier());
+        return Math.max(millis, properties.getMinimumTimeout().toMillis());
+    }
+
+    /**
+     * Method name from a Feign config key such as {@code TransactionDataServiceClient#getTransaction(Integer)}.
+     */
+    private static String methodName(String configKey) {
+        return configKey.substring(configKey.indexOf('#') + 1, configKey.indexOf('('));
+    }
+}
@@ -0,0 +1,45 @@
+package com.smallworldfs.transactionservice.transaction.resilience;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket capping hedges at a share of the calls.
+ */
+final class HedgeBudget {
+
+    private static final long HEDGE = 1_000;
+
+    private final long deposit;
+    private final long capacity;
+    private final AtomicLong balance = new AtomicLong();
+
+    HedgeBudget(double ratio, int capacity) {
+        this.deposit = Math.round(ratio * HEDGE);
+        this.capacity = capacity * HEDGE;
+    }
+
+    void deposit() {
+        long current;
+        do {
+            current = balance.get();
+            if (current >= capacity) {
+                return;
+            }
+        } while (!balance.compareAndSet(current, Math.min(capacity, current + deposit)));
+    }
+
+    boolean tryWithdraw() {
+        long current;
+        do {
+            current = balance.get();
+            if (current < HEDGE) {
+                return false;
+            }
+        } while (!balance.compareAndSet(current, current - HEDGE));
+        return true;
+    }
+
+    void refund() {
+        balance.accumulateAndGet(HEDGE, (current, hedge) -> Math.min(capacity, current + hedge));
+    }
+}
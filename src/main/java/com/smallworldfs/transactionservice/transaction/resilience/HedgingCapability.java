@@ -0,0 +1,194 @@
+package com.smallworldfs.transactionservice.transaction.resilience;
+
+import com.smallworldfs.transactionservice.transaction.client.CapabilityOrder;
+import com.smallworldfs.transactionservice.transaction.concurrent.BlockingTaskExecutors;
+import com.smallworldfs.transactionservice.transaction.observability.ClientLatencies;
+import com.smallworldfs.transactionservice.transaction.properties.HedgingProperties;
+import feign.Capability;
+import feign.InvocationHandlerFactory;
+import feign.InvocationHandlerFactory.MethodHandler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.GetMapping;
+
+/**
+ * Hedges slow {@code GET} calls within a {@link HedgeBudget}. A hedge that does not fit in the pool is throttled; with
+ * virtual threads the pool is unbounded.
+ */
+@Component
+@Order(CapabilityOrder.HEDGING)
+public class HedgingCapability implements Capability, DisposableBean {
+
+    private final HedgingProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final HedgeBudget budget;
+    private final ExecutorService executor;
+    private final ConcurrentMap<String, AtomicLong> delaysNanos = new ConcurrentHashMap<>();
+
+    public HedgingCapability(HedgingProperties properties, MeterRegistry meterRegistry,
+            BlockingTaskExecutors executors) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.budget = new HedgeBudget(properties.getBudgetRatio(), properties.getBudgetCapacity());
+        this.executor = executors.newRejectingExecutor("hedging", properties.getThreads(),
+                properties.getQueueCapacity());
+    }
+
+    @Override
+    public InvocationHandlerFactory enrich(InvocationHandlerFactory invocationHandlerFactory) {
+        if (!properties.isEnabled()) {
+            return invocationHandlerFactory;
+        }
+        return (target, dispatch) -> {
+            Map<Method, MethodHandler> hedgedDispatch = new LinkedHashMap<>();
+            dispatch.forEach((method, handler) -> hedgedDispatch.put(method,
+                    isHedged(method) ? new HedgedMethodHandler(method.getName(), handler) : handler));
+            return invocationHandlerFactory.create(target, hedgedDispatch);
+        };
+    }
+
+    @Scheduled(fixedDelayString = "#{@hedgingProperties.refreshInterval.toMillis()}")
+    public void refresh() {
+        delaysNanos.forEach((method, delay) -> delay.set(observedDelayNanos(method)));
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private boolean isHedged(Method method) {
+        return properties.getMethods().contains(method.getName())
+                && AnnotatedElementUtils.hasAnnotation(method, GetMapping.class);
+    }
+
+    private long observedDelayNanos(String method) {
+        OptionalDouble latency = ClientLatencies.percentile(meterRegistry, method, properties.getDelayPercentile(),
+                properties.getMinimumSamples(), TimeUnit.NANOSECONDS);
+        if (latency.isEmpty()) {
+            return 0;
+        }
+        return Math.max((long) latency.getAsDouble(), properties.getMinimumDelay().toNanos());
+    }
+
+    private Counter hedges(String method, String result) {
+        return Counter.builder("transaction.client.hedges")
+                .description("Second requests sent for slow transaction-data-service reads")
+                .tag("method", method)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private final class HedgedMethodHandler implements MethodHandler {
+
+        private final MethodHandler delegate;
+        private final AtomicLong delayNanos;
+        private final Counter won;
+        private final Counter lost;
+        private final Counter throttled;
+
+        HedgedMethodHandler(String method, MethodHandler delegate) {
+            this.delegate = delegate;
+            this.delayNanos = delaysNanos.computeIfAbsent(method, name -> new AtomicLong(observedDelayNanos(name)));
+            this.won = hedges(method, "won");
+            this.lost = hedges(method, "lost");
+            this.throttled = hedges(method, "throttled");
+        }
+
+        @Override
+        public Object invoke(Object[] argv) throws Throwable {
+            budget.deposit();
+            long delay = delayNanos.get();
+            if (delay <= 0) {
+                return delegate.invoke(argv);
+            }
+            CompletableFuture<Object> primary;
+            try {
+                primary = call(argv);
+            } catch (RejectedExecutionException saturated) {
+                return delegate.invoke(argv);
+            }
+            try {
+                return primary.get(delay, TimeUnit.NANOSECONDS);
+            } catch (TimeoutException slow) {
+                if (!budget.tryWithdraw()) {
+                    throttled.increment();
+                    return join(primary);
+                }
+            } catch (ExecutionException exception) {
+                throw exception.getCause();
+            }
+            CompletableFuture<Object> hedge;
+            try {
+                hedge = call(argv);
+            } catch (RejectedExecutionException saturated) {
+                budget.refund();
+                throttled.increment();
+                return join(primary);
+            }
+            return join(firstSuccess(primary, hedge));
+        }
+
+        private CompletableFuture<Object> call(Object[] argv) {
+            CompletableFuture<Object> result = new CompletableFuture<>();
+            executor.execute(() -> {
+                try {
+                    result.complete(delegate.invoke(argv));
+                } catch (Throwable throwable) {
+                    result.completeExceptionally(throwable);
+                }
+            });
+            return result;
+        }
+
+        private CompletableFuture<Object> firstSuccess(CompletableFuture<Object> primary,
+                CompletableFuture<Object> hedge) {
+            CompletableFuture<Object> result = new CompletableFuture<>();
+            primary.whenComplete((value, error) -> {
+                if (error == null) {
+                    if (result.complete(value)) {
+                        lost.increment();
+                    }
+                } else if (hedge.isCompletedExceptionally()) {
+                    result.completeExceptionally(error);
+                }
+            });
+            hedge.whenComplete((value, error) -> {
+                if (error == null) {
+                    if (result.complete(value)) {
+                        won.increment();
+                    }
+                } else if (primary.isCompletedExceptionally()) {
+                    result.completeExceptionally(primary.exceptionNow());
+                }
+            });
+            return result;
+        }
+    }
+
+    private static Object join(CompletableFuture<Object> future) throws Throwable {
+        try {
+            return future.get();
+        } catch (ExecutionException exception) {
+            throw exception.getCause();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.smallworldfs.transactionservice.transaction.resilience;
+
+import com.smallworldfs.transactionservice.transaction.client.CapabilityOrder;
+import feign.Capability;
+import feign.InvocationHandlerFactory;
+import feign.InvocationHandlerFactory.MethodHandler;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Guards every client method with a circuit breaker and a bulkhead named after it.
+ */
+@Component
+@Order(CapabilityOrder.RESILIENCE)
+public class ResilienceCapability implements Capability {
+
+    private final CircuitBreakerRegistry circuitBreakers;
+    private final BulkheadRegistry bulkheads;
+
+    public ResilienceCapability(CircuitBreakerRegistry circuitBreakers, BulkheadRegistry bulkheads) {
+        this.circuitBreakers = circuitBreakers;
+        this.bulkheads = bulkheads;
+    }
+
+    @Override
+    public InvocationHandlerFactory enrich(InvocationHandlerFactory invocationHandlerFactory) {
+        return (target, dispatch) -> {
+            Map<Method, MethodHandler> guardedDispatch = new LinkedHashMap<>();
+            dispatch.forEach((method, handler) -> guardedDispatch.put(method, new GuardedMethodHandler(
+                    circuitBreakers.circuitBreaker(method.getName()), bulkheads.bulkhead(method.getName()),
+                    handler)));
+            return invocationHandlerFactory.create(target, guardedDispatch);
+        };
+    }
+
+    private static final class GuardedMethodHandler implements MethodHandler {
+
+        private final CircuitBreaker circuitBreaker;
+        private final Bulkhead bulkhead;
+        private final MethodHandler delegate;
+
+        GuardedMethodHandler(CircuitBreaker circuitBreaker, Bulkhead bulkhead, MethodHandler delegate) {
+            this.circuitBreaker = circuitBreaker;
+            this.bulkhead = bulkhead;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Object invoke(Object[] argv) throws Throwable {
+            circuitBreaker.acquirePermission();
+            try {
+                bulkhead.acquirePermission();
+            } catch (RuntimeException rejected) {
+                circuitBreaker.releasePermission();
+                throw rejected;
+            }
+            long start = circuitBreaker.getCurrentTimestamp();
+            try {
+                Object result = delegate.invoke(argv);
+                circuitBreaker.onSuccess(circuitBreaker.getCurrentTimestamp() - start,
+                        circuitBreaker.getTimestampUnit());
+                return result;
+            } catch (Throwable throwable) {
+                circuitBreaker.onError(circuitBreaker.getCurrentTimestamp() - start,
+                        circuitBreaker.getTimestampUnit(), throwable);
+                throw throwable;
+            } finally {
+                bulkhead.onComplete();
+            }
+        }
+    }
+}
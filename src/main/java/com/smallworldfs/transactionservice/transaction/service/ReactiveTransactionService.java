@@ -0,0 +1,96 @@
+package com.smallworldfs.transactionservice.transaction.service;
+
+import static com.smallworldfs.transactionservice.transaction.error.TransactionIssue.TRANSACTION_NOT_FOUND;
+
+import com.smallworldfs.starter.http.error.exception.HttpException;
+import com.smallworldfs.transactionservice.transaction.business.compliance.ReactiveSenderSnapshotLoader;
+import com.smallworldfs.transactionservice.transaction.business.compliance.SenderExposureCache;
+import com.smallworldfs.transactionservice.transaction.business.compliance.SenderSnapshot;
+import com.smallworldfs.transactionservice.transaction.business.compliance.TransactionValidationEngine;
+import com.smallworldfs.transactionservice.transaction.business.pricing.Pricing;
+import com.smallworldfs.transactionservice.transaction.client.ReactiveTransactionDataServiceClient;
+import com.smallworldfs.transactionservice.transaction.client.TransactionReader;
+import com.smallworldfs.transactionservice.transaction.concurrent.SenderLocks;
+import com.smallworldfs.transactionservice.transaction.entity.Transaction;
+import com.smallworldfs.transactionservice.transaction.writebehind.TransactionWriteBehind;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link TransactionService} for single reads and creates.
+ */
+@Component
+@ConditionalOnProperty(prefix = "transaction.client", name = "mode", havingValue = "reactive")
+public class ReactiveTransactionService {
+
+    private final ReactiveTransactionDataServiceClient client;
+    private final ReactiveSenderSnapshotLoader snapshotLoader;
+    private final TransactionReader reader;
+    private final Pricing pricing;
+    private final TransactionValidationEngine validationEngine;
+    private final SenderExposureCache exposureCache;
+    private final SenderLocks senderLocks;
+    private final TransactionWriteBehind writeBehind;
+    private final Timer pricingTimer;
+
+    public ReactiveTransactionService(ReactiveTransactionDataServiceClient client,
+            ReactiveSenderSnapshotLoader snapshotLoader, TransactionReader reader, Pricing pricing,
+            TransactionValidationEngine validationEngine, SenderExposureCache exposureCache, SenderLocks senderLocks,
+            TransactionWriteBehind writeBehind, MeterRegistry meterRegistry) {
+        this.client = client;
+        this.snapshotLoader = snapshotLoader;
+        this.reader = reader;
+        this.pricing = pricing;
+        this.validationEngine = validationEngine;
+        this.exposureCache = exposureCache;
+        this.senderLocks = senderLocks;
+        this.writeBehind = writeBehind;
+        this.pricingTimer = Pricing.timer(meterRegistry);
+    }
+
+    /**
+     * Reads write-behind first, then through the {@link TransactionReader} cache.
+     */
+    public Mono<Transaction> getTransaction(Integer id) {
+        return Mono.defer(() -> {
+            Transaction accepted = writeBehind.find(id);
+            if (accepted != null) {
+                return Mono.just(accepted);
+            }
+            return Mono.fromFuture(reader.getAsync(id))
+                    .onErrorMap(HttpException.NotFound.class,
+                            exception -> TRANSACTION_NOT_FOUND.withParameters(id).causedBy(exception).asException());
+        });
+    }
+
+    /**
+     * Creates holding the sender's lock, as {@link TransactionService#createTransaction(Transaction)} does.
+     */
+    public Mono<Transaction> createTransaction(Transaction transaction) {
+        return senderLocks.deferLocked(transaction.getSenderId(), () -> createLocked(transaction));
+    }
+
+    private Mono<Transaction> createLocked(Transaction transaction) {
+        return validationEngine.validate(transaction, senderSnapshot(transaction.getSenderId()))
+                .flatMap(context -> {
+                    long pricingStart = System.nanoTime();
+                    pricing.setCalculatedFields(transaction, context);
+                    pricingTimer.record(System.nanoTime() - pricingStart, TimeUnit.NANOSECONDS);
+                    return client.createTransaction(transaction)
+                            .doOnNext(created -> {
+                                reader.put(created);
+                                exposureCache.recordAccepted(created);
+                            });
+                });
+    }
+
+    private Mono<SenderSnapshot> senderSnapshot(int senderId) {
+        return Mono.defer(() -> exposureCache.getIfPresent(senderId)
+                .map(Mono::just)
+                .orElseGet(() -> snapshotLoader.load(senderId).doOnNext(exposureCache::put)));
+    }
+}
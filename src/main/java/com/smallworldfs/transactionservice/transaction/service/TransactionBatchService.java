@@ -0,0 +1,75 @@
+package com.smallworldfs.transactionservice.transaction.service;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
+
+import com.smallworldfs.transactionservice.transaction.business.compliance.TransactionValidationEngine;
+import com.smallworldfs.transactionservice.transaction.business.compliance.ValidationContext;
+import com.smallworldfs.transactionservice.transaction.concurrent.BlockingTaskExecutors;
+import com.smallworldfs.transactionservice.transaction.concurrent.SenderLocks;
+import com.smallworldfs.transactionservice.transaction.entity.Transaction;
+import com.smallworldfs.transactionservice.transaction.properties.BatchProperties;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.IntStream;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates a batch, validating the transactions of each sender under its lock against one snapshot.
+ */
+@Component
+public class TransactionBatchService implements DisposableBean {
+
+    private final TransactionService transactionService;
+    private final TransactionValidationEngine validationEngine;
+    private final SenderLocks senderLocks;
+    private final ExecutorService executor;
+
+    public TransactionBatchService(TransactionService transactionService,
+            TransactionValidationEngine validationEngine, SenderLocks senderLocks, BatchProperties batchProperties,
+            BlockingTaskExecutors executors) {
+        this.transactionService = transactionService;
+        this.validationEngine = validationEngine;
+        this.senderLocks = senderLocks;
+        this.executor = executors.newExecutor("batch", batchProperties.getThreads(),
+                batchProperties.getQueueCapacity());
+    }
+
+    public List<TransactionResult> createTransactions(List<Transaction> transactions) {
+        TransactionResult[] results = new TransactionResult[transactions.size()];
+        Map<Integer, List<Integer>> indexesBySender = IntStream.range(0, transactions.size()).boxed()
+                .collect(groupingBy(index -> transactions.get(index).getSenderId(), LinkedHashMap::new, toList()));
+        CompletableFuture.allOf(indexesBySender.entrySet().stream()
+                        .map(group -> CompletableFuture.runAsync(
+                                () -> createSenderGroup(group.getKey(), group.getValue(), transactions, results),
+                                executor))
+                        .toArray(CompletableFuture[]::new))
+                .join();
+        return Arrays.asList(results);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private void createSenderGroup(int senderId, List<Integer> indexes, List<Transaction> transactions,
+            TransactionResult[] results) {
+        senderLocks.runLocked(senderId, () -> {
+            ValidationContext context = validationEngine.newContext(senderId);
+            for (int index : indexes) {
+                try {
+                    results[index] = TransactionResult.success(
+                            transactionService.createTransaction(transactions.get(index), context));
+                } catch (RuntimeException exception) {
+                    results[index] = TransactionResult.failure(exception);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,29 @@
+package com.smallworldfs.transactionservice.transaction.service;
+
+import com.smallworldfs.transactionservice.transaction.entity.Transaction;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+
+/**
+ * Outcome of one item of a bulk operation: either the transaction or the error that prevented it.
+ */
+@Value
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class TransactionResult {
+
+    Transaction transaction;
+    RuntimeException error;
+
+    public static TransactionResult success(Transaction transaction) {
+        return new TransactionResult(transaction, null);
+    }
+
+    public static TransactionResult failure(RuntimeException error) {
+        return new TransactionResult(null, error);
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
@@ -1,38 +1,126 @@
 package com.smallworldfs.transactionservice.transaction.service;
 
+import static com.smallworldfs.transactionservice.transaction.error.TransactionIssue.TOO_MANY_TRANSACTIONS_REQUESTED;
 import static com.smallworldfs.transactionservice.transaction.error.TransactionIssue.TRANSACTION_NOT_FOUND;
 
 import com.smallworldfs.starter.http.error.exception.HttpException;
-import com.smallworldfs.transactionservice.transaction.business.compliance.TransactionValidator;
+import com.smallworldfs.transactionservice.transaction.business.compliance.SenderExposureCache;
+import com.smallworldfs.transactionservice.transaction.business.compliance.TransactionValidationEngine;
+import com.smallworldfs.transactionservice.transaction.business.compliance.ValidationContext;
 import com.smallworldfs.transactionservice.transaction.business.pricing.Pricing;
-import com.smallworldfs.transactionservice.transaction.client.TransactionDataServiceClient;
+import com.smallworldfs.transactionservice.transaction.client.CreateTransactionCoalescer;
+import com.smallworldfs.transactionservice.transaction.client.TransactionReader;
+import com.smallworldfs.transactionservice.transaction.concurrent.SenderLocks;
 import com.smallworldfs.transactionservice.transaction.entity.Transaction;
+import com.smallworldfs.transactionservice.transaction.properties.LookupProperties;
+import com.smallworldfs.transactionservice.transaction.writebehind.TransactionWriteBehind;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.springframework.stereotype.Component;
 
 @Component
-@RequiredArgsConstructor
 public class TransactionService {
 
-    private final TransactionDataServiceClient client;
+    private final CreateTransactionCoalescer coalescer;
+    private final TransactionReader reader;
     private final Pricing pricing;
+    private final TransactionValidationEngine validationEngine;
+    private final SenderExposureCache exposureCache;
+    private final LookupProperties lookupProperties;
+    private final SenderLocks senderLocks;
+    private final TransactionWriteBehind writeBehind;
+    private final Timer pricingTimer;
 
-    private final List<TransactionValidator> transactionValidators;
+    public TransactionService(CreateTransactionCoalescer coalescer, TransactionReader reader, Pricing pricing,
+            TransactionValidationEngine validationEngine, SenderExposureCache exposureCache,
+            LookupProperties lookupProperties, SenderLocks senderLocks, TransactionWriteBehind writeBehind,
+            MeterRegistry meterRegistry) {
+        this.coalescer = coalescer;
+        this.reader = reader;
+        this.pricing = pricing;
+        this.validationEngine = validationEngine;
+        this.exposureCache = exposureCache;
+        this.lookupProperties = lookupProperties;
+        this.senderLocks = senderLocks;
+        this.writeBehind = writeBehind;
+        this.pricingTimer = Pricing.timer(meterRegistry);
+    }
 
 
     public Transaction getTransaction(Integer id) {
+        Transaction accepted = writeBehind.find(id);
+        if (accepted != null) {
+            return accepted;
+        }
         try {
-            return client.getTransaction(id);
+            return reader.get(id);
         } catch (HttpException.NotFound exception) {
             throw TRANSACTION_NOT_FOUND.withParameters(id).causedBy(exception).asException();
         }
     }
 
+    public List<TransactionResult> getTransactions(List<Integer> ids) {
+        if (ids.size() > lookupProperties.getMaxIds()) {
+            throw TOO_MANY_TRANSACTIONS_REQUESTED.withParameters(lookupProperties.getMaxIds()).asException();
+        }
+        Map<Integer, CompletableFuture<Transaction>> lookups = ids.stream().distinct()
+                .collect(Collectors.toMap(Function.identity(), this::lookup));
+        return ids.stream().map(id -> toResult(id, lookups.get(id))).toList();
+    }
+
     public Transaction createTransaction(Transaction transaction) {
-        transactionValidators.forEach(transactionValidator -> transactionValidator.validate(transaction));
-        pricing.setCalculatedFields(transaction);
-        return client.createTransaction(transaction);
+        return createTransaction(transaction, validationEngine.newContext(transaction.getSenderId()));
+    }
+
+    /**
+     * Validates, prices and creates the transaction holding its sender's lock.
+     */
+    public Transaction createTransaction(Transaction transaction, ValidationContext context) {
+        return senderLocks.callLocked(transaction.getSenderId(), () -> createLocked(transaction, context));
+    }
+
+    private Transaction createLocked(Transaction transaction, ValidationContext context) {
+        validationEngine.validate(transaction, context);
+        long pricingStart = System.nanoTime();
+        pricing.setCalculatedFields(transaction, context);
+        pricingTimer.record(System.nanoTime() - pricingStart, TimeUnit.NANOSECONDS);
+        Transaction created;
+        if (writeBehind.isEnabled()) {
+            created = writeBehind.accept(transaction);
+        } else {
+            created = coalescer.createTransaction(transaction);
+            reader.put(created);
+        }
+        exposureCache.recordAccepted(created);
+        context.recordAccepted(created);
+        return created;
+    }
+
+    private CompletableFuture<Transaction> lookup(int id) {
+        Transaction accepted = writeBehind.find(id);
+        return accepted != null ? CompletableFuture.completedFuture(accepted) : reader.getAsync(id);
+    }
+
+    private static TransactionResult toResult(Integer id, CompletableFuture<Transaction> lookup) {
+        try {
+            return TransactionResult.success(lookup.join());
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof HttpException.NotFound notFound) {
+                return TransactionResult.failure(
+                        TRANSACTION_NOT_FOUND.withParameters(id).causedBy(notFound).asException());
+            }
+            if (exception.getCause() instanceof RuntimeException cause) {
+                return TransactionResult.failure(cause);
+            }
+            return TransactionResult.failure(exception);
+        }
     }
 
 
@@ -0,0 +1,250 @@
+package com.smallworldfs.transactionservice.transaction.writebehind;
+
+import com.smallworldfs.transactionservice.transaction.entity.Transaction;
+import com.smallworldfs.transactionservice.transaction.entity.TransactionStatus;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32C;
+
+/**
+ * Memory-mapped append-only log of the transactions accepted by write-behind, flushed by group commit.
+ */
+class TransactionLog implements Closeable {
+
+    static final int RECORD_SIZE = 64;
+
+    private static final int HEADER_SIZE = 64;
+    private static final int MAGIC = 0x54584c47;
+    private static final int VERSION = 1;
+    private static final int NEXT_ID_OFFSET = 8;
+    private static final byte APPENDED = 1;
+    private static final byte COMPLETED = 2;
+    private static final int CHECKSUM_OFFSET = 56;
+    private static final int NO_BENEFICIARY = Integer.MIN_VALUE;
+    private static final TransactionStatus[] STATUSES = TransactionStatus.values();
+
+    private final Path path;
+    private final int capacity;
+    private final boolean force;
+    private final Map<Integer, Transaction> pending = new LinkedHashMap<>();
+    private final CRC32C checksum = new CRC32C();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private MappedByteBuffer buffer;
+    private int position;
+    private int nextId;
+    private long appended;
+    private volatile long durable;
+
+    TransactionLog(Path path, int capacity, boolean force, int firstId) throws IOException {
+        if (capacity < HEADER_SIZE + 2 * RECORD_SIZE) {
+            throw new IllegalArgumentException("Write-behind log capacity is too small: " + capacity);
+        }
+        this.path = path;
+        this.capacity = capacity - (capacity - HEADER_SIZE) % RECORD_SIZE;
+        this.force = force;
+        this.buffer = map(path, this.capacity);
+        if (buffer.getInt(0) != MAGIC) {
+            writeHeader(buffer, firstId);
+            buffer.force();
+        }
+        recover(firstId);
+    }
+
+    /**
+     * Transactions appended but not completed, in the order they were appended.
+     */
+    List<Transaction> pending() {
+        return new ArrayList<>(pending.values());
+    }
+
+    /**
+     * Assigns the next id up to {@code lastId} to {@code transaction} and writes its record.
+     *
+     * @return the sequence number to pass to {@link #awaitDurable(long)}
+     */
+    long append(Transaction transaction, int lastId) throws IOException {
+        lock.lock();
+        try {
+            if (nextId > lastId || nextId < 0) {
+                throw new IllegalStateException("Write-behind ran out of transaction ids at " + lastId);
+            }
+            transaction.setTransactionId(nextId);
+            write(reserve(), transaction);
+            nextId++;
+            pending.put(transaction.getTransactionId(), transaction);
+            return ++appended;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns once the record of {@code sequence} is flushed, sharing the flush with concurrent appends.
+     */
+    void awaitDurable(long sequence) {
+        if (!force || durable >= sequence) {
+            return;
+        }
+        syncLock.lock();
+        try {
+            if (durable >= sequence) {
+                return;
+            }
+            MappedByteBuffer records;
+            long written;
+            lock.lock();
+            try {
+                records = buffer;
+                written = appended;
+            } finally {
+                lock.unlock();
+            }
+            records.force();
+            durable = written;
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    void complete(int id) throws IOException {
+        lock.lock();
+        try {
+            if (pending.remove(id) == null) {
+                return;
+            }
+            int offset = reserve();
+            buffer.putInt(offset + 4, id);
+            seal(offset, COMPLETED);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            buffer.force();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void write(int offset, Transaction transaction) {
+        buffer.put(offset + 1, (byte) transaction.getStatus().ordinal());
+        buffer.putInt(offset + 4, transaction.getTransactionId());
+        buffer.putInt(offset + 8, transaction.getSenderId());
+        buffer.putInt(offset + 12, transaction.getBeneficiaryId() != null ? transaction.getBeneficiaryId()
+                : NO_BENEFICIARY);
+        buffer.putLong(offset + 16, transaction.getSendingPrincipal());
+        buffer.putLong(offset + 24, transaction.getPayoutPrincipal());
+        buffer.putLong(offset + 32, transaction.getFees());
+        buffer.putLong(offset + 40, transaction.getCommission());
+        buffer.putLong(offset + 48, transaction.getAgentCommission());
+        seal(offset, APPENDED);
+    }
+
+    private int reserve() throws IOException {
+        if (position + RECORD_SIZE > capacity) {
+            compact();
+        }
+        int offset = position;
+        for (int index = 0; index < RECORD_SIZE; index++) {
+            buffer.put(offset + index, (byte) 0);
+        }
+        return offset;
+    }
+
+    /**
+     * Sets the type byte last, after the checksum, so a partially written record is never taken for a complete one.
+     */
+    private void seal(int offset, byte type) {
+        buffer.putInt(offset + CHECKSUM_OFFSET, checksum(buffer, offset, type));
+        buffer.put(offset, type);
+        position = offset + RECORD_SIZE;
+    }
+
+    private void recover(int firstId) {
+        nextId = Math.max(buffer.getInt(NEXT_ID_OFFSET), firstId);
+        position = HEADER_SIZE;
+        while (position + RECORD_SIZE <= capacity) {
+            byte type = buffer.get(position);
+            if ((type != APPENDED && type != COMPLETED)
+                    || buffer.getInt(position + CHECKSUM_OFFSET) != checksum(buffer, position, type)) {
+                break;
+            }
+            int id = buffer.getInt(position + 4);
+            if (type == APPENDED) {
+                pending.put(id, read(buffer, position));
+            } else {
+                pending.remove(id);
+            }
+            nextId = Math.max(nextId, id + 1);
+            position += RECORD_SIZE;
+        }
+    }
+
+    private void compact() throws IOException {
+        if (HEADER_SIZE + (long) (pending.size() + 1) * RECORD_SIZE > capacity) {
+            throw new IOException("Write-behind log is full with " + pending.size() + " pending transactions");
+        }
+        Path compacted = path.resolveSibling(path.getFileName() + ".compacting");
+        Files.deleteIfExists(compacted);
+        buffer = map(compacted, capacity);
+        writeHeader(buffer, nextId);
+        position = HEADER_SIZE;
+        for (Transaction transaction : pending.values()) {
+            write(position, transaction);
+        }
+        buffer.force();
+        Files.move(compacted, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private int checksum(MappedByteBuffer records, int offset, byte type) {
+        checksum.reset();
+        checksum.update(type);
+        checksum.update(records.slice(offset + 1, CHECKSUM_OFFSET - 1));
+        return (int) checksum.getValue();
+    }
+
+    private static Transaction read(MappedByteBuffer records, int offset) {
+        int beneficiaryId = records.getInt(offset + 12);
+        return Transaction.builder()
+                .status(STATUSES[records.get(offset + 1)])
+                .transactionId(records.getInt(offset + 4))
+                .senderId(records.getInt(offset + 8))
+                .beneficiaryId(beneficiaryId != NO_BENEFICIARY ? beneficiaryId : null)
+                .sendingPrincipal(records.getLong(offset + 16))
+                .payoutPrincipal(records.getLong(offset + 24))
+                .fees(records.getLong(offset + 32))
+                .commission(records.getLong(offset + 40))
+                .agentCommission(records.getLong(offset + 48))
+                .build();
+    }
+
+    private static void writeHeader(MappedByteBuffer header, int nextId) {
+        header.putInt(0, MAGIC);
+        header.putInt(4, VERSION);
+        header.putInt(NEXT_ID_OFFSET, nextId);
+    }
+
+    private static MappedByteBuffer map(Path path, int capacity) throws IOException {
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        }
+    }
+}
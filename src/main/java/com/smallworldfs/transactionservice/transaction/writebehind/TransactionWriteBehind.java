@@ -0,0 +1,359 @@
+package com.smallworldfs.transactionservice.transaction.writebehind;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.smallworldfs.starter.http.error.exception.HttpException;
+import com.smallworldfs.transactionservice.transaction.client.TransactionDataServiceClient;
+import com.smallworldfs.transactionservice.transaction.client.TransactionReader;
+import com.smallworldfs.transactionservice.transaction.entity.Transaction;
+import com.smallworldfs.transactionservice.transaction.entity.TransactionStatus;
+import com.smallworldfs.transactionservice.transaction.entity.TransactionSummary;
+import com.smallworldfs.transactionservice.transaction.properties.CoalescingProperties;
+import com.smallworldfs.transactionservice.transaction.properties.WriteBehindProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Accepts transactions locally and persists them in transaction-data-service in the background, in order per sender.
+ */
+@Slf4j
+@Component
+public class TransactionWriteBehind implements DisposableBean {
+
+    private final WriteBehindProperties properties;
+    private final int maxBatch;
+    private final TransactionDataServiceClient client;
+    private final TransactionReader reader;
+    private final TransactionLog transactionLog;
+    private final ScheduledExecutorService flusher;
+    private final ConcurrentMap<Integer, Transaction> pending = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Integer, SenderQueue> queues = new ConcurrentHashMap<>();
+    private final Set<Integer> maybePersisted = ConcurrentHashMap.newKeySet();
+    private final Cache<Integer, Transaction> unpersisted;
+    private final Path deadLetterFile;
+    private final Counter persisted;
+    private final Counter rejections;
+    private final Counter retries;
+    private final Counter deadLetters;
+
+    public TransactionWriteBehind(WriteBehindProperties properties, CoalescingProperties coalescingProperties,
+            TransactionDataServiceClient client, TransactionReader reader, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.maxBatch = coalescingProperties.isEnabled() ? Math.max(1, coalescingProperties.getMaxBatch()) : 1;
+        this.client = client;
+        this.reader = reader;
+        this.unpersisted = Caffeine.newBuilder().expireAfterWrite(properties.getRejectedRetention()).build();
+        this.deadLetterFile = properties.getDirectory().resolve("dead-letters.log");
+        this.persisted = outcome(meterRegistry, "persisted");
+        this.rejections = outcome(meterRegistry, "rejected");
+        this.retries = outcome(meterRegistry, "retried");
+        this.deadLetters = outcome(meterRegistry, "failed");
+        if (!properties.isEnabled()) {
+            this.transactionLog = null;
+            this.flusher = null;
+            return;
+        }
+        if (properties.getFirstId() == null || properties.getLastId() == null
+                || properties.getFirstId() <= 0 || properties.getFirstId() > properties.getLastId()) {
+            throw new IllegalStateException("transaction.write-behind.first-id and last-id must be set to a range of "
+                    + "ids reserved for this instance, got " + properties.getFirstId() + ".." + properties.getLastId());
+        }
+        try {
+            this.transactionLog = new TransactionLog(properties.getDirectory().resolve("transactions.log"),
+                    Math.toIntExact(properties.getLogCapacity().toBytes()), properties.isForce(),
+                    properties.getFirstId());
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Could not open the write-behind log", exception);
+        }
+        this.flusher = Executors.newScheduledThreadPool(properties.getThreads(),
+                new CustomizableThreadFactory("write-behind-"));
+        Gauge.builder("transaction.write-behind.pending", pending, ConcurrentMap::size)
+                .description("Transactions accepted but not yet persisted in transaction-data-service")
+                .register(meterRegistry);
+        for (Transaction transaction : transactionLog.pending()) {
+            pending.put(transaction.getTransactionId(), transaction);
+            maybePersisted.add(transaction.getTransactionId());
+            enqueue(transaction);
+        }
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Logs {@code transaction} durably and schedules its creation; callers must hold the sender's lock.
+     *
+     * @return the transaction as {@code ACCEPTED}
+     */
+    public Transaction accept(Transaction transaction) {
+        try {
+            transactionLog.awaitDurable(transactionLog.append(transaction, properties.getLastId()));
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Could not log the transaction", exception);
+        }
+        pending.put(transaction.getTransactionId(), transaction);
+        enqueue(transaction);
+        return withStatus(transaction, TransactionStatus.ACCEPTED);
+    }
+
+    /**
+     * @return the transaction as {@code ACCEPTED}, {@code REJECTED} or {@code FAILED}, or null once it is persisted
+     *     or unknown
+     */
+    public Transaction find(int id) {
+        Transaction transaction = pending.get(id);
+        if (transaction != null) {
+            return withStatus(transaction, TransactionStatus.ACCEPTED);
+        }
+        return unpersisted.getIfPresent(id);
+    }
+
+    /**
+     * Transactions of {@code senderId} that transaction-data-service does not know about yet.
+     */
+    public TransactionSummary pendingOf(int senderId) {
+        SenderQueue queue = queues.get(senderId);
+        return queue != null ? queue.summary() : TransactionSummary.EMPTY;
+    }
+
+    @Override
+    public void destroy() {
+        if (flusher != null) {
+            flusher.shutdownNow();
+            transactionLog.close();
+        }
+    }
+
+    private void enqueue(Transaction transaction) {
+        boolean[] idle = new boolean[1];
+        SenderQueue queue = queues.compute(transaction.getSenderId(), (senderId, current) -> {
+            SenderQueue target = current != null ? current : new SenderQueue(senderId);
+            idle[0] = target.offer(transaction);
+            return target;
+        });
+        if (idle[0]) {
+            flusher.execute(() -> drain(queue));
+        }
+    }
+
+    /**
+     * Sends the transactions of the sender in order, then drops its queue.
+     */
+    private void drain(SenderQueue queue) {
+        int oneByOne = 0;
+        while (true) {
+            List<Transaction> head = queue.peek(oneByOne > 0 ? 1 : maxBatch);
+            if (head.isEmpty()) {
+                if (queues.computeIfPresent(queue.senderId, (senderId, current) ->
+                        current == queue && queue.isEmpty() ? null : current) != queue) {
+                    return;
+                }
+                continue;
+            }
+            List<Transaction> batch = head.stream()
+                    .takeWhile(transaction -> !maybePersisted.contains(transaction.getTransactionId()))
+                    .toList();
+            if (batch.size() > 1) {
+                try {
+                    sendBatch(batch);
+                } catch (HttpException.BadRequest exception) {
+                    log.warn("transaction-data-service rejected a batch of {} accepted transactions, sending them one "
+                            + "by one", batch.size(), exception);
+                    oneByOne = batch.size();
+                    continue;
+                } catch (RuntimeException exception) {
+                    batch.forEach(transaction -> maybePersisted.add(transaction.getTransactionId()));
+                    if (retryLater(queue, batch.get(0), exception)) {
+                        return;
+                    }
+                    complete(batch.get(0));
+                    queue.poll(1);
+                    continue;
+                }
+                batch.forEach(this::complete);
+                queue.poll(batch.size());
+                continue;
+            }
+            Transaction transaction = head.get(0);
+            oneByOne = Math.max(0, oneByOne - 1);
+            try {
+                Transaction created = maybePersisted.contains(transaction.getTransactionId())
+                        ? findPersisted(transaction.getTransactionId()) : null;
+                reader.put(created != null ? created : client.createTransaction(transaction));
+                persisted.increment();
+            } catch (HttpException.BadRequest exception) {
+                log.warn("transaction-data-service rejected accepted transaction {}", transaction.getTransactionId(),
+                        exception);
+                unpersisted.put(transaction.getTransactionId(), withStatus(transaction, TransactionStatus.REJECTED));
+                rejections.increment();
+            } catch (RuntimeException exception) {
+                maybePersisted.add(transaction.getTransactionId());
+                if (retryLater(queue, transaction, exception)) {
+                    return;
+                }
+            }
+            complete(transaction);
+            queue.poll(1);
+        }
+    }
+
+    private void sendBatch(List<Transaction> batch) {
+        List<Transaction> created = client.createTransactions(batch);
+        if (created.size() != batch.size()) {
+            throw new IllegalStateException("transaction-data-service created " + created.size()
+                    + " transactions for a batch of " + batch.size());
+        }
+        created.forEach(reader::put);
+        persisted.increment(batch.size());
+    }
+
+    /**
+     * @return whether the drain of {@code queue} is rescheduled, or false once {@code head} is given up
+     */
+    private boolean retryLater(SenderQueue queue, Transaction head, RuntimeException exception) {
+        int failures = queue.failed();
+        if (failures < properties.getMaxAttempts()) {
+            long backoff = queue.backoffMillis(properties.getRetryBackoff().toMillis(),
+                    properties.getMaxRetryBackoff().toMillis());
+            retries.increment();
+            flusher.schedule(() -> drain(queue), backoff, TimeUnit.MILLISECONDS);
+            return true;
+        }
+        deadLetter(head, failures, exception);
+        return false;
+    }
+
+    private Transaction findPersisted(int id) {
+        try {
+            return client.getTransaction(id);
+        } catch (HttpException.NotFound exception) {
+            return null;
+        }
+    }
+
+    private void deadLetter(Transaction transaction, int failures, RuntimeException exception) {
+        log.error("Giving up transaction {} after {} attempts, it may or may not be in transaction-data-service",
+                transaction, failures, exception);
+        try {
+            Files.writeString(deadLetterFile, transaction + System.lineSeparator(), StandardOpenOption.CREATE,
+                    StandardOpenOption.APPEND);
+        } catch (IOException writeException) {
+            log.error("Could not write transaction {} to {}", transaction, deadLetterFile, writeException);
+        }
+        unpersisted.put(transaction.getTransactionId(), withStatus(transaction, TransactionStatus.FAILED));
+        deadLetters.increment();
+    }
+
+    private void complete(Transaction transaction) {
+        try {
+            transactionLog.complete(transaction.getTransactionId());
+        } catch (IOException exception) {
+            // the transaction is read back after a restart and looked up by id before it is sent again
+            log.error("Could not log completion of transaction {}", transaction.getTransactionId(), exception);
+        }
+        pending.remove(transaction.getTransactionId());
+        maybePersisted.remove(transaction.getTransactionId());
+    }
+
+    private static Transaction withStatus(Transaction transaction, TransactionStatus status) {
+        return Transaction.builder()
+                .transactionId(transaction.getTransactionId())
+                .sendingPrincipal(transaction.getSendingPrincipal())
+                .payoutPrincipal(transaction.getPayoutPrincipal())
+                .fees(transaction.getFees())
+                .commission(transaction.getCommission())
+                .agentCommission(transaction.getAgentCommission())
+                .senderId(transaction.getSenderId())
+                .beneficiaryId(transaction.getBeneficiaryId())
+                .status(status)
+                .build();
+    }
+
+    private static Counter outcome(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("transaction.write-behind.flushes")
+                .description("Attempts to persist accepted transactions in transaction-data-service")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Transactions of one sender in acceptance order; the head stays in the queue until it is persisted.
+     */
+    private static final class SenderQueue {
+
+        private final int senderId;
+        private final Deque<Transaction> transactions = new ArrayDeque<>();
+        private boolean draining;
+        private int failures;
+
+        SenderQueue(int senderId) {
+            this.senderId = senderId;
+        }
+
+        /**
+         * @return whether the caller must start draining the queue
+         */
+        synchronized boolean offer(Transaction transaction) {
+            transactions.addLast(transaction);
+            if (draining) {
+                return false;
+            }
+            draining = true;
+            return true;
+        }
+
+        synchronized List<Transaction> peek(int max) {
+            return transactions.stream().limit(max).toList();
+        }
+
+        synchronized boolean isEmpty() {
+            return transactions.isEmpty();
+        }
+
+        synchronized void poll(int count) {
+            for (int index = 0; index < count; index++) {
+                transactions.pollFirst();
+            }
+            failures = 0;
+        }
+
+        /**
+         * @return the failed attempts of the head of the queue, including this one
+         */
+        synchronized int failed() {
+            return ++failures;
+        }
+
+        synchronized long backoffMillis(long initial, long max) {
+            return Math.min(max, initial << Math.min(failures - 1, 20));
+        }
+
+        synchronized TransactionSummary summary() {
+            long sendingPrincipal = 0;
+            for (Transaction transaction : transactions) {
+                sendingPrincipal += transaction.getSendingPrincipal();
+            }
+            return new TransactionSummary(transactions.size(), sendingPrincipal);
+        }
+    }
+}
@@ -8,11 +8,11 @@ public class Transactions {
     public static Transaction newTransaction() {
         return Transaction.builder()
                 .transactionId(1)
-                .sendingPrincipal(100.0)
-                .payoutPrincipal(98.0)
-                .fees(2.0)
-                .commission(1.6)
-                .agentCommission(0.4)
+                .sendingPrincipal(10000L)
+                .payoutPrincipal(9800L)
+                .fees(200)
+                .commission(160)
+                .agentCommission(40)
                 .senderId(3)
                 .beneficiaryId(4)
                 .status(TransactionStatus.NEW)
@@ -21,11 +21,11 @@ public class Transactions {
 
     public static Transaction newTransactionWithoutId() {
         return Transaction.builder()
-                .sendingPrincipal(100.0)
-                .payoutPrincipal(98.0)
-                .fees(2.0)
-                .commission(1.6)
-                .agentCommission(0.4)
+                .sendingPrincipal(10000L)
+                .payoutPrincipal(9800L)
+                .fees(200)
+                .commission(160)
+                .agentCommission(40)
                 .senderId(3)
                 .beneficiaryId(4)
                 .status(TransactionStatus.NEW)
@@ -34,8 +34,8 @@ public class Transactions {
 
     public static TransactionDto newTransactionDto() {
         return TransactionDto.builder()
-                .sendingPrincipal(100.0)
-                .payoutPrincipal(98.0)
+                .sendingPrincipal(10000L)
+                .payoutPrincipal(9800L)
                 .senderId(3)
                 .beneficiaryId(4)
                 .build();
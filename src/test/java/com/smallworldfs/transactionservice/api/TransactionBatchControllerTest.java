@@ -0,0 +1,115 @@
+package com.smallworldfs.transactionservice.api;
+
+import static com.smallworldfs.starter.servicetest.error.ErrorDtoResultMatcher.errorDto;
+import static com.smallworldfs.transactionservice.Transactions.newTransaction;
+import static com.smallworldfs.transactionservice.transaction.error.TransactionIssue.TRANSACTION_EXCEEDS_SENDING_LIMIT;
+import static com.smallworldfs.transactionservice.transaction.error.TransactionIssue.TRANSACTION_NOT_FOUND;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.smallworldfs.error.model.FieldErrorDto;
+import com.smallworldfs.transactionservice.transaction.api.TransactionBatchController;
+import com.smallworldfs.transactionservice.transaction.service.TransactionBatchService;
+import com.smallworldfs.transactionservice.transaction.service.TransactionResult;
+import com.smallworldfs.transactionservice.transaction.service.TransactionService;
+import java.io.IOException;
+import java.util.List;
+import org.apache.commons.io.IOUtils;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+@WebMvcTest(controllers = TransactionBatchController.class)
+public class TransactionBatchControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private TransactionBatchService batchService;
+
+    @MockBean
+    private TransactionService service;
+
+
+    @Nested
+    class GetTransactions {
+
+        @Test
+        void returns_one_result_per_id_reporting_missing_ones() throws Exception {
+            when(service.getTransactions(List.of(1, 55))).thenReturn(List.of(
+                    TransactionResult.success(newTransaction()),
+                    TransactionResult.failure(TRANSACTION_NOT_FOUND.withParameters(55).asException())));
+
+            mockMvc.perform(MockMvcRequestBuilders.get("/transactions").param("ids", "1,55"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[0].transaction.transactionId", Matchers.equalTo(1)))
+                    .andExpect(jsonPath("$[1].errorCode", Matchers.equalTo("TRANSACTION_NOT_FOUND")))
+                    .andExpect(jsonPath("$[1].errorMessage",
+                            Matchers.equalTo("Transaction with id 55 could be not found.")));
+        }
+    }
+
+    @Test
+    void returns_one_result_per_transaction_in_request_order() throws Exception {
+        when(batchService.createTransactions(anyList())).thenReturn(List.of(
+                TransactionResult.success(newTransaction()),
+                TransactionResult.failure(TRANSACTION_EXCEEDS_SENDING_LIMIT.withParameters(3001.0).asException())));
+
+        post("transactions")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].transaction.transactionId", Matchers.equalTo(1)))
+                .andExpect(jsonPath("$[0].errorCode").doesNotExist())
+                .andExpect(jsonPath("$[1].transaction").doesNotExist())
+                .andExpect(jsonPath("$[1].errorCode", Matchers.equalTo("TRANSACTION_EXCEEDS_SENDING_LIMIT")))
+                .andExpect(jsonPath("$[1].errorMessage",
+                        Matchers.equalTo("Sending principal amount: 3,001 exceeds limit in single operation.")));
+    }
+
+    @Test
+    void returns_internal_error_for_transaction_failed_downstream() throws Exception {
+        when(batchService.createTransactions(anyList())).thenReturn(List.of(
+                TransactionResult.success(newTransaction()),
+                TransactionResult.failure(new IllegalStateException("connection reset"))));
+
+        post("transactions")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[1].errorCode", Matchers.equalTo("INTERNAL_ERROR")));
+    }
+
+    @Test
+    void return_400_when_transaction_without_sender_id() throws Exception {
+        post("withoutSenderId")
+                .andExpect(status().isBadRequest())
+                .andExpect(errorDto()
+                        .hasField(FieldErrorDto.builder()
+                                .path("transactions[0].senderId")
+                                .message("must not be null")
+                                .build()));
+    }
+
+    @Test
+    void return_400_when_batch_is_empty() throws Exception {
+        post("empty").andExpect(status().isBadRequest());
+    }
+
+    private ResultActions post(String jsonFile) throws Exception {
+        return mockMvc.perform(MockMvcRequestBuilders.post("/transactions/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(loadRequest("mvc/requests/batch/", jsonFile + ".json")));
+    }
+
+    private byte[] loadRequest(String path, String resource) throws IOException {
+        return IOUtils.toByteArray(new ClassPathResource(path + resource).getInputStream());
+    }
+}
@@ -8,6 +8,8 @@ import static com.smallworldfs.transactionservice.transaction.error.TransactionI
 import static com.smallworldfs.transactionservice.transaction.error.TransactionIssue.MIN_FEE_IS_TOO_SMALL;
 import static com.smallworldfs.transactionservice.transaction.error.TransactionIssue.TRANSACTION_EXCEEDS_SENDING_LIMIT;
 import static com.smallworldfs.transactionservice.transaction.error.TransactionIssue.TRANSACTION_NOT_FOUND;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -17,8 +19,18 @@ import com.smallworldfs.transactionservice.transaction.api.TransactionController
 import com.smallworldfs.transactionservice.transaction.api.mapper.TransactionDtoMapper;
 import com.smallworldfs.transactionservice.transaction.api.model.TransactionDto;
 import com.smallworldfs.transactionservice.transaction.entity.Transaction;
+import com.smallworldfs.transactionservice.transaction.entity.TransactionStatus;
+import com.smallworldfs.transactionservice.transaction.idempotency.IdempotencyStore;
+import com.smallworldfs.transactionservice.transaction.properties.IdempotencyProperties;
 import com.smallworldfs.transactionservice.transaction.service.TransactionService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import org.apache.commons.io.IOUtils;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Nested;
@@ -26,14 +38,20 @@ import org.junit.jupiter.api.Test;
 import org.mapstruct.factory.Mappers;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
 @WebMvcTest(controllers = TransactionController.class)
+@Import({IdempotencyStore.class, IdempotencyProperties.class, TransactionControllerTest.Metrics.class})
+@TestPropertySource(properties = "transaction.idempotency.wait-timeout=200ms")
 public class TransactionControllerTest {
 
     private final TransactionDtoMapper mapper = Mappers.getMapper(TransactionDtoMapper.class);
@@ -119,7 +137,7 @@ public class TransactionControllerTest {
         @Test
         void return_400_when_create_with_sending_is_less_payout() throws Exception {
             TransactionDto transactionDto = newTransactionDto();
-            transactionDto.setSendingPrincipal(50.0);
+            transactionDto.setSendingPrincipal(5000L);
             when(service.createTransaction(mapper.toModel(transactionDto))).thenThrow(
                     MIN_FEE_IS_TOO_SMALL.withParameters(100, 99.01, 1).asException());
 
@@ -134,7 +152,7 @@ public class TransactionControllerTest {
         @Test
         void return_400_when_create_with_limit_exceed() throws Exception {
             TransactionDto transactionDto = newTransactionDto();
-            transactionDto.setSendingPrincipal(3001.0);
+            transactionDto.setSendingPrincipal(300100L);
             when(service.createTransaction(mapper.toModel(transactionDto))).thenThrow(
                     TRANSACTION_EXCEEDS_SENDING_LIMIT.withParameters(3001.0).asException());
 
@@ -189,6 +207,63 @@ public class TransactionControllerTest {
                     .andExpect(jsonPath("$.status", Matchers.equalTo("NEW")));
         }
 
+        @Test
+        void return_202_when_transaction_is_accepted_for_write_behind() throws Exception {
+            Transaction accepted = newTransaction();
+            accepted.setStatus(TransactionStatus.ACCEPTED);
+            when(service.createTransaction(mapper.toModel(newTransactionDto()))).thenReturn(accepted);
+
+            post("correct", "transaction").andExpect(status().isAccepted())
+                    .andExpect(jsonPath("$.transactionId", Matchers.equalTo(1)))
+                    .andExpect(jsonPath("$.status", Matchers.equalTo("ACCEPTED")));
+        }
+
+        @Test
+        void replays_transaction_created_for_same_idempotency_key() throws Exception {
+            when(service.createTransaction(mapper.toModel(newTransactionDto()))).thenReturn(newTransaction());
+
+            post("correct", "transaction", "retried-key").andExpect(status().isOk());
+            post("correct", "transaction", "retried-key").andExpect(status().isOk())
+                    .andExpect(jsonPath("$.transactionId", Matchers.equalTo(1)));
+
+            verify(service, times(1)).createTransaction(mapper.toModel(newTransactionDto()));
+        }
+
+        @Test
+        void return_400_when_idempotency_key_is_reused_for_different_transaction() throws Exception {
+            when(service.createTransaction(mapper.toModel(newTransactionDto()))).thenReturn(newTransaction());
+            post("correct", "transaction", "reused-key").andExpect(status().isOk());
+
+            post("businessRules", "sendingPrincipalExceedLimit", "reused-key")
+                    .andExpect(status().isBadRequest())
+                    .andExpect(errorDto().hasType("REQUEST_ERROR").hasCode("IDEMPOTENCY_KEY_REUSED"));
+        }
+
+        @Test
+        void return_409_when_request_with_same_idempotency_key_is_in_progress() throws Exception {
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            when(service.createTransaction(mapper.toModel(newTransactionDto()))).thenAnswer(invocation -> {
+                started.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return newTransaction();
+            });
+            ExecutorService caller = Executors.newSingleThreadExecutor();
+            try {
+                Future<ResultActions> running = caller.submit(() -> post("correct", "transaction", "running-key"));
+                started.await(5, TimeUnit.SECONDS);
+
+                post("correct", "transaction", "running-key")
+                        .andExpect(status().isConflict())
+                        .andExpect(errorDto().hasType("CONFLICT").hasCode("IDEMPOTENCY_KEY_IN_PROGRESS"));
+                release.countDown();
+                running.get(5, TimeUnit.SECONDS).andExpect(status().isOk());
+            } finally {
+                release.countDown();
+                caller.shutdownNow();
+            }
+        }
+
         private void executePostWithoutAnyField(String field) throws Exception {
             post("specError/withoutField", field)
                     .andExpect(status().isBadRequest())
@@ -205,10 +280,24 @@ public class TransactionControllerTest {
                     .content(loadRequest("mvc/requests/" + directory + "/", jsonFile + ".json")));
         }
 
+        private ResultActions post(String directory, String jsonFile, String idempotencyKey) throws Exception {
+            return mockMvc.perform(MockMvcRequestBuilders.post("/transactions")
+                    .header(IdempotencyStore.HEADER, idempotencyKey)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(loadRequest("mvc/requests/" + directory + "/", jsonFile + ".json")));
+        }
+
         private byte[] loadRequest(String path, String resource) throws IOException {
             return IOUtils.toByteArray(new ClassPathResource(path + resource).getInputStream());
         }
     }
 
-}
+    @TestConfiguration
+    static class Metrics {
 
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.smallworldfs.transactionservice.business.compliance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.smallworldfs.transactionservice.transaction.business.compliance.ComplianceLimits;
+import com.smallworldfs.transactionservice.transaction.business.compliance.ComplianceLimitsHolder;
+import com.smallworldfs.transactionservice.transaction.business.compliance.LimitRules;
+import com.smallworldfs.transactionservice.transaction.business.compliance.SenderSnapshot;
+import com.smallworldfs.transactionservice.transaction.business.compliance.ValidationContext;
+import com.smallworldfs.transactionservice.transaction.properties.LimitsProperties;
+import com.smallworldfs.transactionservice.transaction.properties.TransactionProperties;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ComplianceLimitsHolderTest {
+
+    private final TransactionProperties properties = new TransactionProperties();
+    private final LimitsProperties limitsProperties = new LimitsProperties();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void requests_keep_the_limits_they_started_with() {
+        ComplianceLimitsHolder holder = new ComplianceLimitsHolder(properties, limitsProperties);
+        ValidationContext inFlight = ValidationContext.of(holder.current(), new SenderSnapshot(3, 0, 0));
+
+        holder.update(limits -> limits.toBuilder().maxOpenTransactions(8).build());
+
+        assertThat(inFlight.getLimits().getMaxOpenTransactions()).isEqualTo(5);
+        assertThat(holder.current().getMaxOpenTransactions()).isEqualTo(8);
+    }
+
+    @Test
+    void keeps_current_limits_when_change_is_invalid() {
+        ComplianceLimitsHolder holder = new ComplianceLimitsHolder(properties, limitsProperties);
+        ComplianceLimits current = holder.current();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> holder.update(limits -> limits.toBuilder().maxTransactionValue(0).build()));
+        assertThrows(IllegalArgumentException.class,
+                () -> holder.update(limits -> limits.toBuilder().daysLimitByPeriod(7).build()));
+
+        assertThat(holder.current()).isSameAs(current);
+    }
+
+    @Test
+    void reloads_limits_file_when_it_changes() throws IOException {
+        Path file = directory.resolve("limits.properties");
+        limitsProperties.setFile(file);
+        Files.writeString(file, "transaction.max-open-transactions=8\ntransaction.min-fee=1.50\n");
+
+        ComplianceLimitsHolder holder = new ComplianceLimitsHolder(properties, limitsProperties);
+
+        assertThat(holder.current().getMaxOpenTransactions()).isEqualTo(8);
+        assertThat(holder.current().getMinFee()).isEqualTo(150);
+        assertThat(holder.current().getMaxTransactionValue()).isEqualTo(300000);
+
+        Files.delete(file);
+        holder.reloadIfChanged();
+
+        assertThat(holder.current()).isEqualTo(ComplianceLimits.of(properties));
+    }
+
+    @Test
+    void ignores_limits_file_with_invalid_values() throws IOException {
+        Path file = directory.resolve("limits.properties");
+        limitsProperties.setFile(file);
+        Files.writeString(file, "transaction.max-open-transactions=-1\n");
+
+        ComplianceLimitsHolder holder = new ComplianceLimitsHolder(properties, limitsProperties);
+
+        assertThat(holder.current()).isEqualTo(ComplianceLimits.of(properties));
+    }
+
+    @Test
+    void reloads_rules_file_and_keeps_rules_when_limits_file_changes() throws IOException {
+        Path file = directory.resolve("limits.properties");
+        Path rulesFile = directory.resolve("limits.rules");
+        limitsProperties.setFile(file);
+        limitsProperties.setRulesFile(rulesFile);
+        Files.writeString(rulesFile, "sender,3,,,8,\n");
+
+        ComplianceLimitsHolder holder = new ComplianceLimitsHolder(properties, limitsProperties);
+
+        assertThat(holder.current().maxOpenTransactions(3)).isEqualTo(8);
+        assertThat(holder.current().maxOpenTransactions(4)).isEqualTo(5);
+
+        Files.writeString(file, "transaction.max-open-transactions=6\n");
+        holder.reloadIfChanged();
+
+        assertThat(holder.current().maxOpenTransactions(3)).isEqualTo(8);
+        assertThat(holder.current().maxOpenTransactions(4)).isEqualTo(6);
+
+        Files.delete(rulesFile);
+        holder.reloadIfChanged();
+
+        assertThat(holder.current().getRules()).isSameAs(LimitRules.NONE);
+    }
+}
@@ -0,0 +1,80 @@
+package com.smallworldfs.transactionservice.business.compliance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.smallworldfs.transactionservice.transaction.business.compliance.LimitRules;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class LimitRulesTest {
+
+    private static final long GLOBAL_VALUE = 300000;
+    private static final int GLOBAL_OPEN = 5;
+    private static final long GLOBAL_PERIOD = 500000;
+
+    private final LimitRules rules = LimitRules.parse(List.of(
+            "# level,key,tier,max-transaction-value,max-open-transactions,max-transaction-by-period",
+            "tier,gold,,5000,10,20000",
+            "sender,3,gold,,,",
+            "sender,7,gold,1000,,",
+            "sender,9,,,2,",
+            "",
+            "corridor,3:4,,500,,"));
+
+    @Test
+    void sender_rules_inherit_empty_cells_from_their_tier() {
+        assertThat(rules.maxTransactionValue(3, null, GLOBAL_VALUE)).isEqualTo(500000);
+        assertThat(rules.maxOpenTransactions(3, GLOBAL_OPEN)).isEqualTo(10);
+        assertThat(rules.maxTransactionByPeriod(3, GLOBAL_PERIOD)).isEqualTo(2000000);
+
+        assertThat(rules.maxTransactionValue(7, null, GLOBAL_VALUE)).isEqualTo(100000);
+        assertThat(rules.maxOpenTransactions(7, GLOBAL_OPEN)).isEqualTo(10);
+    }
+
+    @Test
+    void empty_cells_without_tier_fall_back_to_global_limits() {
+        assertThat(rules.maxOpenTransactions(9, GLOBAL_OPEN)).isEqualTo(2);
+        assertThat(rules.maxTransactionValue(9, 4, GLOBAL_VALUE)).isEqualTo(GLOBAL_VALUE);
+        assertThat(rules.maxTransactionByPeriod(9, GLOBAL_PERIOD)).isEqualTo(GLOBAL_PERIOD);
+
+        assertThat(rules.maxTransactionValue(1, 4, GLOBAL_VALUE)).isEqualTo(GLOBAL_VALUE);
+        assertThat(rules.maxOpenTransactions(1, GLOBAL_OPEN)).isEqualTo(GLOBAL_OPEN);
+    }
+
+    @Test
+    void corridor_rule_takes_precedence_over_sender_rule() {
+        assertThat(rules.maxTransactionValue(3, 4, GLOBAL_VALUE)).isEqualTo(50000);
+        assertThat(rules.maxTransactionValue(3, 5, GLOBAL_VALUE)).isEqualTo(500000);
+        assertThat(rules.maxTransactionValue(4, 3, GLOBAL_VALUE)).isEqualTo(GLOBAL_VALUE);
+    }
+
+    @Test
+    void no_rules_keep_global_limits() {
+        assertThat(LimitRules.NONE.maxTransactionValue(3, 4, GLOBAL_VALUE)).isEqualTo(GLOBAL_VALUE);
+        assertThat(LimitRules.NONE.maxOpenTransactions(3, GLOBAL_OPEN)).isEqualTo(GLOBAL_OPEN);
+        assertThat(LimitRules.NONE.maxTransactionByPeriod(3, GLOBAL_PERIOD)).isEqualTo(GLOBAL_PERIOD);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "sender,3,,,,",
+            "corridor,3:4,,500,2,",
+            "corridor,3,,500,,",
+            "sender,8,,-1,,",
+            "region,8,,1,,",
+            "sender,8,,1"})
+    void rejects_invalid_rules(String rule) {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> LimitRules.parse(List.of("sender,3,,,,", rule)));
+
+        assertThat(exception.getMessage()).startsWith("Invalid limit rule at line 2");
+    }
+
+    @Test
+    void rejects_sender_rule_of_unknown_tier() {
+        assertThrows(IllegalArgumentException.class, () -> LimitRules.parse(List.of("sender,8,silver,,,")));
+    }
+}
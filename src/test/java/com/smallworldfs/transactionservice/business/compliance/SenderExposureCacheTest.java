@@ -0,0 +1,97 @@
+package com.smallworldfs.transactionservice.business.compliance;
+
+import static com.smallworldfs.transactionservice.Transactions.newTransaction;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.smallworldfs.transactionservice.transaction.business.compliance.SenderExposureCache;
+import com.smallworldfs.transactionservice.transaction.business.compliance.SenderLedger;
+import com.smallworldfs.transactionservice.transaction.business.compliance.SenderSnapshot;
+import com.smallworldfs.transactionservice.transaction.business.compliance.SenderSnapshotLoader;
+import com.smallworldfs.transactionservice.transaction.properties.CacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class SenderExposureCacheTest {
+
+    @Mock
+    private SenderSnapshotLoader snapshotLoader;
+
+    @Mock
+    private SenderLedger ledger;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SenderExposureCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new SenderExposureCache(snapshotLoader, ledger, new CacheProperties(), meterRegistry);
+    }
+
+    @Test
+    void loads_sender_snapshot_only_once() {
+        when(snapshotLoader.load(3)).thenReturn(new SenderSnapshot(3, 20000, 2));
+
+        cache.get(3);
+        SenderSnapshot snapshot = cache.get(3);
+
+        assertThat(snapshot).isEqualTo(new SenderSnapshot(3, 20000, 2));
+        verify(snapshotLoader, times(1)).load(3);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void loads_outside_of_the_cache_so_a_slow_sender_does_not_block_others() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(snapshotLoader.load(3)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return new SenderSnapshot(3, 20000, 2);
+        });
+        when(snapshotLoader.load(4)).thenReturn(new SenderSnapshot(4, 0, 0));
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            Future<SenderSnapshot> first = callers.submit(() -> cache.get(3));
+            Future<SenderSnapshot> second = callers.submit(() -> cache.get(3));
+
+            assertThat(cache.get(4)).isEqualTo(new SenderSnapshot(4, 0, 0));
+            assertThat(cache.getIfPresent(3)).isEmpty();
+            release.countDown();
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(second.get(5, TimeUnit.SECONDS));
+            verify(snapshotLoader, times(1)).load(3);
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    void writes_created_transaction_through_to_cached_sender() {
+        when(snapshotLoader.load(3)).thenReturn(new SenderSnapshot(3, 20000, 2));
+        cache.get(3);
+
+        cache.recordAccepted(newTransaction());
+
+        assertThat(cache.get(3)).isEqualTo(new SenderSnapshot(3, 30000, 3));
+        verify(ledger).recordAccepted(newTransaction());
+    }
+
+    @Test
+    void ignores_created_transaction_of_sender_not_cached() {
+        cache.recordAccepted(newTransaction());
+        when(snapshotLoader.load(3)).thenReturn(new SenderSnapshot(3, 10000, 1));
+
+        assertThat(cache.get(3)).isEqualTo(new SenderSnapshot(3, 10000, 1));
+    }
+}
@@ -0,0 +1,156 @@
+package com.smallworldfs.transactionservice.business.compliance;
+
+import static com.smallworldfs.transactionservice.Transactions.newTransaction;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.smallworldfs.transactionservice.transaction.business.compliance.ComplianceLimitsHolder;
+import com.smallworldfs.transactionservice.transaction.business.compliance.SenderLedger;
+import com.smallworldfs.transactionservice.transaction.entity.Transaction;
+import com.smallworldfs.transactionservice.transaction.properties.LedgerProperties;
+import com.smallworldfs.transactionservice.transaction.properties.LimitsProperties;
+import com.smallworldfs.transactionservice.transaction.properties.TransactionProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.OptionalLong;
+import org.junit.jupiter.api.Test;
+
+public class SenderLedgerTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2023-03-01T10:00:00Z"));
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final LedgerProperties ledgerProperties = new LedgerProperties();
+    private final ComplianceLimitsHolder limitsHolder =
+            new ComplianceLimitsHolder(new TransactionProperties(), new LimitsProperties());
+    private final SenderLedger ledger = new SenderLedger(ledgerProperties, limitsHolder, clock, meterRegistry);
+
+    @Test
+    void tracks_sender_from_bootstrap_and_created_transactions() {
+        assertThat(ledger.periodSum(3)).isEmpty();
+
+        ledger.bootstrap(3, 100000);
+        ledger.recordAccepted(transaction(3, 10000));
+
+        assertThat(ledger.periodSum(3)).hasValue(110000);
+    }
+
+    @Test
+    void ignores_created_transactions_of_senders_not_tracked() {
+        ledger.recordAccepted(transaction(3, 10000));
+
+        assertThat(ledger.periodSum(3)).isEmpty();
+    }
+
+    @Test
+    void drops_days_that_leave_the_period() {
+        ledger.bootstrap(3, 100000);
+        clock.advance(Duration.ofDays(5));
+        ledger.recordAccepted(transaction(3, 10000));
+
+        clock.advance(Duration.ofDays(25));
+
+        assertThat(ledger.periodSum(3)).hasValue(10000);
+    }
+
+    @Test
+    void reconciles_sender_to_remote_period_sum_and_records_drift() {
+        ledger.bootstrap(3, 100000);
+        ledger.recordAccepted(transaction(3, 10000));
+
+        ledger.reconcile(3, () -> 40000);
+
+        assertThat(ledger.periodSum(3)).hasValue(40000);
+        assertThat(meterRegistry.get("transaction.ledger.drift").summary().max()).isEqualTo(700.0);
+    }
+
+    @Test
+    void keeps_transactions_created_while_remote_sum_is_loaded() {
+        ledger.bootstrap(3, 100000);
+
+        ledger.reconcile(3, () -> {
+            ledger.recordAccepted(transaction(3, 10000));
+            return 40000;
+        });
+
+        assertThat(ledger.periodSum(3)).hasValue(50000);
+    }
+
+    @Test
+    void revalidates_sender_close_to_its_period_limit_against_remote_sum() {
+        ledger.bootstrap(3, 390000);
+        ledger.recordAccepted(transaction(3, 20000));
+
+        assertThat(ledger.periodSum(3)).isEmpty();
+
+        ledger.recordAccepted(transaction(3, 5000));
+        assertThat(ledger.bootstrap(3, 450000)).isEqualTo(455000);
+        assertThat(meterRegistry.get("transaction.ledger.drift").summary().max()).isEqualTo(400.0);
+    }
+
+    @Test
+    void trusts_sender_below_revalidation_threshold() {
+        ledger.bootstrap(3, 390000);
+
+        assertThat(ledger.periodSum(3)).hasValue(390000);
+        assertThat(ledger.bootstrap(3, 0)).isEqualTo(390000);
+    }
+
+    @Test
+    void lists_senders_not_reconciled_recently_oldest_first() {
+        ledger.bootstrap(3, 0);
+        clock.advance(Duration.ofMinutes(5));
+        ledger.bootstrap(7, 0);
+        clock.advance(Duration.ofMinutes(5));
+        ledger.bootstrap(9, 0);
+
+        assertThat(ledger.sendersToReconcile(Duration.ofMinutes(5), 10)).containsExactly(3, 7);
+        assertThat(ledger.sendersToReconcile(Duration.ofMinutes(5), 1)).containsExactly(3);
+    }
+
+    @Test
+    void does_not_track_senders_when_disabled() {
+        ledgerProperties.setEnabled(false);
+        SenderLedger disabled = new SenderLedger(ledgerProperties, limitsHolder, clock, meterRegistry);
+
+        assertThat(disabled.bootstrap(3, 100000)).isEqualTo(100000);
+        assertThat(disabled.periodSum(3)).isEqualTo(OptionalLong.empty());
+    }
+
+    private static Transaction transaction(int senderId, long sendingPrincipal) {
+        Transaction transaction = newTransaction();
+        transaction.setSenderId(senderId);
+        transaction.setSendingPrincipal(sendingPrincipal);
+        return transaction;
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.smallworldfs.transactionservice.business.compliance;
+
+import static com.smallworldfs.transactionservice.Transactions.newTransaction;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.smallworldfs.starter.http.error.exception.HttpException;
+import com.smallworldfs.starter.httptest.exception.MockHttpException;
+import com.smallworldfs.transactionservice.transaction.business.compliance.ComplianceLimitsHolder;
+import com.smallworldfs.transactionservice.transaction.business.compliance.SenderLedger;
+import com.smallworldfs.transactionservice.transaction.business.compliance.SenderSnapshot;
+import com.smallworldfs.transactionservice.transaction.business.compliance.SenderSnapshotLoader;
+import com.smallworldfs.transactionservice.transaction.client.TransactionDataServiceClient;
+import com.smallworldfs.transactionservice.transaction.client.TransactionReader;
+import com.smallworldfs.transactionservice.transaction.concurrent.BlockingTaskExecutors;
+import com.smallworldfs.transactionservice.transaction.entity.Transaction;
+import com.smallworldfs.transactionservice.transaction.entity.TransactionStatus;
+import com.smallworldfs.transactionservice.transaction.entity.TransactionSummary;
+import com.smallworldfs.transactionservice.transaction.properties.ComplianceProperties;
+import com.smallworldfs.transactionservice.transaction.properties.LedgerProperties;
+import com.smallworldfs.transactionservice.transaction.properties.LimitsProperties;
+import com.smallworldfs.transactionservice.transaction.properties.ThreadingProperties;
+import com.smallworldfs.transactionservice.transaction.properties.TransactionProperties;
+import com.smallworldfs.transactionservice.transaction.properties.WriteBehindProperties;
+import com.smallworldfs.transactionservice.transaction.writebehind.TransactionWriteBehind;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class SenderSnapshotLoaderTest {
+
+    private final TransactionDataServiceClient client = mock(TransactionDataServiceClient.class);
+    private final TransactionProperties properties = new TransactionProperties();
+    private final SenderLedger ledger =
+            new SenderLedger(new LedgerProperties(), new ComplianceLimitsHolder(properties, new LimitsProperties()),
+                    Clock.systemUTC(), new SimpleMeterRegistry());
+    private final TransactionWriteBehind writeBehind = new TransactionWriteBehind(new WriteBehindProperties(),
+            new CoalescingProperties(), client, mock(TransactionReader.class), new SimpleMeterRegistry());
+    private final SenderSnapshotLoader loader = new SenderSnapshotLoader(client, properties,
+            new ComplianceProperties(), ledger, writeBehind, new BlockingTaskExecutors(new ThreadingProperties()));
+
+    @AfterEach
+    void shutdown() {
+        loader.destroy();
+    }
+
+    @Test
+    void returns_period_sum_and_open_count_of_sender() {
+        when(client.summarizeTransactionsBySenderIdWithPeriod(3, 30)).thenReturn(new TransactionSummary(3, 75000));
+        when(client.summarizeOpenTransactionsByUser(3, TransactionStatus.NEW))
+                .thenReturn(new TransactionSummary(2, 20000));
+
+        SenderSnapshot snapshot = loader.load(3);
+
+        assertThat(snapshot).isEqualTo(new SenderSnapshot(3, 75000, 2));
+    }
+
+    @Test
+    void takes_period_sum_of_tracked_sender_from_ledger() {
+        when(client.summarizeTransactionsBySenderIdWithPeriod(3, 30)).thenReturn(new TransactionSummary(3, 75000));
+        when(client.summarizeOpenTransactionsByUser(3, TransactionStatus.NEW))
+                .thenReturn(new TransactionSummary(2, 20000));
+        loader.load(3);
+        Transaction created = newTransaction();
+        created.setSendingPrincipal(5000);
+        ledger.recordAccepted(created);
+
+        SenderSnapshot snapshot = loader.load(3);
+
+        assertThat(snapshot).isEqualTo(new SenderSnapshot(3, 80000, 2));
+        verify(client, times(1)).summarizeTransactionsBySenderIdWithPeriod(3, 30);
+    }
+
+    @Test
+    void requests_period_history_and_open_transactions_concurrently() {
+        CountDownLatch bothRequested = new CountDownLatch(2);
+        when(client.summarizeTransactionsBySenderIdWithPeriod(3, 30)).thenAnswer(invocation -> {
+            awaitOther(bothRequested);
+            return TransactionSummary.EMPTY;
+        });
+        when(client.summarizeOpenTransactionsByUser(3, TransactionStatus.NEW)).thenAnswer(invocation -> {
+            awaitOther(bothRequested);
+            return TransactionSummary.EMPTY;
+        });
+
+        assertThat(loader.load(3)).isEqualTo(new SenderSnapshot(3, 0, 0));
+    }
+
+    @Test
+    void propagates_client_error() {
+        when(client.summarizeTransactionsBySenderIdWithPeriod(9999, 30)).thenThrow(MockHttpException.notFound());
+
+        assertThrows(HttpException.NotFound.class, () -> loader.load(9999));
+    }
+
+    private static void awaitOther(CountDownLatch bothRequested) throws InterruptedException {
+        bothRequested.countDown();
+        assertThat(bothRequested.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+}
@@ -1,77 +1,62 @@
 package com.smallworldfs.transactionservice.business.compliance;
 
 import static com.smallworldfs.error.issue.DefaultIssueType.REQUEST_ERROR;
-import static com.smallworldfs.transactionservice.Transactions.newTransaction;
 import static com.smallworldfs.transactionservice.Transactions.newTransactionDto;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.Mockito.when;
 
 import com.smallworldfs.error.exception.ApplicationException;
 import com.smallworldfs.transactionservice.transaction.api.mapper.TransactionDtoMapper;
 import com.smallworldfs.transactionservice.transaction.api.model.TransactionDto;
+import com.smallworldfs.transactionservice.transaction.business.compliance.ComplianceLimits;
+import com.smallworldfs.transactionservice.transaction.business.compliance.SenderSnapshot;
 import com.smallworldfs.transactionservice.transaction.business.compliance.SenderTransacionsValidator;
-import com.smallworldfs.transactionservice.transaction.client.TransactionDataServiceClient;
-import com.smallworldfs.transactionservice.transaction.entity.Transaction;
+import com.smallworldfs.transactionservice.transaction.business.compliance.ValidationContext;
+import com.smallworldfs.transactionservice.transaction.money.Money;
 import com.smallworldfs.transactionservice.transaction.properties.TransactionProperties;
-import java.util.Collections;
-import java.util.List;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
 import org.mapstruct.factory.Mappers;
-import org.mockito.InjectMocks;
-import org.mockito.Mock;
-import org.mockito.junit.jupiter.MockitoExtension;
 
-@ExtendWith(MockitoExtension.class)
 public class SenderTransactionsValidatorTest {
 
     private final TransactionDtoMapper mapper = Mappers.getMapper(TransactionDtoMapper.class);
-    @Mock
-    private TransactionProperties properties;
-    @Mock
-    private TransactionDataServiceClient client;
-    @InjectMocks
-    private SenderTransacionsValidator senderTransacionsValidator;
+    private final TransactionProperties properties = new TransactionProperties();
+    private final SenderTransacionsValidator senderTransacionsValidator = new SenderTransacionsValidator();
 
     private static final int PERIOD = 30;
 
 
     @Test
     void call_create_transaction_when_user_has_less_limit_by_period() {
-        whenProperties();
-        when(client.getTransactionsBySenderIdWithPeriod(3, PERIOD))
-                .thenReturn(createTransactionListWithTwoTransactions(2400));
+        properties.setMaxTransactionByPeriod(Money.valueOf("5000"));
         TransactionDto transactionDto = newTransactionDto();
 
 
         Assertions.assertDoesNotThrow(
-                () -> senderTransacionsValidator.validate(mapper.toModel(transactionDto)));
+                () -> senderTransacionsValidator.validate(mapper.toModel(transactionDto), contextWithSum(480000)));
     }
 
     @Test
     void call_create_transaction_when_user_has_equal_limit_by_period() {
-        whenProperties();
-        when(client.getTransactionsBySenderIdWithPeriod(3, 30))
-                .thenReturn(createTransactionListWithTwoTransactions(2450));
+        properties.setMaxTransactionByPeriod(Money.valueOf("5000"));
         TransactionDto transactionDto = newTransactionDto();
 
         Assertions.assertDoesNotThrow(
-                () -> senderTransacionsValidator.validate(mapper.toModel(transactionDto)));
+                () -> senderTransacionsValidator.validate(mapper.toModel(transactionDto), contextWithSum(490000)));
     }
 
     @Test
     void not_call_create_transaction_when_user_exceeds_limit_by_period() {
-        whenProperties();
-        when(client.getTransactionsBySenderIdWithPeriod(3, 30))
-                .thenReturn(createTransactionListWithTwoTransactions(2499));
+        properties.setMaxTransactionByPeriod(Money.valueOf("5000"));
+        properties.setDaysLimitByPeriod(PERIOD);
         TransactionDto transactionDto = newTransactionDto();
 
 
         ApplicationException exception =
                 assertThrows(ApplicationException.class,
-                        () -> senderTransacionsValidator.validate(mapper.toModel(transactionDto)));
+                        () -> senderTransacionsValidator.validate(mapper.toModel(transactionDto),
+                                contextWithSum(499800)));
 
         assertThat(exception)
                 .hasMessage(
@@ -79,15 +64,8 @@ public class SenderTransactionsValidatorTest {
                 .returns(REQUEST_ERROR, e -> e.getIssue().getType());
     }
 
-    private List<Transaction> createTransactionListWithTwoTransactions(double sendingPrincipal) {
-        Transaction transaction = newTransaction();
-        transaction.setSendingPrincipal(sendingPrincipal);
-        return Collections.nCopies(2, transaction);
-    }
-
-    private void whenProperties() {
-        when(properties.getMaxTransactionByPeriod()).thenReturn(5000.0);
-        when(properties.getDaysLimitByPeriod()).thenReturn(PERIOD);
+    private ValidationContext contextWithSum(long periodSum) {
+        return ValidationContext.of(ComplianceLimits.of(properties), new SenderSnapshot(3, periodSum, 0));
     }
 
 
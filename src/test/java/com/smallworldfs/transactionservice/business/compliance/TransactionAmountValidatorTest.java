@@ -4,37 +4,35 @@ import static com.smallworldfs.error.issue.DefaultIssueType.REQUEST_ERROR;
 import static com.smallworldfs.transactionservice.Transactions.newTransaction;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.Mockito.when;
 
 import com.smallworldfs.error.exception.ApplicationException;
+import com.smallworldfs.transactionservice.transaction.business.compliance.ComplianceLimits;
+import com.smallworldfs.transactionservice.transaction.business.compliance.LimitRules;
 import com.smallworldfs.transactionservice.transaction.business.compliance.TransactionAmountValidator;
+import com.smallworldfs.transactionservice.transaction.business.compliance.ValidationContext;
 import com.smallworldfs.transactionservice.transaction.entity.Transaction;
+import com.smallworldfs.transactionservice.transaction.money.Money;
 import com.smallworldfs.transactionservice.transaction.properties.TransactionProperties;
+import java.util.List;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
-import org.mockito.Mock;
-import org.mockito.junit.jupiter.MockitoExtension;
 
-@ExtendWith(MockitoExtension.class)
 public class TransactionAmountValidatorTest {
 
-    @Mock
-    private TransactionProperties properties;
+    private final TransactionProperties properties = new TransactionProperties();
 
-    @InjectMocks
-    private TransactionAmountValidator transactionAmountValidator;
+    private final TransactionAmountValidator transactionAmountValidator = new TransactionAmountValidator();
 
 
     @Test
     void throw_error_when_create_with_limit_exceed() {
-        when(properties.getMaxTransactionValue()).thenReturn(3000.0);
+        properties.setMaxTransactionValue(Money.valueOf("3000"));
         Transaction transaction = newTransaction();
-        transaction.setSendingPrincipal(3001.0);
+        transaction.setSendingPrincipal(300100);
 
         ApplicationException exception =
-                assertThrows(ApplicationException.class, () -> transactionAmountValidator.validate(transaction));
+                assertThrows(ApplicationException.class,
+                        () -> transactionAmountValidator.validate(transaction, localContext()));
 
         assertThat(exception).hasMessage("Sending principal amount: 3,001 exceeds limit in single operation.")
                 .returns(REQUEST_ERROR, e -> e.getIssue().getType());
@@ -42,11 +40,28 @@ public class TransactionAmountValidatorTest {
 
     @Test
     void call_create_transaction_when_fee_is_correct() {
-        when(properties.getMaxTransactionValue()).thenReturn(3000.0);
+        properties.setMaxTransactionValue(Money.valueOf("3000"));
         Transaction transaction = newTransaction();
 
         Assertions.assertDoesNotThrow(
-                () -> transactionAmountValidator.validate(transaction));
+                () -> transactionAmountValidator.validate(transaction, localContext()));
+    }
+
+    @Test
+    void throw_error_when_create_exceeds_limit_of_its_corridor() {
+        properties.setMaxTransactionValue(Money.valueOf("3000"));
+        Transaction transaction = newTransaction();
+        transaction.setSendingPrincipal(60000);
+        LimitRules rules = LimitRules.parse(List.of(
+                "corridor," + transaction.getSenderId() + ":" + transaction.getBeneficiaryId() + ",,500,,"));
+        ValidationContext context = ValidationContext.lazy(
+                ComplianceLimits.of(properties).toBuilder().rules(rules).build(), Assertions::fail);
+
+        assertThrows(ApplicationException.class, () -> transactionAmountValidator.validate(transaction, context));
+    }
+
+    private ValidationContext localContext() {
+        return ValidationContext.lazy(ComplianceLimits.of(properties), Assertions::fail);
     }
 
 }
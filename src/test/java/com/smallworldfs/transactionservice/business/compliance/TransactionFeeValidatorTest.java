@@ -7,9 +7,12 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.when;
 
 import com.smallworldfs.error.exception.ApplicationException;
+import com.smallworldfs.transactionservice.transaction.business.compliance.ComplianceLimits;
 import com.smallworldfs.transactionservice.transaction.business.compliance.TransactionFeeValidator;
+import com.smallworldfs.transactionservice.transaction.business.compliance.ValidationContext;
 import com.smallworldfs.transactionservice.transaction.business.pricing.Pricing;
 import com.smallworldfs.transactionservice.transaction.entity.Transaction;
+import com.smallworldfs.transactionservice.transaction.money.Money;
 import com.smallworldfs.transactionservice.transaction.properties.TransactionProperties;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -21,8 +24,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @ExtendWith(MockitoExtension.class)
 public class TransactionFeeValidatorTest {
 
-    @Mock
-    private TransactionProperties properties;
+    private final TransactionProperties properties = new TransactionProperties();
     @Mock
     private Pricing pricing;
     @InjectMocks
@@ -31,27 +33,61 @@ public class TransactionFeeValidatorTest {
 
     @Test
     void throw_error_when_create_with_sending_is_less_minimum() {
-        when(properties.getMinFee()).thenReturn(1.0);
+        properties.setMinFee(Money.valueOf("1"));
         Transaction transaction = newTransaction();
-        transaction.setPayoutPrincipal(99.01);
-        when(pricing.calculateFee(transaction)).thenReturn(0.99);
+        transaction.setPayoutPrincipal(9901);
+        when(pricing.calculateFee(transaction)).thenReturn(99L);
 
         ApplicationException exception =
-                assertThrows(ApplicationException.class, () -> transactionFeeValidator.validate(transaction));
+                assertThrows(ApplicationException.class,
+                        () -> transactionFeeValidator.validate(transaction, localContext()));
 
         assertThat(exception)
                 .hasMessage("The difference between sending (100) and payout (99.01) must be at least 1$")
                 .returns(REQUEST_ERROR, e -> e.getIssue().getType());
     }
 
+    @Test
+    void throw_error_when_difference_does_not_cover_fee_of_the_schedule() {
+        properties.setMinFee(Money.valueOf("1"));
+        Transaction transaction = newTransaction();
+        when(pricing.calculateFee(transaction)).thenReturn(250L);
+
+        ApplicationException exception =
+                assertThrows(ApplicationException.class,
+                        () -> transactionFeeValidator.validate(transaction, localContext()));
+
+        assertThat(exception)
+                .hasMessage("The difference between sending (100) and payout (98) must be the fee of 2.5$");
+    }
+
+    @Test
+    void throw_error_when_difference_exceeds_fee_of_the_schedule() {
+        properties.setMinFee(Money.valueOf("1"));
+        Transaction transaction = newTransaction();
+        when(pricing.calculateFee(transaction)).thenReturn(150L);
+
+        ApplicationException exception =
+                assertThrows(ApplicationException.class,
+                        () -> transactionFeeValidator.validate(transaction, localContext()));
+
+        assertThat(exception)
+                .hasMessage("The difference between sending (100) and payout (98) must be the fee of 1.5$")
+                .returns(REQUEST_ERROR, e -> e.getIssue().getType());
+    }
+
     @Test
     void call_create_transaction_when_fee_is_correct() {
-        when(properties.getMinFee()).thenReturn(1.0);
+        properties.setMinFee(Money.valueOf("1"));
         Transaction transaction = newTransaction();
-        when(pricing.calculateFee(transaction)).thenReturn(1.0);
+        when(pricing.calculateFee(transaction)).thenReturn(200L);
 
         Assertions.assertDoesNotThrow(
-                () -> transactionFeeValidator.validate(transaction));
+                () -> transactionFeeValidator.validate(transaction, localContext()));
+    }
+
+    private ValidationContext localContext() {
+        return ValidationContext.lazy(ComplianceLimits.of(properties), Assertions::fail);
     }
 
 }
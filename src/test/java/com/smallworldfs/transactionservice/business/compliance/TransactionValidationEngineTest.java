@@ -0,0 +1,122 @@
+package com.smallworldfs.transactionservice.business.compliance;
+
+import static com.smallworldfs.transactionservice.Transactions.newTransaction;
+import static com.smallworldfs.transactionservice.transaction.error.TransactionIssue.TRANSACTION_EXCEEDS_SENDING_LIMIT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.smallworldfs.error.exception.ApplicationException;
+import com.smallworldfs.transactionservice.transaction.business.compliance.ComplianceLimitsHolder;
+import com.smallworldfs.transactionservice.transaction.business.compliance.SenderExposureCache;
+import com.smallworldfs.transactionservice.transaction.business.compliance.SenderSnapshot;
+import com.smallworldfs.transactionservice.transaction.business.compliance.TransactionValidationEngine;
+import com.smallworldfs.transactionservice.transaction.business.compliance.TransactionValidator;
+import com.smallworldfs.transactionservice.transaction.business.compliance.ValidationContext;
+import com.smallworldfs.transactionservice.transaction.entity.Transaction;
+import com.smallworldfs.transactionservice.transaction.properties.LimitsProperties;
+import com.smallworldfs.transactionservice.transaction.properties.TransactionProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+public class TransactionValidationEngineTest {
+
+    private final TransactionValidator localValidator = mock(TransactionValidator.class);
+    private final TransactionValidator firstSenderValidator = mock(TransactionValidator.class);
+    private final TransactionValidator secondSenderValidator = mock(TransactionValidator.class);
+    private final SenderExposureCache exposureCache = mock(SenderExposureCache.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final TransactionValidationEngine engine = new TransactionValidationEngine(
+            List.of(localValidator, firstSenderValidator, secondSenderValidator), exposureCache,
+            new ComplianceLimitsHolder(new TransactionProperties(), new LimitsProperties()), meterRegistry);
+
+    @Test
+    void does_not_load_sender_snapshot_when_local_validator_fails() {
+        Transaction transaction = newTransaction();
+        doThrow(TRANSACTION_EXCEEDS_SENDING_LIMIT.withParameters(3001.0).asException()).when(localValidator)
+                .validate(any(), any());
+
+        assertThrows(ApplicationException.class, () -> engine.validate(transaction, engine.newContext(3)));
+
+        verifyNoInteractions(exposureCache, firstSenderValidator, secondSenderValidator);
+    }
+
+    @Test
+    void counts_rejections_per_issue_and_times_each_validator() {
+        Transaction transaction = newTransaction();
+        doThrow(TRANSACTION_EXCEEDS_SENDING_LIMIT.withParameters(3001.0).asException()).when(localValidator)
+                .validate(any(), any());
+
+        assertThrows(ApplicationException.class, () -> engine.validate(transaction, engine.newContext(3)));
+
+        assertThat(meterRegistry.get("transaction.validation.rejections")
+                .tag("issue", "TRANSACTION_EXCEEDS_SENDING_LIMIT").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("transaction.validation").tag("outcome", "reject").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("transaction.validation").tag("outcome", "pass").timer().count()).isZero();
+    }
+
+    @Test
+    void loads_sender_snapshot_once_for_all_validators() {
+        when(exposureCache.get(3)).thenReturn(new SenderSnapshot(3, 0, 0));
+        doAnswer(invocation -> invocation.getArgument(1, ValidationContext.class).getSenderSnapshot())
+                .when(firstSenderValidator).validate(any(), any());
+        doAnswer(invocation -> invocation.getArgument(1, ValidationContext.class).getSenderSnapshot())
+                .when(secondSenderValidator).validate(any(), any());
+
+        engine.validate(newTransaction(), engine.newContext(3));
+
+        verify(exposureCache, times(1)).get(3);
+    }
+
+    @Test
+    void fails_when_validator_reads_sender_snapshot_without_requiring_it() {
+        when(firstSenderValidator.requiresSenderSnapshot()).thenReturn(true);
+        doAnswer(invocation -> invocation.getArgument(1, ValidationContext.class).getSenderSnapshot())
+                .when(localValidator).validate(any(), any());
+        Transaction transaction = newTransaction();
+
+        Mono<ValidationContext> validation = engine.validate(transaction, Mono.just(new SenderSnapshot(3, 0, 0)));
+
+        assertThrows(IllegalStateException.class, validation::block);
+        verifyNoInteractions(firstSenderValidator, secondSenderValidator);
+    }
+
+    @Test
+    void does_not_subscribe_to_sender_snapshot_when_local_validator_fails() {
+        when(firstSenderValidator.requiresSenderSnapshot()).thenReturn(true);
+        doThrow(TRANSACTION_EXCEEDS_SENDING_LIMIT.withParameters(3001.0).asException()).when(localValidator)
+                .validate(any(), any());
+        AtomicBoolean subscribed = new AtomicBoolean();
+
+        Mono<ValidationContext> validation = engine.validate(newTransaction(),
+                Mono.fromSupplier(() -> new SenderSnapshot(3, 0, 0)).doOnSubscribe(s -> subscribed.set(true)));
+
+        assertThrows(ApplicationException.class, validation::block);
+        assertThat(subscribed).isFalse();
+        verifyNoInteractions(firstSenderValidator, secondSenderValidator);
+    }
+
+    @Test
+    void shares_emitted_sender_snapshot_with_remaining_validators() {
+        when(firstSenderValidator.requiresSenderSnapshot()).thenReturn(true);
+        Transaction transaction = newTransaction();
+
+        ValidationContext context = engine.validate(transaction, Mono.just(new SenderSnapshot(3, 1000, 1))).block();
+
+        assertThat(context.getSenderSnapshot()).isEqualTo(new SenderSnapshot(3, 1000, 1));
+        verify(firstSenderValidator).validate(transaction, context);
+        verify(secondSenderValidator).validate(transaction, context);
+    }
+}
@@ -0,0 +1,81 @@
+package com.smallworldfs.transactionservice.business.pricing;
+
+import static com.smallworldfs.transactionservice.Transactions.newTransaction;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.smallworldfs.transactionservice.transaction.business.pricing.FeeSchedule;
+import com.smallworldfs.transactionservice.transaction.entity.Transaction;
+import com.smallworldfs.transactionservice.transaction.money.Money;
+import com.smallworldfs.transactionservice.transaction.money.Rate;
+import com.smallworldfs.transactionservice.transaction.properties.PricingProperties;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class FeeScheduleTest {
+
+    private static final Rate GLOBAL_COMMISSION = Rate.valueOf("0.2");
+
+    private final PricingProperties properties = new PricingProperties();
+
+    @Test
+    void charges_difference_between_sending_and_payout_without_bands() {
+        FeeSchedule schedule = FeeSchedule.compile(properties);
+
+        assertThat(schedule.fee(transaction(10000, 9800))).isEqualTo(200);
+    }
+
+    @Test
+    void charges_fixed_fee_plus_rate_of_the_band_of_the_principal() {
+        properties.setBands(List.of(band("1000", "5", "0.01"), band("0", "2", "0.02"), band("100", "3", "0.015")));
+        FeeSchedule schedule = FeeSchedule.compile(properties);
+
+        assertThat(schedule.fee(transaction(5000, 0))).isEqualTo(300);
+        assertThat(schedule.fee(transaction(10000, 0))).isEqualTo(450);
+        assertThat(schedule.fee(transaction(99999, 0))).isEqualTo(1800);
+        assertThat(schedule.fee(transaction(100000, 0))).isEqualTo(1500);
+    }
+
+    @Test
+    void uses_agent_commission_of_the_corridor_when_it_has_one() {
+        properties.setCorridorAgentCommission(Map.of("3:4", Rate.valueOf("0.25")));
+        FeeSchedule schedule = FeeSchedule.compile(properties);
+        Transaction otherCorridor = newTransaction();
+        otherCorridor.setBeneficiaryId(5);
+
+        assertThat(schedule.agentCommission(newTransaction(), GLOBAL_COMMISSION)).isEqualTo(Rate.valueOf("0.25"));
+        assertThat(schedule.agentCommission(otherCorridor, GLOBAL_COMMISSION)).isSameAs(GLOBAL_COMMISSION);
+    }
+
+    @Test
+    void rejects_invalid_schedules() {
+        properties.setBands(List.of(band("100", "0", "0.01")));
+        assertThrows(IllegalArgumentException.class, () -> FeeSchedule.compile(properties));
+
+        properties.setBands(List.of(band("0", "0", "0.01"), band("0", "1", "0.01")));
+        assertThrows(IllegalArgumentException.class, () -> FeeSchedule.compile(properties));
+
+        properties.setBands(List.of(band("0", "0", "1.5")));
+        assertThrows(IllegalArgumentException.class, () -> FeeSchedule.compile(properties));
+
+        properties.setBands(List.of());
+        properties.setCorridorAgentCommission(Map.of("3", Rate.valueOf("0.25")));
+        assertThrows(IllegalArgumentException.class, () -> FeeSchedule.compile(properties));
+    }
+
+    private static PricingProperties.Band band(String from, String fixedFee, String rate) {
+        PricingProperties.Band band = new PricingProperties.Band();
+        band.setFrom(Money.valueOf(from));
+        band.setFixedFee(Money.valueOf(fixedFee));
+        band.setRate(Rate.valueOf(rate));
+        return band;
+    }
+
+    private static Transaction transaction(long sendingPrincipal, long payoutPrincipal) {
+        Transaction transaction = newTransaction();
+        transaction.setSendingPrincipal(sendingPrincipal);
+        transaction.setPayoutPrincipal(payoutPrincipal);
+        return transaction;
+    }
+}
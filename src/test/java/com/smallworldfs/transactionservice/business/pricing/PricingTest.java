@@ -3,45 +3,89 @@ package com.smallworldfs.transactionservice.business.pricing;
 import static com.smallworldfs.transactionservice.Transactions.newTransactionDto;
 import static com.smallworldfs.transactionservice.Transactions.newTransactionWithoutId;
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import com.smallworldfs.transactionservice.transaction.api.mapper.TransactionDtoMapper;
+import com.smallworldfs.transactionservice.transaction.business.compliance.ComplianceLimits;
+import com.smallworldfs.transactionservice.transaction.business.compliance.TransactionFeeValidator;
+import com.smallworldfs.transactionservice.transaction.business.compliance.ValidationContext;
 import com.smallworldfs.transactionservice.transaction.business.pricing.Pricing;
 import com.smallworldfs.transactionservice.transaction.entity.Transaction;
+import com.smallworldfs.transactionservice.transaction.money.Rate;
+import com.smallworldfs.transactionservice.transaction.properties.PricingProperties;
 import com.smallworldfs.transactionservice.transaction.properties.TransactionProperties;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
 import org.mapstruct.factory.Mappers;
-import org.mockito.InjectMocks;
-import org.mockito.Mock;
-import org.mockito.junit.jupiter.MockitoExtension;
 
-@ExtendWith(MockitoExtension.class)
 public class PricingTest {
 
     private final TransactionDtoMapper mapper = Mappers.getMapper(TransactionDtoMapper.class);
 
-    @Mock
-    private TransactionProperties properties;
-
-    @InjectMocks
-    private Pricing pricing;
+    private final TransactionProperties properties = new TransactionProperties();
+    private final Pricing pricing = new Pricing(new PricingProperties());
 
 
     @Test
     void calculateFeeWithTransaction() {
         Transaction transaction = mapper.toModel(newTransactionDto());
-        assertEquals(2, pricing.calculateFee(transaction));
+        assertEquals(200, pricing.calculateFee(transaction));
     }
 
     @Test
     void calculateFieldsWithTransaction() {
-        when(properties.getAgentCommission()).thenReturn(0.2);
+        properties.setAgentCommission(Rate.valueOf("0.2"));
 
         Transaction transaction = mapper.toModel(newTransactionDto());
-        pricing.setCalculatedFields(transaction);
+        pricing.setCalculatedFields(transaction, ComplianceLimits.of(properties));
 
         assertEquals(newTransactionWithoutId(), transaction);
     }
 
+    @Test
+    void priceBatchOfTransactions() {
+        properties.setAgentCommission(Rate.valueOf("0.2"));
+        List<Transaction> transactions =
+                List.of(mapper.toModel(newTransactionDto()), mapper.toModel(newTransactionDto()));
+
+        pricing.price(transactions, ValidationContext.lazy(ComplianceLimits.of(properties), Assertions::fail));
+
+        assertEquals(List.of(newTransactionWithoutId(), newTransactionWithoutId()), transactions);
+    }
+
+    @Test
+    void reuseFeesComputedWhileValidatingBatch() {
+        Pricing spied = spy(pricing);
+        Transaction first = mapper.toModel(newTransactionDto());
+        Transaction second = mapper.toModel(newTransactionDto());
+        second.setSendingPrincipal(10100);
+        ValidationContext context = ValidationContext.lazy(ComplianceLimits.of(properties), Assertions::fail);
+
+        TransactionFeeValidator validator = new TransactionFeeValidator(spied);
+        validator.validate(first, context);
+        validator.validate(second, context);
+        spied.price(List.of(first, second), context);
+
+        verify(spied, times(1)).calculateFee(first);
+        verify(spied, times(1)).calculateFee(second);
+        assertEquals(200, first.getFees());
+        assertEquals(300, second.getFees());
+    }
+
+    @Test
+    void reuseFeeComputedWhileValidating() {
+        Pricing spied = spy(pricing);
+        Transaction transaction = mapper.toModel(newTransactionDto());
+        ValidationContext context = ValidationContext.lazy(ComplianceLimits.of(properties), Assertions::fail);
+
+        new TransactionFeeValidator(spied).validate(transaction, context);
+        spied.setCalculatedFields(transaction, context);
+
+        verify(spied, times(1)).calculateFee(transaction);
+        assertEquals(200, transaction.getFees());
+    }
+
 }
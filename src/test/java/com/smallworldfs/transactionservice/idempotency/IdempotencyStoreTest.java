@@ -0,0 +1,147 @@
+package com.smallworldfs.transactionservice.idempotency;
+
+import static com.smallworldfs.transactionservice.Transactions.newTransactionDto;
+import static com.smallworldfs.transactionservice.transaction.error.TransactionIssue.IDEMPOTENCY_KEY_IN_PROGRESS;
+import static com.smallworldfs.transactionservice.transaction.error.TransactionIssue.IDEMPOTENCY_KEY_REUSED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.smallworldfs.error.exception.ApplicationException;
+import com.smallworldfs.transactionservice.transaction.api.model.TransactionDto;
+import com.smallworldfs.transactionservice.transaction.idempotency.IdempotencyStore;
+import com.smallworldfs.transactionservice.transaction.properties.IdempotencyProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+public class IdempotencyStoreTest {
+
+    private final IdempotencyStore store = new IdempotencyStore(new IdempotencyProperties(), new SimpleMeterRegistry());
+    private final AtomicInteger creations = new AtomicInteger();
+
+    @Test
+    void replays_created_transaction_for_same_key() {
+        TransactionDto first = store.execute("key", newTransactionDto(), this::create);
+        TransactionDto replayed = store.execute("key", newTransactionDto(), this::create);
+
+        assertThat(replayed).isSameAs(first);
+        assertThat(creations).hasValue(1);
+    }
+
+    @Test
+    void creates_every_request_without_key() {
+        store.execute(null, newTransactionDto(), this::create);
+        store.execute(null, newTransactionDto(), this::create);
+
+        assertThat(creations).hasValue(2);
+    }
+
+    @Test
+    void rejects_key_reused_for_different_transaction() {
+        store.execute("key", newTransactionDto(), this::create);
+        TransactionDto other = newTransactionDto();
+        other.setSenderId(7);
+
+        ApplicationException exception =
+                assertThrows(ApplicationException.class, () -> store.execute("key", other, this::create));
+
+        assertThat(exception.getIssue()).isEqualTo(IDEMPOTENCY_KEY_REUSED);
+        assertThat(creations).hasValue(1);
+    }
+
+    @Test
+    void forgets_failed_creation_so_it_can_be_retried() {
+        assertThrows(IllegalStateException.class, () -> store.execute("key", newTransactionDto(), () -> {
+            throw new IllegalStateException("timeout");
+        }));
+
+        store.execute("key", newTransactionDto(), this::create);
+
+        assertThat(creations).hasValue(1);
+    }
+
+    @Test
+    void forgets_creation_that_failed_with_an_error() {
+        assertThrows(AssertionError.class, () -> store.execute("key", newTransactionDto(), () -> {
+            throw new AssertionError("out of memory");
+        }));
+
+        store.execute("key", newTransactionDto(), this::create);
+
+        assertThat(creations).hasValue(1);
+    }
+
+    @Test
+    void duplicate_gives_up_waiting_for_first_request_after_wait_timeout() throws Exception {
+        IdempotencyProperties properties = new IdempotencyProperties();
+        properties.setWaitTimeout(Duration.ofMillis(50));
+        IdempotencyStore store = new IdempotencyStore(properties, new SimpleMeterRegistry());
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<TransactionDto> first = CompletableFuture.supplyAsync(
+                () -> store.execute("key", newTransactionDto(), () -> {
+                    started.countDown();
+                    await(release);
+                    return create();
+                }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        ApplicationException exception = assertThrows(ApplicationException.class,
+                () -> store.execute("key", newTransactionDto(), this::create));
+
+        assertThat(exception.getIssue()).isEqualTo(IDEMPOTENCY_KEY_IN_PROGRESS);
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void duplicate_in_flight_waits_for_first_result() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<TransactionDto> first = CompletableFuture.supplyAsync(
+                () -> store.execute("key", newTransactionDto(), () -> {
+                    started.countDown();
+                    await(release);
+                    return create();
+                }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<TransactionDto> duplicate = CompletableFuture.supplyAsync(
+                () -> store.execute("key", newTransactionDto(), this::create));
+        release.countDown();
+
+        assertThat(duplicate.get(5, TimeUnit.SECONDS)).isSameAs(first.get(5, TimeUnit.SECONDS));
+        assertThat(creations).hasValue(1);
+    }
+
+    @Test
+    void replays_asynchronous_creation() {
+        TransactionDto first = store.executeAsync("key", newTransactionDto(), () -> Mono.fromSupplier(this::create))
+                .block();
+        TransactionDto replayed =
+                store.executeAsync("key", newTransactionDto(), () -> Mono.fromSupplier(this::create)).block();
+
+        assertThat(replayed).isSameAs(first);
+        assertThat(creations).hasValue(1);
+    }
+
+    private TransactionDto create() {
+        creations.incrementAndGet();
+        TransactionDto created = newTransactionDto();
+        created.setTransactionId(1);
+        return created;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
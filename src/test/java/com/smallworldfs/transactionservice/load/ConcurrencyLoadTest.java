@@ -0,0 +1,68 @@
+package com.smallworldfs.transactionservice.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * Opens a burst of concurrent requests, each blocked on a slow transaction-data-service, and measures how many the
+ * service keeps in flight at once (Little's law: requests x downstream latency / elapsed time).
+ */
+@Tag("load")
+abstract class ConcurrencyLoadTest {
+
+    static final int TOMCAT_MAX_THREADS = 50;
+    private static final int REQUESTS = 1000;
+    private static final int DOWNSTREAM_LATENCY_MILLIS = 200;
+    private static final TransactionDataServiceStub STUB = new TransactionDataServiceStub(DOWNSTREAM_LATENCY_MILLIS);
+
+    @LocalServerPort
+    private int port;
+
+    @DynamicPropertySource
+    static void stubProperties(DynamicPropertyRegistry registry) {
+        registry.add("transaction-data-service.url", STUB::url);
+        registry.add("server.tomcat.threads.max", () -> TOMCAT_MAX_THREADS);
+    }
+
+    @AfterAll
+    static void stopStub() {
+        STUB.stop();
+    }
+
+    @Test
+    void keeps_requests_in_flight_while_downstream_is_slow() {
+        HttpClient httpClient = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build();
+
+        long start = System.nanoTime();
+        List<CompletableFuture<HttpResponse<Void>>> responses = IntStream.range(0, REQUESTS)
+                .mapToObj(id -> httpClient.sendAsync(
+                        HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/transactions/" + id)).build(),
+                        HttpResponse.BodyHandlers.discarding()))
+                .toList();
+        CompletableFuture.allOf(responses.toArray(CompletableFuture[]::new)).join();
+        double elapsedMillis = (System.nanoTime() - start) / 1_000_000.0;
+
+        double concurrency = REQUESTS * DOWNSTREAM_LATENCY_MILLIS / elapsedMillis;
+        System.out.printf("%s: %d requests in %.0f ms, %.0f req/s, %.0f concurrent requests, heap used %d MB%n",
+                getClass().getSimpleName(), REQUESTS, elapsedMillis, REQUESTS * 1000 / elapsedMillis, concurrency,
+                (Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory()) / (1024 * 1024));
+        assertThat(responses).allSatisfy(response -> assertThat(response.join().statusCode()).isEqualTo(200));
+        assertConcurrency(concurrency);
+    }
+
+    abstract void assertConcurrency(double concurrency);
+}
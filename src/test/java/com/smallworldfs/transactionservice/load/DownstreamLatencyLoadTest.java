@@ -0,0 +1,62 @@
+package com.smallworldfs.transactionservice.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * Holds the request rate and injects growing transaction-data-service latency, showing how latency, throughput and
+ * errors of the service degrade when its dependency slows down.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class DownstreamLatencyLoadTest {
+
+    private static final TransactionDataServiceStub STUB = new TransactionDataServiceStub();
+
+    private final LoadGenerator generator = new LoadGenerator();
+
+    @LocalServerPort
+    private int port;
+
+    @DynamicPropertySource
+    static void stubProperties(DynamicPropertyRegistry registry) {
+        registry.add("transaction-data-service.url", STUB::url);
+    }
+
+    @AfterAll
+    static void stopStub() {
+        STUB.stop();
+    }
+
+    @Test
+    void reports_degradation_under_downstream_latency() {
+        TransactionRequests requests = new TransactionRequests(port, LoadSettings.rejectRatio());
+        int rate = LoadSettings.degradationRate();
+        generator.run("warmup GET", rate, LoadSettings.warmupDuration(), requests::get);
+        generator.run("warmup POST", rate, LoadSettings.warmupDuration(), requests::post);
+
+        List<LoadResult> gets = new ArrayList<>();
+        List<LoadResult> posts = new ArrayList<>();
+        for (int latency : LoadSettings.downstreamLatenciesMillis()) {
+            STUB.setLatency(latency);
+            gets.add(generator.run("GET +" + latency + "ms", rate, LoadSettings.stepDuration(), requests::get));
+            posts.add(generator.run("POST +" + latency + "ms", rate, LoadSettings.stepDuration(), requests::post));
+        }
+        LoadReport.write("get-downstream-latency", gets);
+        LoadReport.write("post-downstream-latency", posts);
+
+        List<Integer> latencies = LoadSettings.downstreamLatenciesMillis();
+        for (int step = 0; step < latencies.size(); step++) {
+            assertThat(gets.get(step).getP50()).isGreaterThanOrEqualTo(latencies.get(step));
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.smallworldfs.transactionservice.load;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.IntFunction;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Open-loop load generator: requests are sent on a fixed schedule whether or not earlier ones have completed, and
+ * latency is measured from the scheduled send time. A slow service therefore shows up as latency rather than as a
+ * silently lower request rate (no coordinated omission).
+ */
+class LoadGenerator {
+
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    LoadResult run(String name, int requestsPerSecond, Duration duration, IntFunction<HttpRequest> requests) {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / requestsPerSecond;
+        int count = (int) (duration.toNanos() / intervalNanos);
+        Histogram latencies = new ConcurrentHistogram(TimeUnit.MINUTES.toMicros(1), 3);
+        Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+        LongAdder failures = new LongAdder();
+        List<CompletableFuture<?>> responses = new ArrayList<>(count);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            long scheduled = start + i * intervalNanos;
+            LockSupport.parkNanos(scheduled - System.nanoTime());
+            responses.add(httpClient.sendAsync(requests.apply(i), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, exception) -> {
+                        latencies.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - scheduled));
+                        if (exception != null) {
+                            failures.increment();
+                        } else {
+                            statuses.computeIfAbsent(response.statusCode(), status -> new LongAdder()).increment();
+                        }
+                    }));
+        }
+        try {
+            CompletableFuture.allOf(responses.toArray(CompletableFuture[]::new))
+                    .exceptionally(exception -> null)
+                    .get(DRAIN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (Exception exception) {
+            throw new IllegalStateException(name + ": responses did not drain within " + DRAIN_TIMEOUT, exception);
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        return LoadResult.of(name, requestsPerSecond, count, elapsed, latencies, statuses, failures.sum());
+    }
+}
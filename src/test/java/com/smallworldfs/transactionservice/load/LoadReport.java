@@ -0,0 +1,33 @@
+package com.smallworldfs.transactionservice.load;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Prints load results and writes them as CSV under {@code target/load-test}, ready to be plotted.
+ */
+final class LoadReport {
+
+    private static final Path DIRECTORY = Path.of("target", "load-test");
+
+    private LoadReport() {
+    }
+
+    static void write(String name, List<LoadResult> results) {
+        System.out.println("== " + name);
+        results.forEach(System.out::println);
+        List<String> lines = new ArrayList<>();
+        lines.add(LoadResult.CSV_HEADER);
+        results.stream().map(LoadResult::toCsv).forEach(lines::add);
+        try {
+            Files.createDirectories(DIRECTORY);
+            Files.write(DIRECTORY.resolve(name + ".csv"), lines);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+}
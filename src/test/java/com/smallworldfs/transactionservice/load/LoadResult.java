@@ -0,0 +1,80 @@
+package com.smallworldfs.transactionservice.load;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntPredicate;
+import lombok.Value;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Outcome of one {@link LoadGenerator} step. Latencies are in milliseconds.
+ */
+@Value
+class LoadResult {
+
+    static final String CSV_HEADER = "name,target_rps,achieved_rps,requests,p50_ms,p99_ms,p999_ms,max_ms,"
+            + "ok_ratio,rejected_ratio,error_ratio";
+
+    String name;
+    int targetRate;
+    double achievedRate;
+    int requests;
+    double p50;
+    double p99;
+    double p999;
+    double max;
+    Map<Integer, Long> statuses;
+    long failures;
+
+    static LoadResult of(String name, int targetRate, int requests, Duration elapsed, Histogram latencies,
+            Map<Integer, LongAdder> statuses, long failures) {
+        Map<Integer, Long> counts = new TreeMap<>();
+        statuses.forEach((status, count) -> counts.put(status, count.sum()));
+        return new LoadResult(name, targetRate, requests * 1000.0 / elapsed.toMillis(), requests,
+                latencies.getValueAtPercentile(50) / 1000.0, latencies.getValueAtPercentile(99) / 1000.0,
+                latencies.getValueAtPercentile(99.9) / 1000.0, latencies.getMaxValue() / 1000.0, counts, failures);
+    }
+
+    /**
+     * Share of requests answered with a 2xx.
+     */
+    double okRatio() {
+        return ratio(status -> status / 100 == 2);
+    }
+
+    /**
+     * Share of requests rejected with a 4xx, e.g. by the compliance validators.
+     */
+    double rejectedRatio() {
+        return ratio(status -> status / 100 == 4);
+    }
+
+    /**
+     * Share of requests that failed with a 5xx or never got a response.
+     */
+    double errorRatio() {
+        return ratio(status -> status / 100 == 5) + (double) failures / requests;
+    }
+
+    String toCsv() {
+        return String.format(Locale.ROOT, "%s,%d,%.0f,%d,%.2f,%.2f,%.2f,%.2f,%.4f,%.4f,%.4f", name, targetRate,
+                achievedRate, requests, p50, p99, p999, max, okRatio(), rejectedRatio(), errorRatio());
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%-28s %6d rps -> %6.0f rps  p50 %8.2f ms  p99 %8.2f ms  p999 %8.2f ms  max %8.2f ms  "
+                + "statuses %s  failures %d", name, targetRate, achievedRate, p50, p99, p999, max, statuses, failures);
+    }
+
+    private double ratio(IntPredicate statusFilter) {
+        long matching = statuses.entrySet().stream()
+                .filter(entry -> statusFilter.test(entry.getKey()))
+                .mapToLong(Map.Entry::getValue)
+                .sum();
+        return (double) matching / requests;
+    }
+}
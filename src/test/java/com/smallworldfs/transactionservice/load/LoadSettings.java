@@ -0,0 +1,55 @@
+package com.smallworldfs.transactionservice.load;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Load-test knobs, overridable from the command line, e.g.
+ * {@code mvn -Pload-test test -Dload.rates=1000,2000 -Dload.step-seconds=60}.
+ */
+final class LoadSettings {
+
+    private LoadSettings() {
+    }
+
+    /**
+     * Request rates of the throughput/latency curve.
+     */
+    static List<Integer> rates() {
+        return integers("load.rates", "250,500,1000,2000,4000");
+    }
+
+    /**
+     * Downstream latencies injected to observe how the service degrades.
+     */
+    static List<Integer> downstreamLatenciesMillis() {
+        return integers("load.downstream-latencies", "0,25,100,250");
+    }
+
+    static int degradationRate() {
+        return Integer.getInteger("load.degradation-rate", 500);
+    }
+
+    static Duration stepDuration() {
+        return Duration.ofSeconds(Integer.getInteger("load.step-seconds", 20));
+    }
+
+    static Duration warmupDuration() {
+        return Duration.ofSeconds(Integer.getInteger("load.warmup-seconds", 10));
+    }
+
+    /**
+     * Share of created transactions sent by senders the compliance validators reject.
+     */
+    static double rejectRatio() {
+        return Double.parseDouble(System.getProperty("load.reject-ratio", "0.1"));
+    }
+
+    private static List<Integer> integers(String property, String defaultValue) {
+        return Arrays.stream(System.getProperty(property, defaultValue).split(","))
+                .map(String::trim)
+                .map(Integer::valueOf)
+                .toList();
+    }
+}
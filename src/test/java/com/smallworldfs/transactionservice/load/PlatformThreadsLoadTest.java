@@ -0,0 +1,15 @@
+package com.smallworldfs.transactionservice.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "transaction.threading.virtual-threads=false")
+class PlatformThreadsLoadTest extends ConcurrencyLoadTest {
+
+    @Override
+    void assertConcurrency(double concurrency) {
+        assertThat(concurrency).isLessThanOrEqualTo(TOMCAT_MAX_THREADS * 1.1);
+    }
+}
@@ -0,0 +1,63 @@
+package com.smallworldfs.transactionservice.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * Throughput/latency curve of {@code GET /transactions/{id}} and {@code POST /transactions}: each endpoint is driven
+ * at every {@link LoadSettings#rates() rate} against a transaction-data-service answering in
+ * {@value #DOWNSTREAM_LATENCY_MILLIS} ms. A share of the created transactions is rejected by the validators.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ThroughputLatencyLoadTest {
+
+    private static final int DOWNSTREAM_LATENCY_MILLIS = 10;
+    private static final TransactionDataServiceStub STUB = new TransactionDataServiceStub(DOWNSTREAM_LATENCY_MILLIS);
+
+    private final LoadGenerator generator = new LoadGenerator();
+
+    @LocalServerPort
+    private int port;
+
+    @DynamicPropertySource
+    static void stubProperties(DynamicPropertyRegistry registry) {
+        registry.add("transaction-data-service.url", STUB::url);
+    }
+
+    @AfterAll
+    static void stopStub() {
+        STUB.stop();
+    }
+
+    @Test
+    void reports_latency_curve_for_get_and_post() {
+        TransactionRequests requests = new TransactionRequests(port, LoadSettings.rejectRatio());
+        int lowestRate = LoadSettings.rates().get(0);
+        generator.run("warmup GET", lowestRate, LoadSettings.warmupDuration(), requests::get);
+        generator.run("warmup POST", lowestRate, LoadSettings.warmupDuration(), requests::post);
+
+        List<LoadResult> gets = new ArrayList<>();
+        List<LoadResult> posts = new ArrayList<>();
+        for (int rate : LoadSettings.rates()) {
+            gets.add(generator.run("GET /transactions/{id}", rate, LoadSettings.stepDuration(), requests::get));
+            posts.add(generator.run("POST /transactions", rate, LoadSettings.stepDuration(), requests::post));
+        }
+        LoadReport.write("get-throughput-latency", gets);
+        LoadReport.write("post-throughput-latency", posts);
+
+        assertThat(gets.get(0).errorRatio()).isZero();
+        assertThat(posts.get(0).errorRatio()).isZero();
+        assertThat(posts.get(0).rejectedRatio()).isCloseTo(LoadSettings.rejectRatio(), within(0.01));
+    }
+}
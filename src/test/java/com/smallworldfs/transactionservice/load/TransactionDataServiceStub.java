@@ -0,0 +1,164 @@
+package com.smallworldfs.transactionservice.load;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.containing;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.MappingBuilder;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.common.FileSource;
+import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.github.tomakehurst.wiremock.extension.ResponseDefinitionTransformer;
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.http.ResponseDefinition;
+import com.smallworldfs.transactionservice.transaction.client.CborWireFormat;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.function.Supplier;
+
+/**
+ * Deterministic stand-in for transaction-data-service. Every endpoint answers after the same configurable latency;
+ * delayed responses are scheduled asynchronously, so the stub itself never becomes the concurrency bottleneck.
+ *
+ * <p>Senders from {@link #REJECTED_SENDERS_FROM} upwards already sent the whole period limit, so their transactions
+ * are rejected by the compliance validators. Every other sender has no history.
+ *
+ * <p>Requests accepting {@code application/cbor} get the same bodies in CBOR, as with
+ * {@code transaction.wire-format.cbor}. {@code POST /transactions/batch} answers in JSON with one transaction per
+ * transaction sent, as with {@code transaction.coalescing.enabled}.
+ */
+public class TransactionDataServiceStub {
+
+    public static final int REJECTED_SENDERS_FROM = 900_000_000;
+
+    private static final String TRANSACTION = """
+            {"transactionId": 1, "sendingPrincipal": 100.0, "payoutPrincipal": 98.0, "fees": 2.0,
+             "commission": 1.6, "agentCommission": 0.4, "senderId": 3, "beneficiaryId": 4, "status": "NEW"}
+            """;
+    private static final String PERIOD_LIMIT_SENT = """
+            [{"transactionId": 2, "sendingPrincipal": 5000.0, "payoutPrincipal": 4990.0, "fees": 10.0,
+              "commission": 8.0, "agentCommission": 2.0, "senderId": 900000000, "beneficiaryId": 4,
+              "status": "PAY_OUT"}]
+            """;
+
+    private static final ObjectMapper JSON = new ObjectMapper()
+            .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+    private static final ObjectMapper CBOR = new ObjectMapper(new CBORFactory());
+
+    private final WireMockServer server = new WireMockServer(options()
+            .dynamicPort()
+            .containerThreads(200)
+            .asynchronousResponseEnabled(true)
+            .asynchronousResponseThreads(64)
+            .extensions(new BatchResponse()));
+
+    public TransactionDataServiceStub() {
+        this(0);
+    }
+
+    public TransactionDataServiceStub(int latencyMillis) {
+        server.start();
+        setLatency(latencyMillis);
+    }
+
+    /**
+     * Replaces the stubs, so that from now on every response is delayed by {@code latencyMillis}.
+     */
+    public void setLatency(int latencyMillis) {
+        server.resetMappings();
+        stub(() -> get(urlPathMatching("/transactions/\\d+")), TRANSACTION, latencyMillis, false);
+        stub(() -> post(urlEqualTo("/transactions/")), TRANSACTION, latencyMillis, false);
+        ResponseDefinitionBuilder batch = aResponse()
+                .withStatus(200)
+                .withHeader("Content-Type", "application/json")
+                .withTransformers(BatchResponse.NAME);
+        server.stubFor(post(urlEqualTo("/transactions/batch"))
+                .atPriority(4)
+                .willReturn(latencyMillis > 0 ? batch.withFixedDelay(latencyMillis) : batch));
+        stub(() -> get(urlPathMatching("/transactions/client=\\d+&status=NEW")), "[]", latencyMillis, false);
+        stub(() -> get(urlPathMatching("/transactions/senderId=\\d+&days=\\d+")), "[]", latencyMillis, false);
+        stub(() -> get(urlPathMatching("/transactions/senderId=9\\d{8}&days=\\d+")), PERIOD_LIMIT_SENT,
+                latencyMillis, true);
+    }
+
+    public String url() {
+        return server.baseUrl();
+    }
+
+    public void stop() {
+        server.stop();
+    }
+
+    /**
+     * Stubs {@code request} with a JSON response and, for requests accepting CBOR, the same body in CBOR.
+     * {@code specific} mappings take precedence over the others of their format.
+     */
+    private void stub(Supplier<MappingBuilder> request, String body, int latencyMillis, boolean specific) {
+        ResponseDefinitionBuilder json = aResponse()
+                .withStatus(200)
+                .withHeader("Content-Type", "application/json")
+                .withBody(body);
+        ResponseDefinitionBuilder cbor = aResponse()
+                .withStatus(200)
+                .withHeader("Content-Type", CborWireFormat.APPLICATION_CBOR)
+                .withBody(toCbor(body));
+        server.stubFor(request.get()
+                .atPriority(specific ? 3 : 4)
+                .willReturn(latencyMillis > 0 ? json.withFixedDelay(latencyMillis) : json));
+        server.stubFor(request.get()
+                .withHeader("Accept", containing(CborWireFormat.APPLICATION_CBOR))
+                .atPriority(specific ? 1 : 2)
+                .willReturn(latencyMillis > 0 ? cbor.withFixedDelay(latencyMillis) : cbor));
+    }
+
+    /**
+     * Answers a batch creation with as many transactions as the request body holds.
+     */
+    private static final class BatchResponse extends ResponseDefinitionTransformer {
+
+        static final String NAME = "batch-response";
+
+        @Override
+        public ResponseDefinition transform(Request request, ResponseDefinition response, FileSource files,
+                Parameters parameters) {
+            ObjectMapper mapper = request.contentTypeHeader().containsValue(CborWireFormat.APPLICATION_CBOR)
+                    ? CBOR : JSON;
+            int size;
+            try {
+                size = mapper.readTree(request.getBody()).size();
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+            return ResponseDefinitionBuilder.like(response)
+                    .withBody("[" + String.join(",", Collections.nCopies(size, TRANSACTION)) + "]")
+                    .build();
+        }
+
+        @Override
+        public String getName() {
+            return NAME;
+        }
+
+        @Override
+        public boolean applyGlobally() {
+            return false;
+        }
+    }
+
+    private static byte[] toCbor(String json) {
+        try {
+            return CBOR.writeValueAsBytes(JSON.readTree(json));
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.smallworldfs.transactionservice.load;
+
+import static com.smallworldfs.transactionservice.load.TransactionDataServiceStub.REJECTED_SENDERS_FROM;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Builds the requests sent to {@code /transactions}. Ids and senders are never reused within a JVM, so every
+ * request misses the caches and goes to transaction-data-service.
+ */
+class TransactionRequests {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    private final URI transactions;
+    private final int rejectEvery;
+
+    TransactionRequests(int port, double rejectRatio) {
+        this.transactions = URI.create("http://localhost:" + port + "/transactions");
+        this.rejectEvery = rejectRatio > 0 ? (int) Math.round(1 / rejectRatio) : 0;
+    }
+
+    HttpRequest get(int index) {
+        return HttpRequest.newBuilder(URI.create(transactions + "/" + SEQUENCE.incrementAndGet())).GET().build();
+    }
+
+    /**
+     * Every {@code 1 / rejectRatio}-th transaction comes from a sender that already sent the whole period limit.
+     */
+    HttpRequest post(int index) {
+        int sequence = SEQUENCE.incrementAndGet();
+        int senderId = rejectEvery > 0 && index % rejectEvery == 0 ? REJECTED_SENDERS_FROM + sequence : sequence;
+        String body = """
+                {"sendingPrincipal": 100.0, "payoutPrincipal": 98.0, "senderId": %d, "beneficiaryId": 4}
+                """.formatted(senderId);
+        return HttpRequest.newBuilder(transactions)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+}
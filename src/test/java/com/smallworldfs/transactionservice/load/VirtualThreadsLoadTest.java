@@ -0,0 +1,15 @@
+package com.smallworldfs.transactionservice.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "transaction.threading.virtual-threads=true")
+class VirtualThreadsLoadTest extends ConcurrencyLoadTest {
+
+    @Override
+    void assertConcurrency(double concurrency) {
+        assertThat(concurrency).isGreaterThan(TOMCAT_MAX_THREADS * 4);
+    }
+}
@@ -0,0 +1,65 @@
+package com.smallworldfs.transactionservice.money;
+
+import static com.smallworldfs.transactionservice.Transactions.newTransactionDto;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.smallworldfs.transactionservice.transaction.api.model.TransactionDto;
+import com.smallworldfs.transactionservice.transaction.entity.Transaction;
+import com.smallworldfs.transactionservice.transaction.money.Money;
+import com.smallworldfs.transactionservice.transaction.money.Rate;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.Test;
+
+public class MoneyTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void converts_decimals_to_minor_units_exactly() {
+        assertThat(Money.valueOf("0.1").getMinorUnits()).isEqualTo(10);
+        assertThat(Money.valueOf("5000").getMinorUnits()).isEqualTo(500000);
+        assertThat(Money.toDecimal(9901)).isEqualByComparingTo(new BigDecimal("99.01"));
+        assertThrows(ArithmeticException.class, () -> Money.valueOf("1.005"));
+    }
+
+    @Test
+    void applies_rate_rounding_half_even() {
+        Rate rate = Rate.valueOf("0.2");
+
+        assertThat(rate.applyTo(200)).isEqualTo(40);
+        assertThat(rate.applyTo(2)).isEqualTo(0);
+        assertThat(rate.applyTo(3)).isEqualTo(1);
+        assertThat(Rate.valueOf("0.5").applyTo(5)).isEqualTo(2);
+        assertThat(Rate.valueOf("0.5").applyTo(7)).isEqualTo(4);
+    }
+
+    @Test
+    void keeps_amounts_decimal_in_json() throws JsonProcessingException {
+        String json = objectMapper.writeValueAsString(newTransactionDto());
+
+        assertThat(json).contains("\"sendingPrincipal\":100.00", "\"payoutPrincipal\":98.00");
+        assertThat(objectMapper.readValue(json, TransactionDto.class)).isEqualTo(newTransactionDto());
+    }
+
+    @Test
+    void rejects_amounts_finer_than_currency_scale() {
+        String json = "{\"sendingPrincipal\": 100.001, \"payoutPrincipal\": 98}";
+
+        assertThrows(InvalidFormatException.class, () -> objectMapper.readValue(json, TransactionDto.class));
+    }
+
+    @Test
+    void rounds_amounts_of_transaction_data_service_half_even() throws JsonProcessingException {
+        String json = "{\"sendingPrincipal\": 100.09999999999999, \"payoutPrincipal\": 98.005, \"fees\": 2.015}";
+
+        Transaction transaction = objectMapper.readValue(json, Transaction.class);
+
+        assertThat(transaction.getSendingPrincipal()).isEqualTo(10010);
+        assertThat(transaction.getPayoutPrincipal()).isEqualTo(9800);
+        assertThat(transaction.getFees()).isEqualTo(202);
+    }
+}
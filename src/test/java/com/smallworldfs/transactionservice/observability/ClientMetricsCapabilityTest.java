@@ -0,0 +1,62 @@
+package com.smallworldfs.transactionservice.observability;
+
+import static com.smallworldfs.transactionservice.Transactions.newTransaction;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.smallworldfs.starter.http.error.exception.HttpException;
+import com.smallworldfs.starter.httptest.exception.MockHttpException;
+import com.smallworldfs.transactionservice.transaction.client.TransactionDataServiceClient;
+import com.smallworldfs.transactionservice.transaction.entity.TransactionStatus;
+import com.smallworldfs.transactionservice.transaction.observability.ClientMetricsCapability;
+import feign.InvocationHandlerFactory;
+import feign.InvocationHandlerFactory.MethodHandler;
+import feign.Target;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class ClientMetricsCapabilityTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ClientMetricsCapability capability = new ClientMetricsCapability(meterRegistry);
+    private final Target<TransactionDataServiceClient> target =
+            new Target.HardCodedTarget<>(TransactionDataServiceClient.class, "transaction-data-service",
+                    "http://localhost");
+
+    @Test
+    void times_calls_and_records_returned_list_size() throws Throwable {
+        Method method = TransactionDataServiceClient.class.getMethod("getOpenTransactionsByUser", int.class,
+                TransactionStatus.class);
+        InvocationHandler handler = enrich(method, argv -> List.of(newTransaction(), newTransaction()));
+
+        handler.invoke(null, method, new Object[] {3, TransactionStatus.NEW});
+
+        assertThat(meterRegistry.get("transaction.client").tag("method", "getOpenTransactionsByUser")
+                .tag("outcome", "success").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("transaction.client.response.size").tag("method", "getOpenTransactionsByUser")
+                .summary().totalAmount()).isEqualTo(2);
+    }
+
+    @Test
+    void times_failed_calls_by_exception() throws Throwable {
+        Method method = TransactionDataServiceClient.class.getMethod("getTransaction", Integer.class);
+        RuntimeException notFound = MockHttpException.notFound();
+        InvocationHandler handler = enrich(method, argv -> {
+            throw notFound;
+        });
+
+        assertThrows(HttpException.NotFound.class, () -> handler.invoke(null, method, new Object[] {55}));
+
+        assertThat(meterRegistry.get("transaction.client").tag("method", "getTransaction")
+                .tag("outcome", "error").tag("exception", notFound.getClass().getSimpleName()).timer().count())
+                .isEqualTo(1);
+    }
+
+    private InvocationHandler enrich(Method method, MethodHandler handler) {
+        return capability.enrich(new InvocationHandlerFactory.Default()).create(target, Map.of(method, handler));
+    }
+}
@@ -0,0 +1,78 @@
+package com.smallworldfs.transactionservice.observability;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.smallworldfs.transactionservice.transaction.client.HttpTransports;
+import com.smallworldfs.transactionservice.transaction.observability.ConnectionPoolMetrics;
+import com.smallworldfs.transactionservice.transaction.properties.HttpClientProperties;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ConnectionPoolMetricsTest {
+
+    private static final Request.Options OPTIONS = new Request.Options(1, TimeUnit.SECONDS, 5, TimeUnit.SECONDS, true);
+
+    private final WireMockServer server = new WireMockServer(options().dynamicPort());
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final HttpClientProperties properties = new HttpClientProperties();
+
+    private PoolingHttpClientConnectionManager connectionManager;
+    private CloseableHttpClient httpClient;
+
+    @BeforeEach
+    void setUp() {
+        server.start();
+        server.stubFor(get(urlEqualTo("/transactions/1")).willReturn(aResponse().withStatus(200).withBody("{}")));
+        properties.setMaxConnections(8);
+        connectionManager = HttpTransports.connectionManager(properties);
+        httpClient = HttpTransports.httpClient(connectionManager, properties);
+        new ConnectionPoolMetrics("transaction-data-service", connectionManager).bindTo(meterRegistry);
+    }
+
+    @AfterEach
+    void shutdown() throws Exception {
+        httpClient.close();
+        server.stop();
+    }
+
+    @Test
+    void reuses_kept_alive_connection() throws Exception {
+        Client client = HttpTransports.pooled(httpClient);
+
+        for (int call = 0; call < 3; call++) {
+            try (Response response = client.execute(request(), OPTIONS)) {
+                assertThat(response.status()).isEqualTo(200);
+                response.body().asInputStream().readAllBytes();
+            }
+        }
+
+        assertThat(connections("leased")).isZero();
+        assertThat(connections("available")).isEqualTo(1);
+        assertThat(connections("pending")).isZero();
+        assertThat(connections("max")).isEqualTo(8);
+    }
+
+    private double connections(String state) {
+        return meterRegistry.get("transaction.client.connections").tag("state", state).gauge().value();
+    }
+
+    private Request request() {
+        return Request.create(Request.HttpMethod.GET, server.baseUrl() + "/transactions/1", Map.of(), null,
+                StandardCharsets.UTF_8, null);
+    }
+}
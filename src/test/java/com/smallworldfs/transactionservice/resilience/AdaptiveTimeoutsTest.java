@@ -0,0 +1,103 @@
+package com.smallworldfs.transactionservice.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.smallworldfs.transactionservice.transaction.client.TransactionDataServiceClient;
+import com.smallworldfs.transactionservice.transaction.observability.LatencyTimers;
+import com.smallworldfs.transactionservice.transaction.properties.ResilienceProperties;
+import com.smallworldfs.transactionservice.transaction.resilience.AdaptiveTimeouts;
+import feign.Client;
+import feign.MethodMetadata;
+import feign.Request;
+import feign.Response;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+
+public class AdaptiveTimeoutsTest {
+
+    private static final Request.Options FEIGN_OPTIONS =
+            new Request.Options(10, TimeUnit.SECONDS, 60, TimeUnit.SECONDS, true);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ResilienceProperties properties = new ResilienceProperties();
+    private final AtomicReference<Request.Options> usedOptions = new AtomicReference<>();
+    private final Client client = (request, options) -> {
+        usedOptions.set(options);
+        return Response.builder().status(200).request(request).headers(Map.of()).build();
+    };
+
+    @Test
+    void derives_read_timeout_from_observed_latency() throws Exception {
+        properties.setMinimumTimeout(Duration.ofMillis(10));
+        recordSuccessfulCalls("getTransaction", 200, Duration.ofMillis(50));
+
+        new AdaptiveTimeouts(properties, meterRegistry).enrich(client).execute(request("getTransaction"),
+                FEIGN_OPTIONS);
+
+        assertThat(usedOptions.get().readTimeoutMillis()).isBetween(100, 130);
+        assertThat(usedOptions.get().connectTimeoutMillis()).isEqualTo(10_000);
+        assertThat(meterRegistry.get("transaction.client.timeout").tag("method", "getTransaction").gauge().value())
+                .isEqualTo(usedOptions.get().readTimeoutMillis());
+    }
+
+    @Test
+    void keeps_configured_timeout_until_enough_samples() throws Exception {
+        recordSuccessfulCalls("getTransaction", 10, Duration.ofMillis(50));
+
+        new AdaptiveTimeouts(properties, meterRegistry).enrich(client).execute(request("getTransaction"),
+                FEIGN_OPTIONS);
+
+        assertThat(usedOptions.get()).isSameAs(FEIGN_OPTIONS);
+    }
+
+    @Test
+    void never_raises_timeout_above_configured_one() throws Exception {
+        recordSuccessfulCalls("getTransaction", 200, Duration.ofSeconds(40));
+
+        new AdaptiveTimeouts(properties, meterRegistry).enrich(client).execute(request("getTransaction"),
+                FEIGN_OPTIONS);
+
+        assertThat(usedOptions.get()).isSameAs(FEIGN_OPTIONS);
+    }
+
+    @Test
+    void keeps_configured_timeout_of_writes() throws Exception {
+        properties.setMinimumTimeout(Duration.ofMillis(10));
+        recordSuccessfulCalls("createTransaction", 200, Duration.ofMillis(50));
+
+        new AdaptiveTimeouts(properties, meterRegistry).enrich(client).execute(request("createTransaction"),
+                FEIGN_OPTIONS);
+
+        assertThat(usedOptions.get()).isSameAs(FEIGN_OPTIONS);
+    }
+
+    private void recordSuccessfulCalls(String method, int calls, Duration latency) {
+        Timer timer = LatencyTimers.builder("transaction.client")
+                .tag("client", "transaction-data-service")
+                .tag("method", method)
+                .tag("outcome", "success")
+                .tag("exception", "none")
+                .register(meterRegistry);
+        for (int call = 0; call < calls; call++) {
+            timer.record(latency);
+        }
+    }
+
+    private static Request request(String method) {
+        MethodMetadata metadata = new SpringMvcContract().parseAndValidateMetadata(TransactionDataServiceClient.class)
+                .stream()
+                .filter(candidate -> candidate.configKey().contains("#" + method + "("))
+                .findFirst()
+                .orElseThrow();
+        Request.HttpMethod httpMethod = Request.HttpMethod.valueOf(metadata.template().method());
+        return Request.create(httpMethod, "http://localhost/transactions/1", Map.of(), null, StandardCharsets.UTF_8,
+                metadata.template());
+    }
+}
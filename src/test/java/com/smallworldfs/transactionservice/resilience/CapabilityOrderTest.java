@@ -0,0 +1,114 @@
+package com.smallworldfs.transactionservice.resilience;
+
+import static com.smallworldfs.transactionservice.Transactions.newTransaction;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.smallworldfs.transactionservice.transaction.client.TransactionDataServiceClient;
+import com.smallworldfs.transactionservice.transaction.concurrent.BlockingTaskExecutors;
+import com.smallworldfs.transactionservice.transaction.entity.Transaction;
+import com.smallworldfs.transactionservice.transaction.observability.ClientMetricsCapability;
+import com.smallworldfs.transactionservice.transaction.observability.LatencyTimers;
+import com.smallworldfs.transactionservice.transaction.properties.HedgingProperties;
+import com.smallworldfs.transactionservice.transaction.properties.ResilienceProperties;
+import com.smallworldfs.transactionservice.transaction.properties.ThreadingProperties;
+import com.smallworldfs.transactionservice.transaction.resilience.AdaptiveTimeouts;
+import com.smallworldfs.transactionservice.transaction.resilience.HedgingCapability;
+import com.smallworldfs.transactionservice.transaction.resilience.ResilienceCapability;
+import feign.Capability;
+import feign.InvocationHandlerFactory;
+import feign.Target;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+
+/**
+ * Composes the shared capabilities the way Spring Cloud OpenFeign does: sorted by {@code @Order}, each one enriching
+ * the result of the previous ones.
+ */
+public class CapabilityOrderTest {
+
+    private static final int PERMITS = 10;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final BulkheadRegistry bulkheads = BulkheadRegistry.of(BulkheadConfig.custom()
+            .maxConcurrentCalls(PERMITS)
+            .build());
+    private final HedgingCapability hedging = new HedgingCapability(hedgingProperties(), meterRegistry,
+            new BlockingTaskExecutors(new ThreadingProperties()));
+    private final Target<TransactionDataServiceClient> target =
+            new Target.HardCodedTarget<>(TransactionDataServiceClient.class, "transaction-data-service",
+                    "http://localhost");
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void shutdown() {
+        release.countDown();
+        hedging.destroy();
+    }
+
+    @Test
+    void hedging_wraps_bulkhead_and_metrics_of_each_attempt() throws Throwable {
+        Timer attempts = successTimer();
+        for (int call = 0; call < 200; call++) {
+            attempts.record(Duration.ofMillis(20));
+        }
+        Method method = TransactionDataServiceClient.class.getMethod("getTransaction", Integer.class);
+        AtomicInteger calls = new AtomicInteger();
+        Transaction hedged = newTransaction();
+        hedged.setTransactionId(2);
+        List<Capability> capabilities = new ArrayList<>(List.of(
+                new AdaptiveTimeouts(new ResilienceProperties(), meterRegistry),
+                new ClientMetricsCapability(meterRegistry),
+                new ResilienceCapability(CircuitBreakerRegistry.ofDefaults(), bulkheads),
+                hedging));
+        capabilities.sort(AnnotationAwareOrderComparator.INSTANCE);
+        InvocationHandlerFactory factory = new InvocationHandlerFactory.Default();
+        for (Capability capability : capabilities) {
+            factory = capability.enrich(factory);
+        }
+        InvocationHandler handler = factory.create(target, Map.of(method, argv -> {
+            if (calls.incrementAndGet() == 1) {
+                release.await(5, TimeUnit.SECONDS);
+                return newTransaction();
+            }
+            return hedged;
+        }));
+
+        assertThat(handler.invoke(null, method, new Object[] {1})).isSameAs(hedged);
+
+        Bulkhead bulkhead = bulkheads.bulkhead("getTransaction");
+        assertThat(bulkhead.getMetrics().getAvailableConcurrentCalls()).isEqualTo(PERMITS - 1);
+        assertThat(attempts.count()).isEqualTo(201);
+    }
+
+    private Timer successTimer() {
+        return LatencyTimers.builder("transaction.client")
+                .tag("client", "transaction-data-service")
+                .tag("method", "getTransaction")
+                .tag("outcome", "success")
+                .tag("exception", "none")
+                .register(meterRegistry);
+    }
+
+    private static HedgingProperties hedgingProperties() {
+        HedgingProperties properties = new HedgingProperties();
+        properties.setEnabled(true);
+        properties.setBudgetRatio(1.0);
+        return properties;
+    }
+}
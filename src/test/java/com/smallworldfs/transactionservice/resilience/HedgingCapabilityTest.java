@@ -0,0 +1,177 @@
+package com.smallworldfs.transactionservice.resilience;
+
+import static com.smallworldfs.transactionservice.Transactions.newTransaction;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.smallworldfs.transactionservice.transaction.client.TransactionDataServiceClient;
+import com.smallworldfs.transactionservice.transaction.concurrent.BlockingTaskExecutors;
+import com.smallworldfs.transactionservice.transaction.entity.Transaction;
+import com.smallworldfs.transactionservice.transaction.observability.LatencyTimers;
+import com.smallworldfs.transactionservice.transaction.properties.HedgingProperties;
+import com.smallworldfs.transactionservice.transaction.properties.ThreadingProperties;
+import com.smallworldfs.transactionservice.transaction.resilience.HedgingCapability;
+import feign.InvocationHandlerFactory;
+import feign.InvocationHandlerFactory.MethodHandler;
+import feign.Target;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class HedgingCapabilityTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final HedgingProperties properties = new HedgingProperties();
+    private final Target<TransactionDataServiceClient> target =
+            new Target.HardCodedTarget<>(TransactionDataServiceClient.class, "transaction-data-service",
+                    "http://localhost");
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private HedgingCapability capability;
+
+    @BeforeEach
+    void setUp() {
+        properties.setEnabled(true);
+        recordSuccessfulCalls("getTransaction", 200, Duration.ofMillis(20));
+        recordSuccessfulCalls("createTransaction", 200, Duration.ofMillis(20));
+    }
+
+    @AfterEach
+    void shutdown() {
+        release.countDown();
+        capability.destroy();
+    }
+
+    @Test
+    void returns_hedge_when_primary_is_slow() throws Throwable {
+        properties.setBudgetRatio(1.0);
+        Method method = TransactionDataServiceClient.class.getMethod("getTransaction", Integer.class);
+        AtomicInteger calls = new AtomicInteger();
+        Transaction hedged = newTransaction();
+        hedged.setTransactionId(2);
+        InvocationHandler handler = enrich(method, argv -> {
+            if (calls.incrementAndGet() == 1) {
+                release.await(5, TimeUnit.SECONDS);
+                return newTransaction();
+            }
+            return hedged;
+        });
+
+        assertThat(handler.invoke(null, method, new Object[] {1})).isSameAs(hedged);
+        assertThat(calls).hasValue(2);
+        assertThat(hedges("getTransaction", "won")).isEqualTo(1);
+    }
+
+    @Test
+    void waits_for_primary_when_budget_is_spent() throws Throwable {
+        properties.setBudgetRatio(0);
+        Method method = TransactionDataServiceClient.class.getMethod("getTransaction", Integer.class);
+        AtomicInteger calls = new AtomicInteger();
+        InvocationHandler handler = enrich(method, argv -> {
+            calls.incrementAndGet();
+            Thread.sleep(100);
+            return newTransaction();
+        });
+
+        assertThat(handler.invoke(null, method, new Object[] {1})).isEqualTo(newTransaction());
+        assertThat(calls).hasValue(1);
+        assertThat(hedges("getTransaction", "throttled")).isEqualTo(1);
+    }
+
+    @Test
+    void waits_for_primary_when_hedging_pool_is_full() throws Throwable {
+        properties.setBudgetRatio(1.0);
+        properties.setThreads(1);
+        properties.setQueueCapacity(1);
+        recordSuccessfulCalls("getTransaction", 1000, Duration.ofMillis(300));
+        Method method = TransactionDataServiceClient.class.getMethod("getTransaction", Integer.class);
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        InvocationHandler handler = enrich(method, argv -> {
+            calls.incrementAndGet();
+            if ((Integer) argv[0] == 1) {
+                started.countDown();
+                Thread.sleep(600);
+            }
+            return newTransaction();
+        });
+        ExecutorService caller = Executors.newSingleThreadExecutor();
+        try {
+            Future<Object> queued = caller.submit(() -> {
+                started.await(5, TimeUnit.SECONDS);
+                return invoke(handler, method, 2).call();
+            });
+
+            assertThat(invoke(handler, method, 1).call()).isEqualTo(newTransaction());
+            assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo(newTransaction());
+            assertThat(calls).hasValue(2);
+            assertThat(hedges("getTransaction", "throttled")).isEqualTo(2);
+        } finally {
+            caller.shutdownNow();
+        }
+    }
+
+    @Test
+    void never_hedges_creations() throws Throwable {
+        properties.setBudgetRatio(1.0);
+        properties.setMethods(Set.of("getTransaction", "createTransaction"));
+        Method method = TransactionDataServiceClient.class.getMethod("createTransaction", Transaction.class);
+        AtomicInteger calls = new AtomicInteger();
+        InvocationHandler handler = enrich(method, argv -> {
+            calls.incrementAndGet();
+            Thread.sleep(100);
+            return argv[0];
+        });
+
+        assertThat(handler.invoke(null, method, new Object[] {newTransaction()})).isEqualTo(newTransaction());
+        assertThat(calls).hasValue(1);
+        assertThat(meterRegistry.find("transaction.client.hedges").tag("method", "createTransaction").counter())
+                .isNull();
+    }
+
+    private InvocationHandler enrich(Method method, MethodHandler handler) {
+        capability = new HedgingCapability(properties, meterRegistry,
+                new BlockingTaskExecutors(new ThreadingProperties()));
+        return capability.enrich(new InvocationHandlerFactory.Default()).create(target, Map.of(method, handler));
+    }
+
+    private static Callable<Object> invoke(InvocationHandler handler, Method method, int id) {
+        return () -> {
+            try {
+                return handler.invoke(null, method, new Object[] {id});
+            } catch (Throwable throwable) {
+                throw new IllegalStateException(throwable);
+            }
+        };
+    }
+
+    private double hedges(String method, String result) {
+        return meterRegistry.get("transaction.client.hedges").tag("method", method).tag("result", result).counter()
+                .count();
+    }
+
+    private void recordSuccessfulCalls(String method, int calls, Duration latency) {
+        Timer timer = LatencyTimers.builder("transaction.client")
+                .tag("client", "transaction-data-service")
+                .tag("method", method)
+                .tag("outcome", "success")
+                .tag("exception", "none")
+                .register(meterRegistry);
+        for (int call = 0; call < calls; call++) {
+            timer.record(latency);
+        }
+    }
+}
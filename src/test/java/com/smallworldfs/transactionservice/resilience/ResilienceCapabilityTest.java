@@ -0,0 +1,117 @@
+package com.smallworldfs.transactionservice.resilience;
+
+import static com.smallworldfs.transactionservice.Transactions.newTransaction;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.smallworldfs.starter.http.error.exception.HttpException;
+import com.smallworldfs.starter.httptest.exception.MockHttpException;
+import com.smallworldfs.transactionservice.transaction.client.TransactionDataServiceClient;
+import com.smallworldfs.transactionservice.transaction.entity.Transaction;
+import com.smallworldfs.transactionservice.transaction.resilience.ResilienceCapability;
+import feign.InvocationHandlerFactory;
+import feign.InvocationHandlerFactory.MethodHandler;
+import feign.Target;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class ResilienceCapabilityTest {
+
+    private final CircuitBreakerRegistry circuitBreakers = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+            .slidingWindowSize(4)
+            .minimumNumberOfCalls(4)
+            .failureRateThreshold(50)
+            .ignoreExceptions(HttpException.NotFound.class)
+            .build());
+    private final BulkheadRegistry bulkheads = BulkheadRegistry.of(BulkheadConfig.custom()
+            .maxConcurrentCalls(1)
+            .maxWaitDuration(Duration.ZERO)
+            .build());
+    private final ResilienceCapability capability = new ResilienceCapability(circuitBreakers, bulkheads);
+    private final Target<TransactionDataServiceClient> target =
+            new Target.HardCodedTarget<>(TransactionDataServiceClient.class, "transaction-data-service",
+                    "http://localhost");
+
+    @Test
+    void fails_fast_once_circuit_opens() throws Throwable {
+        Method method = TransactionDataServiceClient.class.getMethod("getTransaction", Integer.class);
+        AtomicInteger calls = new AtomicInteger();
+        InvocationHandler handler = enrich(method, argv -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("read timed out");
+        });
+
+        for (int call = 0; call < 4; call++) {
+            assertThrows(IllegalStateException.class, () -> handler.invoke(null, method, new Object[] {1}));
+        }
+
+        assertThrows(CallNotPermittedException.class, () -> handler.invoke(null, method, new Object[] {1}));
+        assertThat(calls).hasValue(4);
+        assertThat(circuitBreakers.circuitBreaker("getTransaction").getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void does_not_count_not_found_as_failure() throws Throwable {
+        Method method = TransactionDataServiceClient.class.getMethod("getTransaction", Integer.class);
+        RuntimeException notFound = MockHttpException.notFound();
+        InvocationHandler handler = enrich(method, argv -> {
+            throw notFound;
+        });
+
+        for (int call = 0; call < 8; call++) {
+            assertThrows(HttpException.NotFound.class, () -> handler.invoke(null, method, new Object[] {55}));
+        }
+
+        assertThat(circuitBreakers.circuitBreaker("getTransaction").getState())
+                .isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void isolates_read_concurrency_from_write_path() throws Throwable {
+        Method read = TransactionDataServiceClient.class.getMethod("getTransaction", Integer.class);
+        Method write = TransactionDataServiceClient.class.getMethod("createTransaction", Transaction.class);
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        InvocationHandler handler = capability.enrich(new InvocationHandlerFactory.Default()).create(target, Map.of(
+                read, argv -> {
+                    reading.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return newTransaction();
+                },
+                write, argv -> argv[0]));
+        CompletableFuture<Object> slowRead = CompletableFuture.supplyAsync(() -> invoke(handler, read, 1));
+        assertThat(reading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThrows(BulkheadFullException.class, () -> handler.invoke(null, read, new Object[] {2}));
+        assertThat(handler.invoke(null, write, new Object[] {newTransaction()})).isEqualTo(newTransaction());
+
+        release.countDown();
+        assertThat(slowRead.get(5, TimeUnit.SECONDS)).isEqualTo(newTransaction());
+    }
+
+    private InvocationHandler enrich(Method method, MethodHandler handler) {
+        return capability.enrich(new InvocationHandlerFactory.Default()).create(target, Map.of(method, handler));
+    }
+
+    private static Object invoke(InvocationHandler handler, Method method, Object argument) {
+        try {
+            return handler.invoke(null, method, new Object[] {argument});
+        } catch (Throwable throwable) {
+            throw new IllegalStateException(throwable);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.smallworldfs.transactionservice.service;
+
+import static com.smallworldfs.transactionservice.Transactions.newTransaction;
+import static com.smallworldfs.transactionservice.Transactions.newTransactionDto;
+import static com.smallworldfs.transactionservice.transaction.error.TransactionIssue.CLIENT_EXCEED_LIMIT_OPEN_TRANSACTIONS;
+import static com.smallworldfs.transactionservice.transaction.error.TransactionIssue.CLIENT_EXCEED_LIMIT_TO_SEND_IN_PERIOD;
+import static com.smallworldfs.transactionservice.transaction.error.TransactionIssue.TRANSACTION_EXCEEDS_SENDING_LIMIT;
+import static com.smallworldfs.transactionservice.transaction.error.TransactionIssue.TRANSACTION_NOT_FOUND;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.smallworldfs.error.exception.ApplicationException;
+import com.smallworldfs.starter.httptest.exception.MockHttpException;
+import com.smallworldfs.transactionservice.transaction.api.mapper.TransactionDtoMapper;
+import com.smallworldfs.transactionservice.transaction.business.compliance.ComplianceLimitsHolder;
+import com.smallworldfs.transactionservice.transaction.business.compliance.OpenTransactionsValidator;
+import com.smallworldfs.transactionservice.transaction.business.compliance.ReactiveSenderSnapshotLoader;
+import com.smallworldfs.transactionservice.transaction.business.compliance.SenderExposureCache;
+import com.smallworldfs.transactionservice.transaction.business.compliance.SenderLedger;
+import com.smallworldfs.transactionservice.transaction.business.compliance.SenderSnapshot;
+import com.smallworldfs.transactionservice.transaction.business.compliance.SenderTransacionsValidator;
+import com.smallworldfs.transactionservice.transaction.business.compliance.TransactionAmountValidator;
+import com.smallworldfs.transactionservice.transaction.business.compliance.TransactionFeeValidator;
+import com.smallworldfs.transactionservice.transaction.business.compliance.TransactionValidationEngine;
+import com.smallworldfs.transactionservice.transaction.business.pricing.Pricing;
+import com.smallworldfs.transactionservice.transaction.client.ReactiveTransactionDataServiceClient;
+import com.smallworldfs.transactionservice.transaction.client.TransactionReader;
+import com.smallworldfs.transactionservice.transaction.concurrent.SenderLocks;
+import com.smallworldfs.transactionservice.transaction.entity.Transaction;
+import com.smallworldfs.transactionservice.transaction.entity.TransactionStatus;
+import com.smallworldfs.transactionservice.transaction.entity.TransactionSummary;
+import com.smallworldfs.transactionservice.transaction.properties.ComplianceProperties;
+import com.smallworldfs.transactionservice.transaction.properties.LedgerProperties;
+import com.smallworldfs.transactionservice.transaction.properties.LimitsProperties;
+import com.smallworldfs.transactionservice.transaction.properties.PricingProperties;
+import com.smallworldfs.transactionservice.transaction.properties.TransactionProperties;
+import com.smallworldfs.transactionservice.transaction.service.ReactiveTransactionService;
+import com.smallworldfs.transactionservice.transaction.writebehind.TransactionWriteBehind;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import reactor.core.publisher.Mono;
+
+public class ReactiveTransactionServiceTest {
+
+    private final TransactionDtoMapper mapper = Mappers.getMapper(TransactionDtoMapper.class);
+    private final ReactiveTransactionDataServiceClient client = mock(ReactiveTransactionDataServiceClient.class);
+    private final SenderExposureCache exposureCache = mock(SenderExposureCache.class);
+    private final TransactionReader reader = mock(TransactionReader.class);
+    private final TransactionWriteBehind writeBehind = mock(TransactionWriteBehind.class);
+
+    private ReactiveTransactionService service;
+
+    @BeforeEach
+    void setUp() {
+        TransactionProperties properties = new TransactionProperties();
+        Pricing pricing = new Pricing(new PricingProperties());
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ComplianceLimitsHolder limitsHolder = new ComplianceLimitsHolder(properties, new LimitsProperties());
+        TransactionValidationEngine engine = new TransactionValidationEngine(List.of(
+                new TransactionAmountValidator(),
+                new TransactionFeeValidator(pricing),
+                new SenderTransacionsValidator(),
+                new OpenTransactionsValidator()), exposureCache, limitsHolder, meterRegistry);
+        service = new ReactiveTransactionService(client, new ReactiveSenderSnapshotLoader(client, properties,
+                new SenderLedger(new LedgerProperties(), limitsHolder, Clock.systemUTC(), meterRegistry), writeBehind),
+                reader, pricing, engine, exposureCache, new SenderLocks(new ComplianceProperties(), meterRegistry),
+                writeBehind, meterRegistry);
+        when(exposureCache.getIfPresent(anyInt())).thenReturn(Optional.empty());
+        when(writeBehind.pendingOf(anyInt())).thenReturn(TransactionSummary.EMPTY);
+        when(client.createTransaction(any())).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+    }
+
+    @Test
+    void creates_transaction_after_loading_sender_snapshot() {
+        when(client.getTransactionsBySenderIdWithPeriod(3, 30)).thenReturn(Mono.just(List.of(newTransaction())));
+        when(client.getOpenTransactionsByUser(3, TransactionStatus.NEW)).thenReturn(Mono.just(List.of()));
+
+        Transaction created = service.createTransaction(mapper.toModel(newTransactionDto())).block();
+
+        assertThat(created.getFees()).isEqualTo(200);
+        verify(exposureCache).put(new SenderSnapshot(3, 10000, 0));
+        verify(exposureCache).recordAccepted(created);
+    }
+
+    @Test
+    void counts_transactions_accepted_by_write_behind_in_sender_snapshot() {
+        when(client.getTransactionsBySenderIdWithPeriod(3, 30)).thenReturn(Mono.just(List.of(newTransaction())));
+        when(client.getOpenTransactionsByUser(3, TransactionStatus.NEW)).thenReturn(Mono.just(List.of()));
+        when(writeBehind.pendingOf(3)).thenReturn(new TransactionSummary(5, 50000));
+
+        Mono<Transaction> creation = service.createTransaction(mapper.toModel(newTransactionDto()));
+        ApplicationException exception = assertThrows(ApplicationException.class, creation::block);
+
+        assertThat(exception.getIssue()).isEqualTo(CLIENT_EXCEED_LIMIT_OPEN_TRANSACTIONS);
+        verify(exposureCache).put(new SenderSnapshot(3, 60000, 5));
+        verify(client, never()).createTransaction(any());
+    }
+
+    @Test
+    void does_not_go_remote_when_local_validator_rejects() {
+        Transaction transaction = mapper.toModel(newTransactionDto());
+        transaction.setSendingPrincipal(300100);
+
+        Mono<Transaction> creation = service.createTransaction(transaction);
+        ApplicationException exception = assertThrows(ApplicationException.class, creation::block);
+
+        assertThat(exception.getIssue()).isEqualTo(TRANSACTION_EXCEEDS_SENDING_LIMIT);
+        verifyNoInteractions(client);
+    }
+
+    @Test
+    void validates_against_cached_sender_snapshot() {
+        when(exposureCache.getIfPresent(3)).thenReturn(Optional.of(new SenderSnapshot(3, 495000, 0)));
+
+        Mono<Transaction> creation = service.createTransaction(mapper.toModel(newTransactionDto()));
+        ApplicationException exception = assertThrows(ApplicationException.class, creation::block);
+
+        assertThat(exception.getIssue()).isEqualTo(CLIENT_EXCEED_LIMIT_TO_SEND_IN_PERIOD);
+        verify(client, never()).getTransactionsBySenderIdWithPeriod(anyInt(), anyInt());
+        verify(client, never()).createTransaction(any());
+    }
+
+    @Test
+    void throws_transaction_not_found_when_client_returns_404() {
+        when(reader.getAsync(55)).thenReturn(CompletableFuture.failedFuture(MockHttpException.notFound()));
+
+        Mono<Transaction> lookup = service.getTransaction(55);
+        ApplicationException exception = assertThrows(ApplicationException.class, lookup::block);
+
+        assertThat(exception.getIssue()).isEqualTo(TRANSACTION_NOT_FOUND);
+        verify(client, never()).getTransaction(anyInt());
+    }
+
+    @Test
+    void reads_transaction_through_reader_cache() {
+        Transaction transaction = newTransaction();
+        when(reader.getAsync(1)).thenReturn(CompletableFuture.completedFuture(transaction));
+
+        assertThat(service.getTransaction(1).block()).isSameAs(transaction);
+    }
+
+    @Test
+    void returns_transaction_accepted_by_write_behind_before_it_is_persisted() {
+        Transaction accepted = newTransaction();
+        accepted.setStatus(TransactionStatus.ACCEPTED);
+        when(writeBehind.find(1)).thenReturn(accepted);
+
+        assertThat(service.getTransaction(1).block()).isSameAs(accepted);
+        verifyNoInteractions(reader);
+    }
+}
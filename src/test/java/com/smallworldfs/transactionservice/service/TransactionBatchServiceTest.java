@@ -0,0 +1,125 @@
+package com.smallworldfs.transactionservice.service;
+
+import static com.smallworldfs.transactionservice.Transactions.newTransactionDto;
+import static com.smallworldfs.transactionservice.transaction.error.TransactionIssue.CLIENT_EXCEED_LIMIT_OPEN_TRANSACTIONS;
+import static com.smallworldfs.transactionservice.transaction.error.TransactionIssue.CLIENT_EXCEED_LIMIT_TO_SEND_IN_PERIOD;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.smallworldfs.error.exception.ApplicationException;
+import com.smallworldfs.transactionservice.transaction.api.mapper.TransactionDtoMapper;
+import com.smallworldfs.transactionservice.transaction.business.compliance.ComplianceLimitsHolder;
+import com.smallworldfs.transactionservice.transaction.business.compliance.OpenTransactionsValidator;
+import com.smallworldfs.transactionservice.transaction.business.compliance.SenderExposureCache;
+import com.smallworldfs.transactionservice.transaction.business.compliance.SenderSnapshot;
+import com.smallworldfs.transactionservice.transaction.business.compliance.SenderTransacionsValidator;
+import com.smallworldfs.transactionservice.transaction.business.compliance.TransactionAmountValidator;
+import com.smallworldfs.transactionservice.transaction.business.compliance.TransactionFeeValidator;
+import com.smallworldfs.transactionservice.transaction.business.compliance.TransactionValidationEngine;
+import com.smallworldfs.transactionservice.transaction.business.pricing.Pricing;
+import com.smallworldfs.transactionservice.transaction.client.CreateTransactionCoalescer;
+import com.smallworldfs.transactionservice.transaction.client.TransactionDataServiceClient;
+import com.smallworldfs.transactionservice.transaction.client.TransactionReader;
+import com.smallworldfs.transactionservice.transaction.concurrent.BlockingTaskExecutors;
+import com.smallworldfs.transactionservice.transaction.concurrent.SenderLocks;
+import com.smallworldfs.transactionservice.transaction.entity.Transaction;
+import com.smallworldfs.transactionservice.transaction.properties.BatchProperties;
+import com.smallworldfs.transactionservice.transaction.properties.CoalescingProperties;
+import com.smallworldfs.transactionservice.transaction.properties.ComplianceProperties;
+import com.smallworldfs.transactionservice.transaction.properties.LimitsProperties;
+import com.smallworldfs.transactionservice.transaction.properties.LookupProperties;
+import com.smallworldfs.transactionservice.transaction.properties.PricingProperties;
+import com.smallworldfs.transactionservice.transaction.properties.ThreadingProperties;
+import com.smallworldfs.transactionservice.transaction.properties.TransactionProperties;
+import com.smallworldfs.transactionservice.transaction.service.TransactionBatchService;
+import com.smallworldfs.transactionservice.transaction.service.TransactionResult;
+import com.smallworldfs.transactionservice.transaction.service.TransactionService;
+import com.smallworldfs.transactionservice.transaction.writebehind.TransactionWriteBehind;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+
+public class TransactionBatchServiceTest {
+
+    private final TransactionDtoMapper mapper = Mappers.getMapper(TransactionDtoMapper.class);
+    private final TransactionDataServiceClient client = mock(TransactionDataServiceClient.class);
+    private final SenderExposureCache exposureCache = mock(SenderExposureCache.class);
+
+    private TransactionBatchService batchService;
+
+    @BeforeEach
+    void setUp() {
+        TransactionProperties properties = new TransactionProperties();
+        Pricing pricing = new Pricing(new PricingProperties());
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ComplianceLimitsHolder limitsHolder = new ComplianceLimitsHolder(properties, new LimitsProperties());
+        TransactionValidationEngine engine = new TransactionValidationEngine(List.of(
+                new TransactionAmountValidator(),
+                new TransactionFeeValidator(pricing),
+                new SenderTransacionsValidator(),
+                new OpenTransactionsValidator()), exposureCache, limitsHolder, meterRegistry);
+        SenderLocks senderLocks = new SenderLocks(new ComplianceProperties(), meterRegistry);
+        TransactionService transactionService = new TransactionService(
+                new CreateTransactionCoalescer(new CoalescingProperties(), client, meterRegistry),
+                mock(TransactionReader.class), pricing, engine, exposureCache, new LookupProperties(), senderLocks,
+                mock(TransactionWriteBehind.class), meterRegistry);
+        batchService = new TransactionBatchService(transactionService, engine, senderLocks, new BatchProperties(),
+                new BlockingTaskExecutors(new ThreadingProperties()));
+        when(client.createTransaction(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @AfterEach
+    void shutdown() {
+        batchService.destroy();
+    }
+
+    @Test
+    void counts_earlier_transactions_of_batch_towards_period_limit() {
+        when(exposureCache.get(3)).thenReturn(new SenderSnapshot(3, 485000, 0));
+
+        List<TransactionResult> results = batchService.createTransactions(List.of(transaction(3), transaction(3)));
+
+        assertThat(results.get(0).isSuccess()).isTrue();
+        assertThat(issueOf(results.get(1))).isEqualTo(CLIENT_EXCEED_LIMIT_TO_SEND_IN_PERIOD);
+    }
+
+    @Test
+    void counts_earlier_transactions_of_batch_towards_open_transactions_limit() {
+        when(exposureCache.get(7)).thenReturn(new SenderSnapshot(7, 0, 4));
+
+        List<TransactionResult> results = batchService.createTransactions(List.of(transaction(7), transaction(7)));
+
+        assertThat(results.get(0).isSuccess()).isTrue();
+        assertThat(issueOf(results.get(1))).isEqualTo(CLIENT_EXCEED_LIMIT_OPEN_TRANSACTIONS);
+    }
+
+    @Test
+    void returns_results_in_request_order_loading_each_sender_once() {
+        when(exposureCache.get(3)).thenReturn(new SenderSnapshot(3, 0, 0));
+        when(exposureCache.get(7)).thenReturn(new SenderSnapshot(7, 0, 0));
+
+        List<TransactionResult> results = batchService.createTransactions(
+                List.of(transaction(3), transaction(7), transaction(3), transaction(7)));
+
+        assertThat(results).extracting(result -> result.getTransaction().getSenderId()).containsExactly(3, 7, 3, 7);
+        verify(exposureCache, times(1)).get(3);
+        verify(exposureCache, times(1)).get(7);
+    }
+
+    private Transaction transaction(int senderId) {
+        Transaction transaction = mapper.toModel(newTransactionDto());
+        transaction.setSenderId(senderId);
+        return transaction;
+    }
+
+    private static Object issueOf(TransactionResult result) {
+        return ((ApplicationException) result.getError()).getIssue();
+    }
+}
@@ -0,0 +1,225 @@
+package com.smallworldfs.transactionservice.service;
+
+import static com.smallworldfs.transactionservice.Transactions.newTransactionDto;
+import static com.smallworldfs.transactionservice.transaction.error.TransactionIssue.CLIENT_EXCEED_LIMIT_OPEN_TRANSACTIONS;
+import static com.smallworldfs.transactionservice.transaction.error.TransactionIssue.CLIENT_EXCEED_LIMIT_TO_SEND_IN_PERIOD;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.smallworldfs.error.exception.ApplicationException;
+import com.smallworldfs.transactionservice.transaction.api.mapper.TransactionDtoMapper;
+import com.smallworldfs.transactionservice.transaction.business.compliance.ComplianceLimits;
+import com.smallworldfs.transactionservice.transaction.business.compliance.ComplianceLimitsHolder;
+import com.smallworldfs.transactionservice.transaction.business.compliance.OpenTransactionsValidator;
+import com.smallworldfs.transactionservice.transaction.business.compliance.ReactiveSenderSnapshotLoader;
+import com.smallworldfs.transactionservice.transaction.business.compliance.SenderExposureCache;
+import com.smallworldfs.transactionservice.transaction.business.compliance.SenderSnapshot;
+import com.smallworldfs.transactionservice.transaction.business.compliance.SenderTransacionsValidator;
+import com.smallworldfs.transactionservice.transaction.business.compliance.TransactionAmountValidator;
+import com.smallworldfs.transactionservice.transaction.business.compliance.TransactionFeeValidator;
+import com.smallworldfs.transactionservice.transaction.business.compliance.TransactionValidationEngine;
+import com.smallworldfs.transactionservice.transaction.business.pricing.Pricing;
+import com.smallworldfs.transactionservice.transaction.client.CreateTransactionCoalescer;
+import com.smallworldfs.transactionservice.transaction.client.ReactiveTransactionDataServiceClient;
+import com.smallworldfs.transactionservice.transaction.client.TransactionDataServiceClient;
+import com.smallworldfs.transactionservice.transaction.client.TransactionReader;
+import com.smallworldfs.transactionservice.transaction.concurrent.SenderLocks;
+import com.smallworldfs.transactionservice.transaction.entity.Transaction;
+import com.smallworldfs.transactionservice.transaction.properties.CoalescingProperties;
+import com.smallworldfs.transactionservice.transaction.properties.ComplianceProperties;
+import com.smallworldfs.transactionservice.transaction.properties.LimitsProperties;
+import com.smallworldfs.transactionservice.transaction.properties.LookupProperties;
+import com.smallworldfs.transactionservice.transaction.properties.PricingProperties;
+import com.smallworldfs.transactionservice.transaction.properties.TransactionProperties;
+import com.smallworldfs.transactionservice.transaction.service.ReactiveTransactionService;
+import com.smallworldfs.transactionservice.transaction.service.TransactionService;
+import com.smallworldfs.transactionservice.transaction.writebehind.TransactionWriteBehind;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import reactor.core.publisher.Mono;
+
+/**
+ * Bursts of concurrent creations against a transaction-data-service fake whose state only changes once a creation
+ * lands, which is the window in which unserialized requests of one sender all pass the limits.
+ */
+public class TransactionServiceConcurrencyTest {
+
+    private static final int BURST = 64;
+
+    private final TransactionDtoMapper mapper = Mappers.getMapper(TransactionDtoMapper.class);
+    private final TransactionDataServiceClient client = mock(TransactionDataServiceClient.class);
+    private final ReactiveTransactionDataServiceClient reactiveClient =
+            mock(ReactiveTransactionDataServiceClient.class);
+    private final SenderExposureCache exposureCache = mock(SenderExposureCache.class);
+    private final Map<Integer, SenderSnapshot> remote = new ConcurrentHashMap<>();
+    private final TransactionProperties properties = new TransactionProperties();
+    private final ExecutorService requests = Executors.newFixedThreadPool(BURST);
+
+    private ComplianceLimitsHolder limitsHolder;
+    private TransactionService service;
+    private ReactiveTransactionService reactiveService;
+
+    @BeforeEach
+    void setUp() {
+        Pricing pricing = new Pricing(new PricingProperties());
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        limitsHolder = new ComplianceLimitsHolder(properties, new LimitsProperties());
+        TransactionValidationEngine engine = new TransactionValidationEngine(List.of(
+                new TransactionAmountValidator(),
+                new TransactionFeeValidator(pricing),
+                new SenderTransacionsValidator(),
+                new OpenTransactionsValidator()), exposureCache, limitsHolder, meterRegistry);
+        SenderLocks senderLocks = new SenderLocks(new ComplianceProperties(), meterRegistry);
+        service = new TransactionService(
+                new CreateTransactionCoalescer(new CoalescingProperties(), client, meterRegistry),
+                mock(TransactionReader.class), pricing, engine, exposureCache, new LookupProperties(),
+                senderLocks, mock(TransactionWriteBehind.class), meterRegistry);
+        reactiveService = new ReactiveTransactionService(reactiveClient, mock(ReactiveSenderSnapshotLoader.class),
+                mock(TransactionReader.class), pricing, engine, exposureCache, senderLocks,
+                mock(TransactionWriteBehind.class), meterRegistry);
+        when(exposureCache.get(anyInt())).thenAnswer(invocation -> remoteSnapshot(invocation.getArgument(0)));
+        when(exposureCache.getIfPresent(anyInt()))
+                .thenAnswer(invocation -> Optional.of(remoteSnapshot(invocation.getArgument(0))));
+        when(client.createTransaction(any())).thenAnswer(invocation -> {
+            Thread.sleep(2);
+            return land(invocation.getArgument(0));
+        });
+        when(reactiveClient.createTransaction(any())).thenAnswer(invocation -> Mono.delay(Duration.ofMillis(2))
+                .map(tick -> land(invocation.getArgument(0))));
+    }
+
+    @AfterEach
+    void shutdown() {
+        requests.shutdownNow();
+    }
+
+    @Test
+    void burst_from_one_sender_respects_open_transactions_limit() throws Exception {
+        List<Future<Transaction>> results = burst(() -> service.createTransaction(transaction(3, 10000)));
+
+        assertThat(succeeded(results)).isEqualTo(properties.getMaxOpenTransactions());
+        assertThat(rejectedWith(results, CLIENT_EXCEED_LIMIT_OPEN_TRANSACTIONS))
+                .isEqualTo(BURST - properties.getMaxOpenTransactions());
+        assertThat(remote.get(3).getOpenTransactions()).isEqualTo(properties.getMaxOpenTransactions());
+    }
+
+    @Test
+    void burst_from_one_sender_respects_period_limit() throws Exception {
+        properties.setMaxOpenTransactions(BURST);
+        limitsHolder.publish(ComplianceLimits.of(properties));
+
+        List<Future<Transaction>> results = burst(() -> service.createTransaction(transaction(3, 90000)));
+
+        assertThat(succeeded(results)).isEqualTo(5);
+        assertThat(rejectedWith(results, CLIENT_EXCEED_LIMIT_TO_SEND_IN_PERIOD)).isEqualTo(BURST - 5);
+        assertThat(remote.get(3).getPeriodSum()).isLessThanOrEqualTo(properties.getMaxTransactionByPeriod()
+                .getMinorUnits());
+    }
+
+    @Test
+    void reactive_burst_from_one_sender_respects_open_transactions_limit() throws Exception {
+        List<Future<Transaction>> results =
+                burst(() -> reactiveService.createTransaction(transaction(3, 10000)).block());
+
+        assertThat(succeeded(results)).isEqualTo(properties.getMaxOpenTransactions());
+        assertThat(rejectedWith(results, CLIENT_EXCEED_LIMIT_OPEN_TRANSACTIONS))
+                .isEqualTo(BURST - properties.getMaxOpenTransactions());
+        assertThat(remote.get(3).getOpenTransactions()).isEqualTo(properties.getMaxOpenTransactions());
+    }
+
+    @Test
+    void reactive_and_blocking_creations_of_one_sender_are_serialized_together() throws Exception {
+        properties.setMaxOpenTransactions(BURST);
+        limitsHolder.publish(ComplianceLimits.of(properties));
+        AtomicInteger request = new AtomicInteger();
+
+        List<Future<Transaction>> results = burst(() -> request.getAndIncrement() % 2 == 0
+                ? service.createTransaction(transaction(3, 90000))
+                : reactiveService.createTransaction(transaction(3, 90000)).block());
+
+        assertThat(succeeded(results)).isEqualTo(5);
+        assertThat(rejectedWith(results, CLIENT_EXCEED_LIMIT_TO_SEND_IN_PERIOD)).isEqualTo(BURST - 5);
+        assertThat(remote.get(3).getPeriodSum()).isLessThanOrEqualTo(properties.getMaxTransactionByPeriod()
+                .getMinorUnits());
+    }
+
+    @Test
+    void different_senders_create_in_parallel() throws Exception {
+        CountDownLatch bothCreating = new CountDownLatch(2);
+        when(client.createTransaction(any())).thenAnswer(invocation -> {
+            bothCreating.countDown();
+            assertThat(bothCreating.await(5, TimeUnit.SECONDS)).isTrue();
+            return invocation.getArgument(0);
+        });
+
+        Future<Transaction> first = requests.submit(() -> service.createTransaction(transaction(1, 10000)));
+        Future<Transaction> second = requests.submit(() -> service.createTransaction(transaction(2, 10000)));
+
+        assertThat(first.get(10, TimeUnit.SECONDS).getSenderId()).isEqualTo(1);
+        assertThat(second.get(10, TimeUnit.SECONDS).getSenderId()).isEqualTo(2);
+    }
+
+    private List<Future<Transaction>> burst(Callable<Transaction> creation) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Transaction>> results = IntStream.range(0, BURST)
+                .mapToObj(request -> requests.submit(() -> {
+                    start.await();
+                    return creation.call();
+                }))
+                .toList();
+        start.countDown();
+        requests.shutdown();
+        assertThat(requests.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        return results;
+    }
+
+    private Transaction land(Transaction transaction) {
+        remote.compute(transaction.getSenderId(), (senderId, snapshot) ->
+                (snapshot != null ? snapshot : new SenderSnapshot(senderId, 0, 0))
+                        .withAccepted(transaction.getSendingPrincipal()));
+        return transaction;
+    }
+
+    private SenderSnapshot remoteSnapshot(int senderId) {
+        return remote.getOrDefault(senderId, new SenderSnapshot(senderId, 0, 0));
+    }
+
+    private Transaction transaction(int senderId, long sendingPrincipal) {
+        Transaction transaction = mapper.toModel(newTransactionDto());
+        transaction.setSenderId(senderId);
+        transaction.setSendingPrincipal(sendingPrincipal);
+        transaction.setPayoutPrincipal(sendingPrincipal - 200);
+        return transaction;
+    }
+
+    private static long succeeded(List<Future<Transaction>> results) {
+        return results.stream().filter(result -> result.state() == Future.State.SUCCESS).count();
+    }
+
+    private static long rejectedWith(List<Future<Transaction>> results, Object issue) {
+        return results.stream()
+                .filter(result -> result.state() == Future.State.FAILED)
+                .filter(result -> result.exceptionNow() instanceof ApplicationException exception
+                        && exception.getIssue() == issue)
+                .count();
+    }
+}
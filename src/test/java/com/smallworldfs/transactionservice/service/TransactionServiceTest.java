@@ -9,6 +9,9 @@ import static com.smallworldfs.transactionservice.transaction.error.TransactionI
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
 
@@ -16,12 +19,38 @@ import com.smallworldfs.error.exception.ApplicationException;
 import com.smallworldfs.starter.httptest.exception.MockHttpException;
 import com.smallworldfs.transactionservice.transaction.api.mapper.TransactionDtoMapper;
 import com.smallworldfs.transactionservice.transaction.api.model.TransactionDto;
+import com.smallworldfs.transactionservice.transaction.business.compliance.ComplianceLimitsHolder;
+import com.smallworldfs.transactionservice.transaction.business.compliance.SenderExposureCache;
+import com.smallworldfs.transactionservice.transaction.business.compliance.SenderLedger;
+import com.smallworldfs.transactionservice.transaction.business.compliance.SenderSnapshotLoader;
 import com.smallworldfs.transactionservice.transaction.business.compliance.TransactionAmountValidator;
+import com.smallworldfs.transactionservice.transaction.business.compliance.TransactionValidationEngine;
 import com.smallworldfs.transactionservice.transaction.business.pricing.Pricing;
+import com.smallworldfs.transactionservice.transaction.client.CreateTransactionCoalescer;
 import com.smallworldfs.transactionservice.transaction.client.TransactionDataServiceClient;
+import com.smallworldfs.transactionservice.transaction.client.TransactionReader;
+import com.smallworldfs.transactionservice.transaction.concurrent.BlockingTaskExecutors;
+import com.smallworldfs.transactionservice.transaction.concurrent.SenderLocks;
+import com.smallworldfs.transactionservice.transaction.configuration.ClockConfiguration;
 import com.smallworldfs.transactionservice.transaction.entity.Transaction;
+import com.smallworldfs.transactionservice.transaction.entity.TransactionSummary;
+import com.smallworldfs.transactionservice.transaction.properties.CacheProperties;
+import com.smallworldfs.transactionservice.transaction.properties.CoalescingProperties;
+import com.smallworldfs.transactionservice.transaction.properties.ComplianceProperties;
+import com.smallworldfs.transactionservice.transaction.properties.LedgerProperties;
+import com.smallworldfs.transactionservice.transaction.properties.LimitsProperties;
+import com.smallworldfs.transactionservice.transaction.properties.LookupProperties;
+import com.smallworldfs.transactionservice.transaction.properties.PricingProperties;
+import com.smallworldfs.transactionservice.transaction.properties.ThreadingProperties;
 import com.smallworldfs.transactionservice.transaction.properties.TransactionProperties;
+import com.smallworldfs.transactionservice.transaction.properties.WriteBehindProperties;
+import com.smallworldfs.transactionservice.transaction.service.TransactionResult;
 import com.smallworldfs.transactionservice.transaction.service.TransactionService;
+import com.smallworldfs.transactionservice.transaction.writebehind.TransactionWriteBehind;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.mapstruct.factory.Mappers;
@@ -31,7 +60,13 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 
 
 // @ExtendWith(MockitoExtension.class)
-@SpringBootTest(classes = {TransactionService.class, Pricing.class, TransactionProperties.class})
+@SpringBootTest(classes = {TransactionService.class, TransactionReader.class, TransactionValidationEngine.class,
+        SenderExposureCache.class, SenderSnapshotLoader.class, Pricing.class, PricingProperties.class,
+        BlockingTaskExecutors.class, SenderLocks.class, SenderLedger.class, ClockConfiguration.class,
+        TransactionProperties.class, ComplianceProperties.class, CacheProperties.class, LookupProperties.class,
+        LedgerProperties.class, ThreadingProperties.class, TransactionWriteBehind.class, WriteBehindProperties.class,
+        CreateTransactionCoalescer.class, CoalescingProperties.class, ComplianceLimitsHolder.class,
+        LimitsProperties.class, SimpleMeterRegistry.class})
 public class TransactionServiceTest {
 
     private final TransactionDtoMapper mapper = Mappers.getMapper(TransactionDtoMapper.class);
@@ -46,6 +81,11 @@ public class TransactionServiceTest {
     @Autowired
     private TransactionService service;
 
+    @BeforeEach
+    void setUp() {
+        when(client.summarizeTransactionsBySenderIdWithPeriod(anyInt(), anyInt())).thenReturn(TransactionSummary.EMPTY);
+        when(client.summarizeOpenTransactionsByUser(anyInt(), any())).thenReturn(TransactionSummary.EMPTY);
+    }
 
     @Nested
     class GetTransaction {
@@ -79,16 +119,43 @@ public class TransactionServiceTest {
         }
     }
 
+    @Nested
+    class GetTransactions {
+
+        @Test
+        void returns_one_result_per_id_reporting_missing_ones() {
+            when(client.getTransaction(1)).thenReturn(newTransaction());
+            when(client.getTransaction(55)).thenThrow(MockHttpException.notFound());
+
+            List<TransactionResult> results = service.getTransactions(List.of(1, 55, 1));
+
+            assertThat(results).extracting(TransactionResult::getTransaction)
+                    .containsExactly(newTransaction(), null, newTransaction());
+            assertThat(results.get(1).getError()).hasMessage("Transaction with id 55 could be not found.");
+        }
+
+        @Test
+        void throws_error_when_too_many_ids_are_requested() {
+            List<Integer> ids = IntStream.rangeClosed(1, 501).boxed().toList();
+
+            ApplicationException exception =
+                    assertThrows(ApplicationException.class, () -> service.getTransactions(ids));
+
+            assertThat(exception).hasMessage("Cannot request more than 500 transactions at once")
+                    .returns(REQUEST_ERROR, e -> e.getIssue().getType());
+        }
+    }
+
     @Nested
     class CreateTransaction {
 
         @Test
         void throw_error_when_compliance_is_not_accepted() {
             TransactionDto transactionDto = newTransactionDto();
-            transactionDto.setPayoutPrincipal(3005.0);
+            transactionDto.setPayoutPrincipal(300500L);
             Transaction transaction = mapper.toModel(transactionDto);
             doThrow(TRANSACTION_EXCEEDS_SENDING_LIMIT.withParameters(3005.0).asException()).when(validator)
-                    .validate(transaction);
+                    .validate(eq(transaction), any());
 
             ApplicationException exception =
                     assertThrows(ApplicationException.class, () -> service.createTransaction(transaction));
@@ -0,0 +1,99 @@
+package com.smallworldfs.transactionservice.transaction.client;
+
+import static com.smallworldfs.transactionservice.Transactions.newTransaction;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.smallworldfs.transactionservice.transaction.entity.Transaction;
+import com.smallworldfs.transactionservice.transaction.entity.TransactionSummary;
+import com.smallworldfs.transactionservice.transaction.properties.WireFormatProperties;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import feign.codec.Decoder;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+class CborWireFormatTest {
+
+    private static final Type TRANSACTIONS = new TypeReference<List<Transaction>>() {
+    }.getType();
+
+    private final WireFormatProperties properties = new WireFormatProperties();
+    private final ObjectMapper cbor = new Jackson2ObjectMapperBuilder().factory(new CBORFactory()).build();
+    private final Decoder json = (response, type) -> "json";
+
+    @Test
+    void accepts_cbor_before_json() {
+        RequestTemplate template = new RequestTemplate().header("Accept", "application/json");
+
+        wireFormat().apply(template);
+
+        assertThat(template.headers().get("Accept")).containsExactly("application/cbor, application/json;q=0.9");
+    }
+
+    @Test
+    void decodes_cbor_transactions() throws Exception {
+        List<Transaction> transactions = List.of(newTransaction(), newTransaction());
+
+        Object decoded = wireFormat().enrich(json).decode(response("application/cbor",
+                cbor.writeValueAsBytes(transactions)), TRANSACTIONS);
+
+        assertThat(decoded).isEqualTo(transactions);
+    }
+
+    @Test
+    void falls_back_to_json_responses() throws Exception {
+        Object decoded = wireFormat().enrich(json).decode(response("application/json",
+                "[]".getBytes(StandardCharsets.UTF_8)), TRANSACTIONS);
+
+        assertThat(decoded).isEqualTo("json");
+    }
+
+    @Test
+    void summarizes_cbor_history() throws Exception {
+        byte[] body = cbor.writeValueAsBytes(List.of(newTransaction(), newTransaction(), newTransaction()));
+        Decoder decoder = new TransactionSummaryDecoder(wireFormat().enrich(json));
+
+        Object summary = decoder.decode(response("application/cbor", body), TransactionSummary.class);
+
+        assertThat(summary).isEqualTo(new TransactionSummary(3, 3 * newTransaction().getSendingPrincipal()));
+    }
+
+    @Test
+    void sends_cbor_bodies_only_when_enabled() throws Exception {
+        RequestTemplate template = new RequestTemplate();
+        wireFormat().enrich((body, type, request) -> request.body("json")).encode(newTransaction(),
+                Transaction.class, template);
+        assertThat(new String(template.body(), StandardCharsets.UTF_8)).isEqualTo("json");
+
+        properties.setCborRequests(true);
+        wireFormat().enrich((body, type, request) -> request.body("json")).encode(newTransaction(),
+                Transaction.class, template);
+
+        assertThat(template.headers().get("Content-Type")).containsExactly("application/cbor");
+        assertThat(cbor.readValue(template.body(), Transaction.class)).isEqualTo(newTransaction());
+    }
+
+    private CborWireFormat wireFormat() {
+        return new CborWireFormat(properties, new Jackson2ObjectMapperBuilder());
+    }
+
+    private static Response response(String contentType, byte[] body) {
+        Request request = Request.create(Request.HttpMethod.GET, "http://localhost/transactions/senderId=3&days=30",
+                Map.of(), null, StandardCharsets.UTF_8, null);
+        return Response.builder()
+                .status(200)
+                .request(request)
+                .headers(Map.<String, Collection<String>>of("Content-Type", List.of(contentType)))
+                .body(body)
+                .build();
+    }
+}
@@ -0,0 +1,126 @@
+package com.smallworldfs.transactionservice.transaction.client;
+
+import static com.smallworldfs.transactionservice.Transactions.newTransactionWithoutId;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.smallworldfs.starter.http.error.exception.HttpException;
+import com.smallworldfs.transactionservice.transaction.entity.Transaction;
+import com.smallworldfs.transactionservice.transaction.properties.CoalescingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class CreateTransactionCoalescerTest {
+
+    private final TransactionDataServiceClient client = mock(TransactionDataServiceClient.class);
+    private final CoalescingProperties properties = new CoalescingProperties();
+    private final CreateTransactionCoalescer coalescer =
+            new CreateTransactionCoalescer(properties, client, new SimpleMeterRegistry());
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void shutdown() {
+        callers.shutdownNow();
+    }
+
+    @Test
+    void creates_directly_when_disabled() {
+        when(client.createTransaction(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        coalescer.createTransaction(newTransactionWithoutId());
+
+        verify(client, never()).createTransactions(anyList());
+    }
+
+    @Test
+    void sends_concurrent_creations_as_one_batch_and_returns_each_its_own() throws Exception {
+        enable(3, Duration.ofSeconds(10));
+        when(client.createTransactions(anyList())).thenAnswer(invocation -> {
+            List<Transaction> transactions = invocation.getArgument(0);
+            transactions.forEach(transaction -> transaction.setTransactionId(transaction.getSenderId() * 10));
+            return transactions;
+        });
+
+        List<Future<Transaction>> results = IntStream.rangeClosed(1, 3)
+                .mapToObj(senderId -> callers.submit(() -> coalescer.createTransaction(transaction(senderId))))
+                .toList();
+
+        for (int index = 0; index < results.size(); index++) {
+            assertThat(results.get(index).get(5, TimeUnit.SECONDS).getTransactionId()).isEqualTo((index + 1) * 10);
+        }
+        verify(client, times(1)).createTransactions(argThat(transactions -> transactions.size() == 3));
+    }
+
+    @Test
+    void sends_lone_creation_once_max_wait_elapses() {
+        enable(3, Duration.ofMillis(5));
+        when(client.createTransaction(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Transaction created = coalescer.createTransaction(transaction(1));
+
+        assertThat(created.getSenderId()).isEqualTo(1);
+        verify(client, never()).createTransactions(anyList());
+    }
+
+    @Test
+    void sends_rejected_batch_one_by_one_so_only_invalid_creation_fails() throws Exception {
+        enable(2, Duration.ofSeconds(10));
+        HttpException.BadRequest badRequest = mock(HttpException.BadRequest.class);
+        when(client.createTransactions(anyList())).thenThrow(badRequest);
+        when(client.createTransaction(any())).thenAnswer(invocation -> {
+            Transaction transaction = invocation.getArgument(0);
+            if (transaction.getSenderId() == 9999) {
+                throw badRequest;
+            }
+            return transaction;
+        });
+
+        Future<Transaction> valid = callers.submit(() -> coalescer.createTransaction(transaction(1)));
+        Future<Transaction> invalid = callers.submit(() -> coalescer.createTransaction(transaction(9999)));
+
+        assertThat(valid.get(5, TimeUnit.SECONDS).getSenderId()).isEqualTo(1);
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> invalid.get(5, TimeUnit.SECONDS));
+        assertThat(failure.getCause()).isSameAs(badRequest);
+    }
+
+    @Test
+    void fails_every_caller_of_a_batch_whose_leader_dies() {
+        enable(2, Duration.ofSeconds(10));
+        when(client.createTransactions(anyList())).thenThrow(new AssertionError("leader died"));
+
+        Future<Transaction> first = callers.submit(() -> coalescer.createTransaction(transaction(1)));
+        Future<Transaction> second = callers.submit(() -> coalescer.createTransaction(transaction(2)));
+
+        assertThrows(ExecutionException.class, () -> first.get(5, TimeUnit.SECONDS));
+        assertThrows(ExecutionException.class, () -> second.get(5, TimeUnit.SECONDS));
+    }
+
+    private void enable(int maxBatch, Duration maxWait) {
+        properties.setEnabled(true);
+        properties.setMaxBatch(maxBatch);
+        properties.setMaxWait(maxWait);
+    }
+
+    private static Transaction transaction(int senderId) {
+        Transaction transaction = newTransactionWithoutId();
+        transaction.setSenderId(senderId);
+        return transaction;
+    }
+}
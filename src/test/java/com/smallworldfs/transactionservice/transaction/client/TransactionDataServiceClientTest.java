@@ -9,6 +9,7 @@ import com.smallworldfs.starter.http.error.exception.HttpException;
 import com.smallworldfs.starter.httptest.HttpClientTest;
 import com.smallworldfs.transactionservice.transaction.entity.Transaction;
 import com.smallworldfs.transactionservice.transaction.entity.TransactionStatus;
+import com.smallworldfs.transactionservice.transaction.entity.TransactionSummary;
 import java.util.List;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -53,6 +54,25 @@ class TransactionDataServiceClientTest {
         }
     }
 
+    @Nested
+    class CreateTransactions {
+
+        @Test
+        void throws_error_when_server_rejects_batch() {
+            Transaction invalid = newTransactionWithoutId();
+            invalid.setSenderId(9999);
+            assertThrows(HttpException.BadRequest.class,
+                    () -> client.createTransactions(List.of(newTransactionWithoutId(), invalid)));
+        }
+
+        @Test
+        void returns_transactions_in_request_order() {
+            List<Transaction> transactions =
+                    client.createTransactions(List.of(newTransactionWithoutId(), newTransactionWithoutId()));
+            assertEquals(List.of(newTransaction(), newTransaction()), transactions);
+        }
+    }
+
     @Nested
     class GetOpenTransactionsByUser {
 
@@ -73,6 +93,11 @@ class TransactionDataServiceClientTest {
             List<Transaction> transactions = client.getOpenTransactionsByUser(3, TransactionStatus.NEW);
             assertEquals(3, transactions.size());
         }
+
+        @Test
+        void summarizes_open_transactions() {
+            assertEquals(3, client.summarizeOpenTransactionsByUser(3, TransactionStatus.NEW).getCount());
+        }
     }
 
     @Nested
@@ -96,5 +121,15 @@ class TransactionDataServiceClientTest {
             assertEquals(3, transactions.size());
         }
 
+        @Test
+        void summarizes_period_transactions_without_building_them() {
+            assertEquals(new TransactionSummary(3, 30000), client.summarizeTransactionsBySenderIdWithPeriod(3, 30));
+        }
+
+        @Test
+        void summarizes_empty_period() {
+            assertEquals(TransactionSummary.EMPTY, client.summarizeTransactionsBySenderIdWithPeriod(10, 30));
+        }
+
     }
 }
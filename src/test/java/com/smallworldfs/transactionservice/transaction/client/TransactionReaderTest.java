@@ -0,0 +1,98 @@
+package com.smallworldfs.transactionservice.transaction.client;
+
+import static com.smallworldfs.transactionservice.Transactions.newTransaction;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.smallworldfs.starter.http.error.exception.HttpException;
+import com.smallworldfs.starter.httptest.exception.MockHttpException;
+import com.smallworldfs.transactionservice.transaction.concurrent.BlockingTaskExecutors;
+import com.smallworldfs.transactionservice.transaction.entity.Transaction;
+import com.smallworldfs.transactionservice.transaction.entity.TransactionStatus;
+import com.smallworldfs.transactionservice.transaction.properties.CacheProperties;
+import com.smallworldfs.transactionservice.transaction.properties.LookupProperties;
+import com.smallworldfs.transactionservice.transaction.properties.ThreadingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class TransactionReaderTest {
+
+    private final TransactionDataServiceClient client = mock(TransactionDataServiceClient.class);
+    private final TransactionReader reader =
+            new TransactionReader(client, new LookupProperties(), new CacheProperties(), new SimpleMeterRegistry(),
+                    new BlockingTaskExecutors(new ThreadingProperties()));
+
+    @AfterEach
+    void shutdown() {
+        reader.destroy();
+    }
+
+    @Test
+    void merges_concurrent_reads_of_same_transaction() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(client.getTransaction(1)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return newTransaction();
+        });
+
+        CompletableFuture<Transaction> first = reader.getAsync(1);
+        CompletableFuture<Transaction> second = reader.getAsync(1);
+        release.countDown();
+
+        assertThat(first).isSameAs(second);
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(newTransaction());
+        verify(client, times(1)).getTransaction(1);
+    }
+
+    @Test
+    void serves_repeated_reads_from_cache() {
+        when(client.getTransaction(1)).thenReturn(newTransaction());
+
+        reader.get(1);
+        Transaction transaction = reader.get(1);
+
+        assertThat(transaction).isEqualTo(newTransaction());
+        verify(client, times(1)).getTransaction(1);
+    }
+
+    @Test
+    void serves_created_transaction_from_cache() {
+        Transaction created = newTransaction();
+        created.setStatus(TransactionStatus.PAY_OUT);
+
+        reader.put(created);
+
+        assertThat(reader.get(1)).isSameAs(created);
+        verify(client, times(0)).getTransaction(1);
+    }
+
+    @Test
+    void caches_not_found_transaction() {
+        when(client.getTransaction(55)).thenThrow(MockHttpException.notFound());
+
+        assertThrows(HttpException.NotFound.class, () -> reader.get(55));
+        assertThrows(HttpException.NotFound.class, () -> reader.get(55));
+        assertThat(reader.getAsync(55)).isCompletedExceptionally();
+
+        verify(client, times(1)).getTransaction(55);
+    }
+
+    @Test
+    void reads_again_after_eviction() {
+        when(client.getTransaction(1)).thenReturn(newTransaction());
+
+        reader.get(1);
+        reader.evict(1);
+        reader.get(1);
+
+        verify(client, times(2)).getTransaction(1);
+    }
+}
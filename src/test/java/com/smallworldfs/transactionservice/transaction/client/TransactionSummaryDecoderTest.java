@@ -0,0 +1,74 @@
+package com.smallworldfs.transactionservice.transaction.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.smallworldfs.transactionservice.transaction.entity.TransactionSummary;
+import feign.Request;
+import feign.Response;
+import feign.codec.DecodeException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class TransactionSummaryDecoderTest {
+
+    private final TransactionSummaryDecoder decoder = new TransactionSummaryDecoder((response, type) -> "delegated");
+
+    @Test
+    void sums_sending_principal_in_minor_units() throws Exception {
+        String body = """
+                [{"transactionId": 1, "sendingPrincipal": 100.1, "fees": 2.0, "status": "NEW"},
+                 {"sendingPrincipal": 0.05, "nested": {"sendingPrincipal": 999}, "tags": [1, 2]},
+                 {"sendingPrincipal": 7},
+                 {"sendingPrincipal": "12.30"},
+                 {"sendingPrincipal": 1.2E1},
+                 {"sendingPrincipal": null}]
+                """;
+
+        assertThat(decode(body)).isEqualTo(new TransactionSummary(6, 10010 + 5 + 700 + 1230 + 1200));
+    }
+
+    @Test
+    void summarizes_empty_history() throws Exception {
+        assertThat(decode("[]")).isEqualTo(TransactionSummary.EMPTY);
+        assertThat(decode("")).isEqualTo(TransactionSummary.EMPTY);
+    }
+
+    @Test
+    void rounds_amounts_finer_than_a_cent_half_even() throws Exception {
+        String body = """
+                [{"sendingPrincipal": 100.09999999999999},
+                 {"sendingPrincipal": 0.005},
+                 {"sendingPrincipal": "0.015"},
+                 {"sendingPrincipal": 0.001}]
+                """;
+
+        assertThat(decode(body)).isEqualTo(new TransactionSummary(4, 10010 + 0 + 2 + 0));
+    }
+
+    @Test
+    void rejects_response_that_is_not_a_list() {
+        assertThrows(DecodeException.class, () -> decode("{\"sendingPrincipal\": 1}"));
+    }
+
+    @Test
+    void delegates_other_types() throws Exception {
+        assertThat(decoder.decode(response("[]"), String.class)).isEqualTo("delegated");
+    }
+
+    private Object decode(String body) throws Exception {
+        return decoder.decode(response(body), TransactionSummary.class);
+    }
+
+    private static Response response(String body) {
+        Request request = Request.create(Request.HttpMethod.GET, "http://localhost/transactions/senderId=3&days=30",
+                Map.of(), null, StandardCharsets.UTF_8, null);
+        return Response.builder()
+                .status(200)
+                .request(request)
+                .headers(Map.of())
+                .body(body, StandardCharsets.UTF_8)
+                .build();
+    }
+}
@@ -0,0 +1,58 @@
+package com.smallworldfs.transactionservice.transaction.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.smallworldfs.transactionservice.transaction.properties.ThreadingProperties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class BlockingTaskExecutorsTest {
+
+    @Test
+    void runs_tasks_on_platform_threads_by_default() throws Exception {
+        ExecutorService executor = new BlockingTaskExecutors(new ThreadingProperties()).newExecutor("test", 2, 10);
+
+        Thread thread = executor.submit(Thread::currentThread).get();
+
+        assertThat(thread.isVirtual()).isFalse();
+        assertThat(thread.getName()).startsWith("test-");
+        executor.shutdownNow();
+    }
+
+    @Test
+    void runs_tasks_on_virtual_threads_when_enabled() throws Exception {
+        ThreadingProperties properties = new ThreadingProperties();
+        properties.setVirtualThreads(true);
+        ExecutorService executor = new BlockingTaskExecutors(properties).newExecutor("test", 2, 10);
+
+        Thread thread = executor.submit(Thread::currentThread).get();
+
+        assertThat(thread.isVirtual()).isTrue();
+        assertThat(thread.getName()).startsWith("test-");
+        executor.shutdownNow();
+    }
+
+    @Test
+    void rejects_tasks_when_rejecting_pool_is_full() {
+        ExecutorService executor = new BlockingTaskExecutors(new ThreadingProperties())
+                .newRejectingExecutor("test", 1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        Runnable blocked = () -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        executor.execute(blocked);
+        executor.execute(blocked);
+
+        assertThatThrownBy(() -> executor.execute(blocked)).isInstanceOf(RejectedExecutionException.class);
+        release.countDown();
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,277 @@
+package com.smallworldfs.transactionservice.writebehind;
+
+import static com.smallworldfs.transactionservice.Transactions.newTransactionWithoutId;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.smallworldfs.starter.http.error.exception.HttpException;
+import com.smallworldfs.transactionservice.transaction.client.TransactionDataServiceClient;
+import com.smallworldfs.transactionservice.transaction.client.TransactionReader;
+import com.smallworldfs.transactionservice.transaction.entity.Transaction;
+import com.smallworldfs.transactionservice.transaction.entity.TransactionStatus;
+import com.smallworldfs.transactionservice.transaction.entity.TransactionSummary;
+import com.smallworldfs.transactionservice.transaction.properties.CoalescingProperties;
+import com.smallworldfs.transactionservice.transaction.properties.WriteBehindProperties;
+import com.smallworldfs.transactionservice.transaction.writebehind.TransactionWriteBehind;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InOrder;
+import org.springframework.util.unit.DataSize;
+
+public class TransactionWriteBehindTest {
+
+    private final TransactionDataServiceClient client = mock(TransactionDataServiceClient.class);
+    private final TransactionReader reader = mock(TransactionReader.class);
+    private final WriteBehindProperties properties = new WriteBehindProperties();
+    private final CoalescingProperties coalescingProperties = new CoalescingProperties();
+
+    @TempDir
+    Path directory;
+
+    private TransactionWriteBehind writeBehind;
+
+    @BeforeEach
+    void setUp() {
+        properties.setEnabled(true);
+        properties.setDirectory(directory);
+        properties.setFirstId(1_000_000_000);
+        properties.setLastId(1_000_999_999);
+        properties.setLogCapacity(DataSize.ofKilobytes(64));
+        properties.setRetryBackoff(Duration.ofMillis(10));
+        when(client.createTransaction(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(client.createTransactions(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(client.getTransaction(anyInt())).thenThrow(mock(HttpException.NotFound.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (writeBehind != null) {
+            writeBehind.destroy();
+        }
+    }
+
+    @Test
+    void accepts_with_local_id_and_persists_in_order() {
+        writeBehind = open();
+
+        Transaction first = writeBehind.accept(newTransactionWithoutId());
+        Transaction second = writeBehind.accept(newTransactionWithoutId());
+
+        assertThat(first.getStatus()).isEqualTo(TransactionStatus.ACCEPTED);
+        assertThat(first.getTransactionId()).isEqualTo(properties.getFirstId());
+        assertThat(second.getTransactionId()).isEqualTo(properties.getFirstId() + 1);
+        InOrder order = inOrder(client);
+        order.verify(client, timeout(5000)).createTransaction(withId(first.getTransactionId()));
+        order.verify(client, timeout(5000)).createTransaction(withId(second.getTransactionId()));
+        verify(reader, timeout(5000).times(2)).put(any());
+    }
+
+    @Test
+    void refuses_to_start_without_an_id_range() {
+        properties.setFirstId(null);
+
+        assertThatThrownBy(this::open).isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("first-id and last-id must be set");
+    }
+
+    @Test
+    void accepts_concurrent_creations_with_distinct_ids() throws Exception {
+        writeBehind = open();
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Transaction>> accepted = IntStream.range(0, 200)
+                    .mapToObj(index -> callers.submit(() -> writeBehind.accept(transaction(index % 8))))
+                    .toList();
+            Set<Integer> ids = new HashSet<>();
+            for (Future<Transaction> transaction : accepted) {
+                ids.add(transaction.get(5, TimeUnit.SECONDS).getTransactionId());
+            }
+
+            assertThat(ids).hasSize(200);
+            verify(reader, timeout(5000).times(200)).put(any());
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    void answers_for_pending_transactions() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(client.createTransaction(any())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return invocation.getArgument(0);
+        });
+        writeBehind = open();
+
+        Transaction accepted = writeBehind.accept(newTransactionWithoutId());
+
+        assertThat(writeBehind.find(accepted.getTransactionId()).getStatus()).isEqualTo(TransactionStatus.ACCEPTED);
+        assertThat(writeBehind.pendingOf(accepted.getSenderId())).isEqualTo(new TransactionSummary(1, 10000L));
+        release.countDown();
+        verify(reader, timeout(5000)).put(any());
+    }
+
+    @Test
+    void marks_transactions_refused_by_data_service_as_rejected() {
+        when(client.createTransaction(any())).thenThrow(mock(HttpException.BadRequest.class));
+        writeBehind = open();
+
+        Transaction accepted = writeBehind.accept(newTransactionWithoutId());
+        writeBehind.accept(newTransactionWithoutId());
+
+        verify(client, timeout(5000).times(2)).createTransaction(any());
+        assertThat(writeBehind.find(accepted.getTransactionId()).getStatus()).isEqualTo(TransactionStatus.REJECTED);
+    }
+
+    @Test
+    void sends_queued_transactions_of_a_sender_in_batches() throws Exception {
+        coalescingProperties.setEnabled(true);
+        CountDownLatch release = new CountDownLatch(1);
+        when(client.createTransaction(any())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return invocation.getArgument(0);
+        });
+        writeBehind = open();
+
+        Transaction first = writeBehind.accept(newTransactionWithoutId());
+        verify(client, timeout(5000)).createTransaction(withId(first.getTransactionId()));
+        Transaction second = writeBehind.accept(newTransactionWithoutId());
+        Transaction third = writeBehind.accept(newTransactionWithoutId());
+        release.countDown();
+
+        verify(client, timeout(5000)).createTransactions(withIds(second.getTransactionId(), third.getTransactionId()));
+        verify(reader, timeout(5000).times(3)).put(any());
+        verify(client, times(1)).createTransaction(any());
+    }
+
+    @Test
+    void sends_transactions_one_by_one_when_batch_is_refused() throws Exception {
+        coalescingProperties.setEnabled(true);
+        CountDownLatch release = new CountDownLatch(1);
+        when(client.createTransactions(anyList())).thenThrow(mock(HttpException.BadRequest.class));
+        when(client.createTransaction(any())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return invocation.getArgument(0);
+        });
+        writeBehind = open();
+
+        Transaction first = writeBehind.accept(newTransactionWithoutId());
+        verify(client, timeout(5000)).createTransaction(withId(first.getTransactionId()));
+        Transaction second = writeBehind.accept(newTransactionWithoutId());
+        Transaction third = writeBehind.accept(newTransactionWithoutId());
+        release.countDown();
+
+        InOrder order = inOrder(client);
+        order.verify(client, timeout(5000)).createTransactions(anyList());
+        order.verify(client, timeout(5000)).createTransaction(withId(second.getTransactionId()));
+        order.verify(client, timeout(5000)).createTransaction(withId(third.getTransactionId()));
+        verify(reader, timeout(5000).times(3)).put(any());
+    }
+
+    @Test
+    void sends_transactions_one_by_one_when_coalescing_is_disabled() {
+        writeBehind = open();
+
+        writeBehind.accept(newTransactionWithoutId());
+        writeBehind.accept(newTransactionWithoutId());
+
+        verify(reader, timeout(5000).times(2)).put(any());
+        verify(client, never()).createTransactions(anyList());
+    }
+
+    @Test
+    void resends_pending_transactions_after_restart() {
+        when(client.createTransaction(any())).thenThrow(new IllegalStateException("unavailable"));
+        writeBehind = open();
+        Transaction accepted = writeBehind.accept(newTransactionWithoutId());
+        verify(client, timeout(5000)).createTransaction(any());
+        writeBehind.destroy();
+
+        when(client.createTransaction(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        writeBehind = open();
+
+        verify(reader, timeout(5000)).put(withId(accepted.getTransactionId()));
+        assertThat(writeBehind.accept(newTransactionWithoutId()).getTransactionId())
+                .isEqualTo(accepted.getTransactionId() + 1);
+    }
+
+    @Test
+    void does_not_send_again_transaction_created_by_a_failed_attempt() {
+        when(client.createTransaction(any())).thenThrow(new IllegalStateException("read timed out"));
+        doAnswer(invocation -> newTransaction(invocation.getArgument(0))).when(client).getTransaction(anyInt());
+        writeBehind = open();
+
+        Transaction accepted = writeBehind.accept(newTransactionWithoutId());
+
+        verify(reader, timeout(5000)).put(withId(accepted.getTransactionId()));
+        verify(client, times(1)).createTransaction(any());
+    }
+
+    @Test
+    void gives_up_transaction_after_max_attempts_and_writes_it_to_dead_letters() throws Exception {
+        properties.setMaxAttempts(2);
+        when(client.createTransaction(any())).thenThrow(new IllegalStateException("unavailable"));
+        writeBehind = open();
+
+        Transaction accepted = writeBehind.accept(newTransactionWithoutId());
+
+        verify(client, timeout(5000).times(2)).createTransaction(any());
+        writeBehind.accept(newTransactionWithoutId());
+        verify(client, timeout(5000).times(3)).createTransaction(any());
+        assertThat(writeBehind.find(accepted.getTransactionId()).getStatus()).isEqualTo(TransactionStatus.FAILED);
+        assertThat(Files.readString(directory.resolve("dead-letters.log")))
+                .contains("transactionId=" + accepted.getTransactionId());
+    }
+
+    private TransactionWriteBehind open() {
+        return new TransactionWriteBehind(properties, coalescingProperties, client, reader, new SimpleMeterRegistry());
+    }
+
+    private static Transaction transaction(int senderId) {
+        Transaction transaction = newTransactionWithoutId();
+        transaction.setSenderId(senderId);
+        return transaction;
+    }
+
+    private static Transaction newTransaction(int id) {
+        Transaction transaction = newTransactionWithoutId();
+        transaction.setTransactionId(id);
+        return transaction;
+    }
+
+    private static Transaction withId(int id) {
+        return argThat(transaction -> transaction.getTransactionId() == id);
+    }
+
+    private static List<Transaction> withIds(Integer... ids) {
+        return argThat(transactions -> transactions.stream().map(Transaction::getTransactionId).toList()
+                .equals(List.of(ids)));
+    }
+}